@@ -0,0 +1,25 @@
+package de.tum.devops.common.datasource;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Provides {@code readOnlyTransactionTemplate} for programmatic read-only transactions, which
+ * {@link ReadReplicaConfig} routes to the read replica when one is configured.
+ * <p>
+ * The template is not a default candidate, so the auto-configured {@code transactionTemplate} stays the one
+ * injected by type; services ask for it with {@code @Qualifier("readOnlyTransactionTemplate")}.
+ */
+@AutoConfiguration(after = TransactionAutoConfiguration.class)
+public class ReadOnlyTransactionConfig {
+
+    @Bean(defaultCandidate = false)
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
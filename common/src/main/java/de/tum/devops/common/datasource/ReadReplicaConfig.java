@@ -0,0 +1,73 @@
+package de.tum.devops.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Routes {@code @Transactional(readOnly = true)} work to a read replica, see {@link ReadReplicaRoutingDataSource}.
+ * <p>
+ * Replaces the auto-configured datasource with two Hikari pools, {@code primary} from {@code spring.datasource}
+ * (with the {@code spring.datasource.hikari} settings bound as Spring Boot does) and {@code replica} from
+ * {@code app.db.replica}. Both publish the {@code hikaricp.connections.*} meters
+ * tagged with their pool name.
+ * <p>
+ * An auto-configuration of the common module, so every service on it picks it up; it runs before
+ * {@link DataSourceAutoConfiguration}, whose pool then backs off.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.db.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(ReplicaDataSourceProperties properties) {
+        return new ReplicaLagGuard(properties.getStickyWindow());
+    }
+
+    /**
+     * The primary pool, only injected into the routing datasource
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public ReadReplicaRoutingDataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                   DataSourceProperties primaryProperties,
+                                                   ReplicaDataSourceProperties replicaProperties,
+                                                   ReplicaLagGuard replicaLagGuard,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername());
+        replica.setPassword(replicaProperties.getPassword());
+        replica.setDriverClassName(primaryProperties.determineDriverClassName());
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+
+        if (registry != null) {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return new ReadReplicaRoutingDataSource(primary, replica, replicaLagGuard, registry);
+    }
+}
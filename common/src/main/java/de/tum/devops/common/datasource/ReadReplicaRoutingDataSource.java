@@ -0,0 +1,75 @@
+package de.tum.devops.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else to the primary.
+ * <p>
+ * Connections are fetched lazily, after the transaction manager has marked them read-only, so the pool is
+ * picked per transaction. Read-only transactions fall back to the primary while {@link ReplicaLagGuard}
+ * reports a recent write. The choice is counted as {@code db.replica.reads} tagged {@code pool}.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                        ReplicaLagGuard guard, MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        setReadOnlyDataSource(new ReadOnlyDataSource(primary, replica, guard, meterRegistry));
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    /**
+     * Target for read-only connections, the replica unless the guard asks for the primary
+     */
+    private static final class ReadOnlyDataSource extends DelegatingDataSource {
+
+        private final HikariDataSource primary;
+        private final ReplicaLagGuard guard;
+        private final Counter replicaReads;
+        private final Counter primaryReads;
+
+        private ReadOnlyDataSource(HikariDataSource primary, HikariDataSource replica,
+                                   ReplicaLagGuard guard, MeterRegistry meterRegistry) {
+            super(replica);
+            this.primary = primary;
+            this.guard = guard;
+            this.replicaReads = meterRegistry == null ? null : meterRegistry.counter("db.replica.reads", "pool", replica.getPoolName());
+            this.primaryReads = meterRegistry == null ? null : meterRegistry.counter("db.replica.reads", "pool", primary.getPoolName());
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (guard.primaryRequired()) {
+                increment(primaryReads);
+                Connection connection = primary.getConnection();
+                connection.setReadOnly(true);
+                return connection;
+            }
+            increment(replicaReads);
+            return super.getConnection();
+        }
+
+        private static void increment(Counter counter) {
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package de.tum.devops.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Keeps reads on the primary after a write, so a caller never reads its own write from a replica that has
+ * not replayed it yet.
+ * <p>
+ * Registered as a {@link TransactionExecutionListener}: every committed read-write transaction marks the
+ * current HTTP request and, for {@code stickyWindow}, the authenticated user. Read-only transactions for
+ * either are then served by the primary.
+ * <p>
+ * Writes are attributed only through the request and the {@code SecurityContext} of the writing thread.
+ * Writes on threads without them are not recorded, such as gRPC callbacks storing a streamed AI reply or
+ * {@code @Async} scoring. A read right after such a write may still go to a replica that has not replayed
+ * it yet. Reads that must see those writes belong in a read-write transaction.
+ */
+public class ReplicaLagGuard implements TransactionExecutionListener {
+
+    private static final String WROTE_ATTRIBUTE = ReplicaLagGuard.class.getName() + ".WROTE";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaLagGuard(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            recordWrite();
+        }
+    }
+
+    /**
+     * Whether reads of the current request or user must go to the primary
+     */
+    public boolean primaryRequired() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    void recordWrite() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,55 @@
+package de.tum.devops.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the verified-token cache ({@code app.jwt.decoder-cache}), see
+ * {@link CachingJwtDecoder}. Services register them with {@code @EnableConfigurationProperties}.
+ */
+@ConfigurationProperties(prefix = "app.jwt.decoder-cache")
+public class JwtDecoderCacheProperties {
+
+    private boolean enabled = true;
+    private long maxSize = 10_000;
+    private Duration maxTtl = Duration.ofMinutes(5); // upper bound on an entry's lifetime, below the token's own expiry
+
+    /**
+     * Puts the cache in front of the decoder, or returns the decoder itself when the cache is disabled
+     *
+     * @param meterRegistry registry for the {@code cache.gets} meters, null for none
+     */
+    public JwtDecoder decorate(JwtDecoder decoder, MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, maxSize, maxTtl, meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getMaxTtl() {
+        return maxTtl;
+    }
+
+    public void setMaxTtl(Duration maxTtl) {
+        this.maxTtl = maxTtl;
+    }
+}
@@ -0,0 +1,91 @@
+package de.tum.devops.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ReplicaLagGuard} with mocked transactions and hand-set request and security contexts.
+ */
+class ReplicaLagGuardUTest {
+
+    private final ReplicaLagGuard guard = new ReplicaLagGuard(Duration.ofMinutes(1));
+
+    @AfterEach
+    void clearContext() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void committedWriteKeepsTheRequestOnThePrimary() {
+        newRequest();
+        assertFalse(guard.primaryRequired());
+
+        guard.afterCommit(transaction(false, true), null);
+
+        assertTrue(guard.primaryRequired());
+        newRequest();
+        assertFalse(guard.primaryRequired());
+    }
+
+    @Test
+    void userStaysOnThePrimaryAcrossRequests() {
+        newRequest();
+        authenticate("candidate-1");
+        guard.afterCommit(transaction(false, true), null);
+
+        newRequest();
+        assertTrue(guard.primaryRequired());
+        authenticate("candidate-2");
+        assertFalse(guard.primaryRequired());
+    }
+
+    @Test
+    void userWriteExpiresAfterTheStickyWindow() {
+        ReplicaLagGuard guard = new ReplicaLagGuard(Duration.ZERO);
+        authenticate("candidate-1");
+
+        guard.recordWrite();
+
+        assertFalse(guard.primaryRequired());
+    }
+
+    @Test
+    void readOnlyFailedAndNestedTransactionsAreIgnored() {
+        newRequest();
+
+        guard.afterCommit(transaction(true, true), null);
+        guard.afterCommit(transaction(false, true), new IllegalStateException("commit failed"));
+        guard.afterCommit(transaction(false, false), null);
+
+        assertFalse(guard.primaryRequired());
+    }
+
+    private static TransactionExecution transaction(boolean readOnly, boolean newTransaction) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        when(transaction.isNewTransaction()).thenReturn(newTransaction);
+        return transaction;
+    }
+
+    private static void newRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
@@ -0,0 +1,150 @@
+package de.tum.devops.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link CachingJwtDecoder} against a mocked delegate and a manually advanced clock.
+ */
+class CachingJwtDecoderUTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-07-01T10:00:00Z"));
+    private JwtDecoder delegate;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        when(delegate.decode(TOKEN)).thenReturn(jwtExpiringIn(Duration.ofHours(1)));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        Jwt first = decoder.decode(TOKEN);
+        Jwt second = decoder.decode(TOKEN);
+
+        assertSame(first, second);
+        verify(delegate, times(1)).decode(TOKEN);
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void entryExpiresWithTheToken() {
+        when(delegate.decode(TOKEN)).thenReturn(jwtExpiringIn(Duration.ofSeconds(30)));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        decoder.decode(TOKEN);
+        clock.advance(Duration.ofSeconds(31));
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void entryExpiresAfterMaxTtl() {
+        when(delegate.decode(TOKEN)).thenReturn(jwtExpiringIn(Duration.ofHours(1)));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        decoder.decode(TOKEN);
+        clock.advance(Duration.ofMinutes(4));
+        decoder.decode(TOKEN);
+        clock.advance(Duration.ofMinutes(2));
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("bad signature"));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+
+        verify(delegate, times(2)).decode(TOKEN);
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void cacheIsBounded() {
+        when(delegate.decode(anyString())).thenAnswer(inv -> jwtExpiringIn(Duration.ofHours(1)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, Duration.ofMinutes(5), registry, clock);
+
+        for (int i = 0; i < 10; i++) {
+            decoder.decode(TOKEN + i);
+        }
+
+        assertTrue(decoder.size() <= 2);
+    }
+
+    private CachingJwtDecoder decoder(Duration maxTtl) {
+        return new CachingJwtDecoder(delegate, 100, maxTtl, registry, clock);
+    }
+
+    private Jwt jwtExpiringIn(Duration lifetime) {
+        Instant now = clock.instant();
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "RS256")
+                .subject("00000000-0000-0000-0000-000000000001")
+                .claim("role", "HR")
+                .issuedAt(now)
+                .expiresAt(now.plus(lifetime))
+                .build();
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets")
+                .tag("cache", CachingJwtDecoder.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
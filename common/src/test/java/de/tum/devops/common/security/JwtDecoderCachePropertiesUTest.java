@@ -0,0 +1,28 @@
+package de.tum.devops.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link JwtDecoderCacheProperties#decorate}.
+ */
+class JwtDecoderCachePropertiesUTest {
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+
+    @Test
+    void cachesByDefault() {
+        assertInstanceOf(CachingJwtDecoder.class, new JwtDecoderCacheProperties().decorate(delegate, null));
+    }
+
+    @Test
+    void disabledCacheReturnsTheDecoder() {
+        JwtDecoderCacheProperties properties = new JwtDecoderCacheProperties();
+        properties.setEnabled(false);
+
+        assertSame(delegate, properties.decorate(delegate, null));
+    }
+}
@@ -43,6 +43,9 @@ interface CandidateChatModalProps {
   onInterviewComplete?: () => void;
 }
 
+// Reconnects with Last-Event-ID when the reply stream drops before stream-end
+const MAX_STREAM_RECONNECTS = 3;
+
 const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
   isOpen,
   application,
@@ -95,10 +98,11 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
       setIsLoading(true);
       console.log('Initializing chat for application:', application.applicationId || application.application_id);
       
-      const response = await fetch(apiConfig.getFullURL(`/api/v1/applications/${application.applicationId || application.application_id}/chat`), {
+      // The opening question is streamed while it is generated, like the replies in sendMessage
+      const response = await fetch(apiConfig.getFullURL(`/api/v1/applications/${application.applicationId || application.application_id}/chat/stream`), {
         method: 'POST',
         headers: {
-          'Content-Type': 'application/json',
+          'Accept': 'text/event-stream',
           'Authorization': `Bearer ${token}`
         },
         credentials: 'include'
@@ -108,33 +112,71 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
         throw new Error(`Failed to initialize chat: ${response.status}`);
       }
 
-      const data = await response.json();
-      console.log('Chat initialization response:', data);
-
-      if (data.success && data.data) {
-        const newSessionId = data.data.session.sessionId;
-        console.log('Chat session initialized with ID:', newSessionId);
-        setSessionId(newSessionId);
-        
-        const existingMessages = await loadChatHistory(newSessionId);
-        
-        if (data.data.initialMessage && existingMessages.length === 0) {
-          const initialMessage = {
-            messageId: data.data.initialMessage.messageId,
-            sessionId: data.data.initialMessage.sessionId,
-            sender: 'AI' as const,
-            content: data.data.initialMessage.content,
-            sentAt: data.data.initialMessage.sentAt
-          };
-          setMessages([initialMessage]);
-        } else if (existingMessages.length > 0) {
-          setMessages(existingMessages);
+      const reader = response.body?.getReader();
+      if (!reader) {
+        throw new Error('No response body reader available');
+      }
+
+      const decoder = new TextDecoder();
+      let buffer = '';
+      let eventType = '';
+      let eventData = '';
+      let openingMessage = '';
+      let hasHistory = false;
+
+      try {
+        while (true) {
+          const { done, value } = await reader.read();
+          if (done) break;
+
+          buffer += decoder.decode(value, { stream: true });
+          const lines = buffer.split('\n');
+          buffer = lines.pop() || ''; // Keep incomplete line in buffer
+
+          for (const line of lines) {
+            if (line.startsWith('event:')) {
+              eventType = line.slice(6).trim();
+            } else if (line.startsWith('data:')) {
+              eventData = line.slice(5).trim();
+            } else if (line === '' && eventType && eventData) {
+              if (eventType === 'error') {
+                throw new Error('Stream error: ' + eventData);
+              } else if (eventType === 'session') {
+                const newSessionId = JSON.parse(eventData).sessionId;
+                console.log('Chat session initialized with ID:', newSessionId);
+                setSessionId(newSessionId);
+
+                const existingMessages = await loadChatHistory(newSessionId);
+                hasHistory = existingMessages.length > 0;
+                if (!hasHistory) {
+                  setMessages([{ sender: 'AI', content: '', sentAt: new Date().toISOString(), isStreaming: true }]);
+                  setIsLoading(false);
+                }
+              } else if (eventType === 'message-chunk' && !hasHistory) {
+                openingMessage += JSON.parse(eventData).content;
+                setMessages(prev => prev.map((msg, idx) => idx === 0 ? { ...msg, content: openingMessage } : msg));
+              } else if (eventType === 'stream-end' && !hasHistory) {
+                const endData = JSON.parse(eventData);
+                setMessages([{
+                  messageId: endData.messageId,
+                  sessionId: endData.sessionId,
+                  sender: 'AI',
+                  content: endData.content || openingMessage,
+                  sentAt: endData.sentAt,
+                  finished: true
+                }]);
+              }
+
+              eventType = '';
+              eventData = '';
+            }
+          }
         }
-        
-        setIsInitialized(true);
-      } else {
-        console.error('Failed to get session from response:', data);
+      } finally {
+        reader.releaseLock();
       }
+
+      setIsInitialized(true);
     } catch (error) {
       console.error('Error initializing chat:', error);
     } finally {
@@ -221,13 +263,30 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
         throw new Error(`Failed to send message: ${response.status} - ${errorText}`);
       }
 
-      const reader = response.body?.getReader();
-      if (!reader) {
+      const initialReader = response.body?.getReader();
+      if (!initialReader) {
         throw new Error('No response body reader available');
       }
+      let reader = initialReader;
 
       const decoder = new TextDecoder();
 
+      // The reply keeps being generated on the server; continue it after the last event we received
+      const resumeStream = async (lastEventId: string) => {
+        const resumed = await fetch(apiConfig.getFullURL(`/api/v1/chat/${sessionId}/messages/stream`), {
+          headers: {
+            'Authorization': `Bearer ${token}`,
+            'Last-Event-ID': lastEventId
+          },
+          credentials: 'include'
+        });
+        const resumedReader = resumed.ok ? resumed.body?.getReader() : undefined;
+        if (!resumedReader) {
+          throw new Error(`Failed to resume reply stream: ${resumed.status}`);
+        }
+        return resumedReader;
+      };
+
       const aiMessageIndex = messages.length + 1;
       const initialAiMessage: ChatMessage = {
         sender: 'AI',
@@ -240,11 +299,23 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
 
       let fullMessage = '';
       let buffer = '';
+      let lastEventId = '';
+      let reconnects = 0;
       
       try {
         while (true) {
-          const { done, value } = await reader.read();
-          if (done) break;
+          const { done, value } = await reader.read().catch(() => ({ done: true, value: undefined }));
+          if (done) {
+            if (lastEventId && reconnects < MAX_STREAM_RECONNECTS) {
+              console.warn('Reply stream dropped, resuming after event', lastEventId);
+              reconnects++;
+              reader.releaseLock();
+              reader = await resumeStream(lastEventId);
+              buffer = '';
+              continue;
+            }
+            break;
+          }
           
           const chunk = decoder.decode(value, { stream: true });
           buffer += chunk;
@@ -258,10 +329,23 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
           for (const line of lines) {
             if (line.startsWith('event:')) {
               eventType = line.slice(6).trim();
+            } else if (line.startsWith('id:')) {
+              lastEventId = line.slice(3).trim();
             } else if (line.startsWith('data:')) {
               eventData = line.slice(5).trim();
             } else if (line === '' && eventType && eventData) {
-              if (eventType === 'message-chunk') {
+              if (eventType === 'message-snapshot') {
+                // The missed chunks were no longer buffered, the snapshot carries the reply so far
+                fullMessage = JSON.parse(eventData).content;
+                setCurrentStreamingMessage(fullMessage);
+                setMessages(prev => 
+                  prev.map((msg, idx) => 
+                    idx === aiMessageIndex ? { ...msg, content: fullMessage } : msg
+                  )
+                );
+              } else if (eventType === 'error') {
+                throw new Error('Stream error: ' + eventData);
+              } else if (eventType === 'message-chunk') {
                 try {
                   const chunkData = JSON.parse(eventData);
                   console.log('Received chunk:', chunkData);
@@ -627,4 +711,4 @@ const CandidateChatModal: React.FC<CandidateChatModalProps> = ({
   );
 };
 
-export default CandidateChatModal;
\ No newline at end of file
+export default CandidateChatModal;
\ No newline at end of file
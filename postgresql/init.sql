@@ -55,6 +55,7 @@ CREATE INDEX idx_jobs_hr_creator ON jobs(hr_creator_id);
 \connect application_db
 
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+CREATE EXTENSION IF NOT EXISTS vector;
 
 CREATE TYPE application_status AS ENUM (
     'SUBMITTED', 'AI_SCREENING', 'AI_INTERVIEW',
@@ -71,23 +72,32 @@ CREATE TABLE applications (
     job_id          UUID NOT NULL,
     candidate_id    UUID NOT NULL,
     status          application_status DEFAULT 'SUBMITTED',
-    resume_text     TEXT NOT NULL,
+    -- lz4 instead of the pglz default: resumes compress about as well and decode several times faster.
+    -- Values are only detoasted when the column is actually selected (list views project it out).
+    resume_text     TEXT COMPRESSION lz4 NOT NULL,
     resume_file_path TEXT,
     hr_decision     decision_enum,
     hr_comments     TEXT,
     submitted_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at      TIMESTAMP
+    updated_at      TIMESTAMP,
+    -- Full-text search document for ApplicationSearchService; HR comments rank above resume text
+    search_vector   TSVECTOR GENERATED ALWAYS AS (
+                        setweight(to_tsvector('english', COALESCE(hr_comments, '')), 'A') ||
+                        setweight(to_tsvector('english', resume_text), 'B')) STORED
 );
 
 CREATE INDEX idx_app_job  ON applications(job_id);
 CREATE INDEX idx_app_user ON applications(candidate_id);
+CREATE INDEX idx_app_search ON applications USING GIN (search_vector);
 
 -- Assessments
 CREATE TABLE assessments (
     assessment_id     UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
     application_id    UUID NOT NULL UNIQUE,
+    job_id            UUID NOT NULL,
     resume_score      FLOAT CHECK (resume_score BETWEEN 0 AND 100),
     interview_score   FLOAT CHECK (interview_score BETWEEN 0 AND 100),
+    pre_score         FLOAT CHECK (pre_score BETWEEN 0 AND 100), -- lexical BM25 pre-screen, see ResumePreScreener
     resume_comment    TEXT,
     interview_comment TEXT,
     recommendation    recommendation_enum,
@@ -96,6 +106,39 @@ CREATE TABLE assessments (
 );
 
 CREATE INDEX idx_ass_app ON assessments(application_id);
+-- Per-job leaderboard: job_id is copied from the application so the ranking never joins, and only fully
+-- scored assessments are indexed, in ranking order, so a top-K query reads K index entries.
+CREATE INDEX idx_ass_job_rank ON assessments(job_id, (resume_score + interview_score) DESC, assessment_id)
+    WHERE resume_score IS NOT NULL AND interview_score IS NOT NULL;
+
+-- Gen-ai scoring responses (serialised protobuf) by job posting and scored input, see ScoreMemoizer.
+-- kind is RESUME or INTERVIEW; the hashes are hex SHA-256 of job title, description and requirements and
+-- of the resume text or interview transcript.
+CREATE TABLE score_memos (
+    kind       VARCHAR(16) NOT NULL,
+    job_hash   VARCHAR(64) NOT NULL,
+    input_hash VARCHAR(64) NOT NULL,
+    response   BYTEA       NOT NULL,
+    created_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (kind, job_hash, input_hash)
+);
+
+-- Scoring parked while the gen-ai service was unavailable or after another failure, see ScoringRetryQueue.
+-- kind is RESUME or INTERVIEW; next_attempt_at backs off exponentially with attempts and doubles as the
+-- lease of a worker that claimed the row. failures counts only the attempts that failed other than with an
+-- unavailable service.
+CREATE TABLE scoring_retries (
+    application_id  UUID        NOT NULL REFERENCES applications(application_id) ON DELETE CASCADE,
+    kind            VARCHAR(16) NOT NULL,
+    attempts        INT         NOT NULL DEFAULT 0,
+    failures        INT         NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP   NOT NULL,
+    last_error      TEXT,
+    created_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (application_id, kind)
+);
+
+CREATE INDEX idx_scoring_retries_due ON scoring_retries(next_attempt_at);
 
 -- Chat sessions
 CREATE TABLE chat_sessions (
@@ -107,16 +150,178 @@ CREATE TABLE chat_sessions (
     completed_at   TIMESTAMP
 );
 
--- Chat messages
+-- Chat messages, range-partitioned by month of sent_at. Monthly partitions (chat_messages_pYYYYMM) are
+-- created ahead of time by the application's ChatMessageArchiver; the first ones are created here. There
+-- is no default partition, so the archiver can detach empty partitions CONCURRENTLY.
 CREATE TABLE chat_messages (
-    message_id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    message_id UUID NOT NULL DEFAULT uuid_generate_v4(),
     session_id UUID NOT NULL,
     sender     message_sender NOT NULL,
     content    TEXT NOT NULL,
-    sent_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    sent_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (message_id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        month := date_trunc('month', CURRENT_DATE)::DATE + make_interval(months => i);
+        EXECUTE format('CREATE TABLE chat_messages_p%s PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, month + INTERVAL '1 month');
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_chat_sess ON chat_messages(session_id, sent_at);
+
+-- Messages of completed interviews, moved out of chat_messages by the archiver: one JSONB array per
+-- session, ordered by sent_at, with the chat_messages columns as keys
+CREATE TABLE chat_message_archive (
+    session_id    UUID PRIMARY KEY,
+    messages      JSONB COMPRESSION lz4 NOT NULL,
+    message_count INTEGER NOT NULL,
+    archived_at   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Live and archived messages, read by ChatMessageRepository
+CREATE VIEW chat_message_history AS
+SELECT message_id, session_id, sender, content, sent_at
+FROM chat_messages
+UNION ALL
+SELECT m.message_id, a.session_id, m.sender, m.content, m.sent_at
+FROM chat_message_archive a
+CROSS JOIN LATERAL jsonb_to_recordset(a.messages)
+    AS m(message_id UUID, sender message_sender, content TEXT, sent_at TIMESTAMP);
+
+-- Per-job counters for HR dashboards, one row per (job, dimension, bucket):
+--   total/ALL, status/<application_status>, decision/<decision_enum>|NONE,
+--   recommendation/<recommendation_enum>|NONE, resume_score|interview_score/0,10..90|NONE (10-point buckets).
+-- Maintained by the statement-level triggers below in the writing transaction; JobApplicationStatsService
+-- rebuilds it from job_application_stats_expected when reconciling.
+CREATE TABLE job_application_stats (
+    job_id    UUID        NOT NULL,
+    dimension VARCHAR(32) NOT NULL,
+    bucket    VARCHAR(32) NOT NULL,
+    count     BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (job_id, dimension, bucket)
+);
+
+CREATE FUNCTION job_stats_score_bucket(score FLOAT) RETURNS TEXT
+    LANGUAGE SQL IMMUTABLE AS
+$$
+SELECT CASE WHEN score IS NULL THEN 'NONE' ELSE (LEAST(FLOOR(score / 10), 9) * 10)::INT::TEXT END
+$$;
+
+-- Statement-level trigger on applications and assessments: adds the changed rows to job_application_stats,
+-- every old row counting -1 and every new row +1 in each of its (dimension, bucket)s. Rows are upserted in
+-- key order so concurrent writers lock them in the same order, and buckets that net out are not touched.
+CREATE FUNCTION job_stats_apply() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    columns    TEXT;
+    dimensions TEXT;
+    changes    TEXT;
+BEGIN
+    IF TG_TABLE_NAME = 'applications' THEN
+        columns := 'job_id, status, hr_decision';
+        dimensions := $d$('total', 'ALL'),
+                         ('status', COALESCE(c.status::TEXT, 'NONE')),
+                         ('decision', COALESCE(c.hr_decision::TEXT, 'NONE'))$d$;
+    ELSE
+        columns := 'job_id, recommendation, resume_score, interview_score';
+        dimensions := $d$('recommendation', COALESCE(c.recommendation::TEXT, 'NONE')),
+                         ('resume_score', job_stats_score_bucket(c.resume_score)),
+                         ('interview_score', job_stats_score_bucket(c.interview_score))$d$;
+    END IF;
+    changes := CASE TG_OP
+        WHEN 'INSERT' THEN format('SELECT %s, 1 AS delta FROM new_rows', columns)
+        WHEN 'DELETE' THEN format('SELECT %s, -1 AS delta FROM old_rows', columns)
+        ELSE format('SELECT %1$s, -1 AS delta FROM old_rows UNION ALL SELECT %1$s, 1 FROM new_rows', columns)
+    END;
+    EXECUTE format($q$
+        INSERT INTO job_application_stats AS s (job_id, dimension, bucket, count)
+        SELECT c.job_id, d.dimension, d.bucket, SUM(c.delta)
+        FROM (%s) c
+        CROSS JOIN LATERAL (VALUES %s) d(dimension, bucket)
+        GROUP BY 1, 2, 3
+        HAVING SUM(c.delta) <> 0
+        ORDER BY 1, 2, 3
+        ON CONFLICT (job_id, dimension, bucket) DO UPDATE SET count = s.count + EXCLUDED.count
+    $q$, changes, dimensions);
+    RETURN NULL;
+END
+$$;
+
+-- Transition tables cannot be combined with UPDATE OF <columns>, so unrelated updates fire too; they add
+-- nothing because every bucket nets out to zero.
+CREATE TRIGGER job_stats_applications_insert AFTER INSERT ON applications
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_applications_update AFTER UPDATE ON applications
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_applications_delete AFTER DELETE ON applications
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+
+CREATE TRIGGER job_stats_assessments_insert AFTER INSERT ON assessments
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_assessments_update AFTER UPDATE ON assessments
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_assessments_delete AFTER DELETE ON assessments
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+
+-- What job_application_stats should contain, computed from scratch
+CREATE VIEW job_application_stats_expected AS
+SELECT job_id, 'total' AS dimension, 'ALL' AS bucket, COUNT(*) AS count
+FROM applications GROUP BY job_id
+UNION ALL
+SELECT job_id, 'status', COALESCE(status::TEXT, 'NONE'), COUNT(*)
+FROM applications GROUP BY 1, 3
+UNION ALL
+SELECT job_id, 'decision', COALESCE(hr_decision::TEXT, 'NONE'), COUNT(*)
+FROM applications GROUP BY 1, 3
+UNION ALL
+SELECT job_id, 'recommendation', COALESCE(recommendation::TEXT, 'NONE'), COUNT(*)
+FROM assessments GROUP BY 1, 3
+UNION ALL
+SELECT job_id, 'resume_score', job_stats_score_bucket(resume_score), COUNT(*)
+FROM assessments GROUP BY 1, 3
+UNION ALL
+SELECT job_id, 'interview_score', job_stats_score_bucket(interview_score), COUNT(*)
+FROM assessments GROUP BY 1, 3;
+
+-- Embeddings for semantic candidate/job matching, written by CandidateMatchingService. The dimension is
+-- fixed by the column type; model names the embedder that produced the vector, only vectors of the
+-- configured model are compared.
+CREATE TABLE application_embeddings (
+    application_id UUID PRIMARY KEY,
+    job_id         UUID        NOT NULL,
+    candidate_id   UUID        NOT NULL,
+    model          VARCHAR(64) NOT NULL,
+    embedding      VECTOR(384) NOT NULL,
+    updated_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_app_emb_job ON application_embeddings(job_id);
+CREATE INDEX idx_app_emb_candidate ON application_embeddings(candidate_id, updated_at DESC);
+CREATE INDEX idx_app_emb_hnsw ON application_embeddings
+    USING hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64);
+
+-- Jobs live in job_db; service-application keeps the embedding of every posting it has seen, keyed by a
+-- hash of the embedded text so unchanged postings are not embedded again. status is the job's status when
+-- it was last fetched, job suggestions only consider OPEN postings.
+CREATE TABLE job_embeddings (
+    job_id       UUID PRIMARY KEY,
+    title        VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64)  NOT NULL,
+    model        VARCHAR(64)  NOT NULL,
+    embedding    VECTOR(384)  NOT NULL,
+    status       VARCHAR(16)  NOT NULL DEFAULT 'OPEN',
+    updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_chat_sess ON chat_messages(session_id);
+CREATE INDEX idx_job_emb_hnsw ON job_embeddings
+    USING hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64);
 
 -- =======================================
 -- 🧠 4. AI schema (ai_db)
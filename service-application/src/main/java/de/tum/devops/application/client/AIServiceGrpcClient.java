@@ -1,21 +1,33 @@
 package de.tum.devops.application.client;
 
+import de.tum.devops.application.exception.GenAiUnavailableException;
 import de.tum.devops.application.persistence.entity.ChatMessage;
 import de.tum.devops.application.persistence.enums.MessageSender;
 import de.tum.devops.application.persistence.enums.RecommendationEnum;
 import de.tum.devops.grpc.ai.*;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Client for AI service gRPC API using Spring gRPC
+ * <p>
+ * Blocking calls carry a deadline. When the service is unreachable, overloaded or its circuit is open
+ * (see {@link #isUnavailable}), the calls throw {@link GenAiUnavailableException} instead of returning a
+ * placeholder reply or score, so callers can fail fast or retry later.
  */
 @Component
 public class AIServiceGrpcClient {
@@ -24,11 +36,31 @@ public class AIServiceGrpcClient {
 
     private final AIServiceGrpc.AIServiceBlockingStub blockingStub;
     private final AIServiceGrpc.AIServiceStub asyncStub;
+    private final InterviewSessionPool interviewSessions;
+    private final Duration chatTimeout;
+    private final Duration scoringTimeout;
 
-
-    public AIServiceGrpcClient(AIServiceGrpc.AIServiceBlockingStub blockingStub, AIServiceGrpc.AIServiceStub asyncStub) {
+    public AIServiceGrpcClient(AIServiceGrpc.AIServiceBlockingStub blockingStub, AIServiceGrpc.AIServiceStub asyncStub,
+                               InterviewSessionPool interviewSessions,
+                               @Value("${app.gen-ai.chat-timeout:30s}") Duration chatTimeout,
+                               @Value("${app.gen-ai.scoring-timeout:60s}") Duration scoringTimeout) {
         this.blockingStub = blockingStub;
         this.asyncStub = asyncStub;
+        this.interviewSessions = interviewSessions;
+        this.chatTimeout = chatTimeout;
+        this.scoringTimeout = scoringTimeout;
+    }
+
+    /**
+     * Whether a call failed because the gen-ai service is unavailable right now, rather than because of the
+     * request: an open circuit, a local concurrency rejection, or an unavailable, overloaded, timed out or
+     * failing service; the codes the circuit breakers count as failures, see {@link GenAiFailures}
+     */
+    public static boolean isUnavailable(Throwable t) {
+        if (t instanceof GenAiUnavailableException) {
+            return true;
+        }
+        return t instanceof StatusRuntimeException e && GenAiFailures.RETRY_LATER.contains(e.getStatus().getCode());
     }
 
     /**
@@ -39,7 +71,9 @@ public class AIServiceGrpcClient {
      * @param jobDescription  Job description
      * @param jobRequirements Job requirements
      * @param chatHistory     Chat history
-     * @return AI response message
+     * @return AI response message, never a partial or empty one
+     * @throws GenAiUnavailableException when the gen-ai service is unavailable or does not answer in time
+     * @throws IllegalStateException     when the call fails otherwise or returns no text
      */
     public String getChatReply(String resumeText, String jobTitle, String jobDescription,
                                String jobRequirements, List<ChatMessage> chatHistory) {
@@ -61,39 +95,84 @@ public class AIServiceGrpcClient {
             // For streaming response, we need to collect all tokens
             StringBuilder fullResponse = new StringBuilder();
             CountDownLatch finishLatch = new CountDownLatch(1);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+
+            // Make async call with streaming response; an open circuit fails it at once
+            asyncStub.withDeadlineAfter(chatTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .chatReply(request, new StreamObserver<ChatReplyResponse>() {
+                        @Override
+                        public void onNext(ChatReplyResponse response) {
+                            fullResponse.append(response.getAiMessage());
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            logger.error("Error in chat reply streaming", t);
+                            error.set(t);
+                            finishLatch.countDown();
+                        }
 
-            // Make async call with streaming response
-            asyncStub.chatReply(request, new StreamObserver<ChatReplyResponse>() {
-                @Override
-                public void onNext(ChatReplyResponse response) {
-                    fullResponse.append(response.getAiMessage());
-                }
-
-                @Override
-                public void onError(Throwable t) {
-                    logger.error("Error in chat reply streaming", t);
-                    finishLatch.countDown();
-                }
-
-                @Override
-                public void onCompleted() {
-                    finishLatch.countDown();
-                }
-            });
-
-            // Wait for streaming to complete (with timeout)
-            if (!finishLatch.await(30, TimeUnit.SECONDS)) {
+                        @Override
+                        public void onCompleted() {
+                            finishLatch.countDown();
+                        }
+                    });
+
+            // The deadline ends the call; the extra second only guards against a lost callback
+            if (!finishLatch.await(chatTimeout.toMillis() + 1000, TimeUnit.MILLISECONDS)) {
                 logger.warn("Chat reply streaming timed out");
-                return "I'm sorry, but I couldn't generate a response in time. Please try again.";
+                throw new GenAiUnavailableException("Chat reply timed out", null);
+            }
+            Throwable t = error.get();
+            if (isUnavailable(t)) {
+                throw new GenAiUnavailableException("Chat reply failed", t);
+            }
+            if (t != null) {
+                throw new IllegalStateException("Chat reply failed: " + t.getMessage(), t);
+            }
+            if (fullResponse.toString().isBlank()) {
+                throw new IllegalStateException("Chat reply was empty");
             }
 
             return fullResponse.toString();
-        } catch (Exception e) {
-            logger.error("Error getting chat reply", e);
-            return "I apologize, but I encountered an error. Please try again later.";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the chat reply", e);
         }
     }
 
+    /**
+     * Stream the next AI message of an interview: on the session's {@code InterviewSession} stream when those
+     * are enabled and one is available, otherwise as a {@code ChatReply} call with the full context
+     *
+     * @param aiMessages       AI messages the session has stored before this one
+     * @param candidateMessage the candidate's new message, null for the opening question
+     * @param context          context of the interview, only called when it has to be sent
+     * @see InterviewSessionPool#nextMessage
+     */
+    public void interviewReplyStream(UUID sessionId, int aiMessages, String candidateMessage,
+                                     Supplier<InterviewSessionStart> context,
+                                     StreamObserver<ChatReplyResponse> responseObserver) {
+        if (interviewSessions.isEnabled()
+                && interviewSessions.nextMessage(sessionId, aiMessages, candidateMessage, context, responseObserver)) {
+            return;
+        }
+        InterviewSessionStart start;
+        try {
+            start = context.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        chatReplyStream(ChatReplyRequest.newBuilder()
+                .setResumeText(start.getResumeText())
+                .setJobTitle(start.getJobTitle())
+                .setJobDescription(start.getJobDescription())
+                .setJobRequirements(start.getJobRequirements())
+                .addAllChatHistory(start.getChatHistoryList())
+                .build(), responseObserver);
+    }
+
     public void chatReplyStream(ChatReplyRequest request, StreamObserver<ChatReplyResponse> responseObserver) {
         try {
             asyncStub.chatReply(request, responseObserver);
@@ -111,6 +190,8 @@ public class AIServiceGrpcClient {
      * @param jobRequirements Job requirements
      * @param resumeText      Candidate's resume text
      * @return Resume score response with score, comment and recommendation
+     * @throws GenAiUnavailableException when the gen-ai service is unavailable
+     * @throws IllegalStateException     when the service failed to score the resume
      */
     public ScoreResumeResponse scoreResume(String jobTitle, String jobDescription, String jobRequirements, String resumeText) {
         try {
@@ -121,15 +202,11 @@ public class AIServiceGrpcClient {
                     .setResumeText(resumeText)
                     .build();
 
-            return blockingStub.scoreResume(request);
-        } catch (Exception e) {
-            logger.error("Error scoring resume", e);
-            // Return default response with error message
-            return ScoreResumeResponse.newBuilder()
-                    .setResumeScore(0)
-                    .setComment("Error scoring resume: " + e.getMessage())
-                    .setRecommendation(de.tum.devops.grpc.ai.RecommendationEnum.CONSIDER)
-                    .build();
+            return blockingStub.withDeadlineAfter(scoringTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .scoreResume(request);
+        } catch (RuntimeException e) {
+            // Not a result: no placeholder score is returned, the caller decides whether to retry later
+            throw scoringFailure("resume", e);
         }
     }
 
@@ -141,6 +218,8 @@ public class AIServiceGrpcClient {
      * @param jobRequirements Job requirements
      * @param chatHistory     Chat history
      * @return Interview score response with score, comment and recommendation
+     * @throws GenAiUnavailableException when the gen-ai service is unavailable
+     * @throws IllegalStateException     when the service failed to score the interview
      */
     public ScoreInterviewResponse scoreInterview(String jobTitle, String jobDescription, String jobRequirements, List<ChatMessage> chatHistory) {
         try {
@@ -156,16 +235,20 @@ public class AIServiceGrpcClient {
                     .addAllChatHistory(grpcMessages)
                     .build();
 
-            return blockingStub.scoreInterview(request);
-        } catch (Exception e) {
-            logger.error("Error scoring interview", e);
-            // Return default response with error message
-            return ScoreInterviewResponse.newBuilder()
-                    .setInterviewScore(0)
-                    .setComment("Error scoring interview: " + e.getMessage())
-                    .setRecommendation(de.tum.devops.grpc.ai.RecommendationEnum.NOT_RECOMMEND)
-                    .build();
+            return blockingStub.withDeadlineAfter(scoringTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .scoreInterview(request);
+        } catch (RuntimeException e) {
+            throw scoringFailure("interview", e);
+        }
+    }
+
+    private static RuntimeException scoringFailure(String what, RuntimeException e) {
+        if (isUnavailable(e)) {
+            logger.warn("Gen-ai service unavailable for {} scoring: {}", what, e.getMessage());
+            return new GenAiUnavailableException("Scoring " + what + " failed", e);
         }
+        logger.error("Error scoring {}", what, e);
+        return new IllegalStateException("Error scoring " + what + ": " + e.getMessage(), e);
     }
 
     /**
@@ -0,0 +1,138 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.GenAiCircuitBreakerProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One {@link CircuitBreaker} per gen-ai RPC. While a breaker is open, calls of that RPC fail immediately
+ * with {@link Status#UNAVAILABLE} (see {@link #isOpenCircuit}) instead of waiting for the service to time
+ * out.
+ * <p>
+ * The {@link GenAiFailures#RETRY_LATER} codes count as failures, except rejections by the local
+ * concurrency limiter; cancelled or invalid calls do not. A long-lived bidirectional stream counts as a
+ * success with its first response, so a half-open probe does not wait for the stream to close. The state
+ * of each breaker is exported as {@code genai.circuit.state} tagged {@code method}: 0 closed, 1 half-open, 2 open.
+ */
+public class GenAiCircuitBreakerInterceptor implements ClientInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenAiCircuitBreakerInterceptor.class);
+
+    static final String CIRCUIT_OPEN = "gen-ai circuit open";
+
+    private final Map<String, CircuitBreaker> breakers;
+
+    public GenAiCircuitBreakerInterceptor(GenAiCircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.breakers = AIServiceGrpc.getServiceDescriptor().getMethods().stream()
+                .map(method -> ((MethodDescriptor<?, ?>) method).getFullMethodName())
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), name -> new CircuitBreaker(
+                        properties.getWindowSize(), properties.getMinimumCalls(),
+                        properties.getFailureRateThreshold(), properties.getOpenDuration(),
+                        properties.getHalfOpenProbes())));
+        if (meterRegistry != null) {
+            breakers.forEach((method, breaker) -> Gauge.builder("genai.circuit.state", breaker,
+                            b -> switch (b.getState()) {
+                                case CLOSED -> 0;
+                                case HALF_OPEN -> 1;
+                                case OPEN -> 2;
+                            })
+                    .tag("method", method.substring(method.lastIndexOf('/') + 1))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Whether a call failed because its circuit was open, without reaching the server
+     */
+    public static boolean isOpenCircuit(Throwable t) {
+        return t instanceof StatusRuntimeException e
+                && e.getStatus().getCode() == Status.Code.UNAVAILABLE
+                && CIRCUIT_OPEN.equals(e.getStatus().getDescription());
+    }
+
+    CircuitBreaker breaker(MethodDescriptor<?, ?> method) {
+        return breakers.get(method.getFullMethodName());
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        CircuitBreaker breaker = breaker(method);
+        if (breaker == null) {
+            return next.newCall(method, callOptions);
+        }
+        if (!breaker.tryAcquire()) {
+            logger.debug("Circuit for {} is open, failing fast", method.getFullMethodName());
+            return new FailingClientCall<>(Status.UNAVAILABLE.withDescription(CIRCUIT_OPEN));
+        }
+
+        ClientCall<ReqT, RespT> call;
+        try {
+            call = next.newCall(method, callOptions);
+        } catch (RuntimeException e) {
+            breaker.onIgnored();
+            throw e;
+        }
+        boolean longLived = method.getType() == MethodDescriptor.MethodType.BIDI_STREAMING;
+        AtomicBoolean recorded = new AtomicBoolean();
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onMessage(RespT message) {
+                            if (longLived && recorded.compareAndSet(false, true)) {
+                                breaker.onSuccess();
+                            }
+                            super.onMessage(message);
+                        }
+
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            if (recorded.compareAndSet(false, true)) {
+                                record(breaker, method, status);
+                            }
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    breaker.onIgnored();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private static void record(CircuitBreaker breaker, MethodDescriptor<?, ?> method, Status status) {
+        if (status.isOk()) {
+            breaker.onSuccess();
+        } else if (GenAiFailures.RETRY_LATER.contains(status.getCode()) && !GenAiConcurrencyInterceptor.isRejection(status.asRuntimeException())) {
+            CircuitBreaker.State before = breaker.getState();
+            breaker.onFailure();
+            if (before != CircuitBreaker.State.OPEN && breaker.getState() == CircuitBreaker.State.OPEN) {
+                logger.warn("Circuit for {} opened after {}", method.getFullMethodName(), status);
+            }
+        } else {
+            breaker.onIgnored();
+        }
+    }
+}
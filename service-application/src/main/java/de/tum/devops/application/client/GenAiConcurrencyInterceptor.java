@@ -0,0 +1,174 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.GenAiConcurrencyProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Admits gen-ai calls through an {@link AdaptiveConcurrencyLimiter} per budget: scoring calls are
+ * {@code background}, everything else (chat replies, Q&amp;A) is {@code interactive}.
+ * <p>
+ * A call beyond the limit waits up to the budget's {@code max-wait} and then fails without reaching the
+ * server, with {@link Status#RESOURCE_EXHAUSTED} (see {@link #isRejection}). The permit is held until the
+ * call closes, so a streaming reply counts for its whole duration. Per budget, the current limit and calls
+ * in flight are exported as {@code genai.concurrency.limit} and {@code genai.concurrency.inflight}, and
+ * rejections as {@code genai.concurrency.rejected}.
+ * <p>
+ * Interview session streams stay open between turns, so they pass through without a permit; their owner
+ * takes an interactive permit per turn with {@link #acquireInteractive()}.
+ */
+public class GenAiConcurrencyInterceptor implements ClientInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenAiConcurrencyInterceptor.class);
+
+    static final String REJECTED = "gen-ai concurrency limit reached";
+
+    private static final Set<String> BACKGROUND_METHODS = Set.of(
+            AIServiceGrpc.getScoreResumeMethod().getFullMethodName(),
+            AIServiceGrpc.getScoreInterviewMethod().getFullMethodName());
+
+    private static final Set<String> SESSION_METHODS = Set.of(
+            AIServiceGrpc.getInterviewSessionMethod().getFullMethodName());
+
+    private static final Set<Status.Code> OVERLOAD = Set.of(
+            Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED, Status.Code.RESOURCE_EXHAUSTED);
+
+    private final Budget interactive;
+    private final Budget background;
+
+    public GenAiConcurrencyInterceptor(GenAiConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.interactive = new Budget("interactive", properties.getInteractive(), properties.getBackoffRatio(), meterRegistry);
+        this.background = new Budget("background", properties.getBackground(), properties.getBackoffRatio(), meterRegistry);
+    }
+
+    /**
+     * Whether a call failed because this client rejected it, not because of the server
+     */
+    public static boolean isRejection(Throwable t) {
+        return t instanceof StatusRuntimeException e
+                && e.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED
+                && REJECTED.equals(e.getStatus().getDescription());
+    }
+
+    /**
+     * Failure of a call this client rejected, see {@link #isRejection}
+     */
+    public static StatusRuntimeException rejection() {
+        return Status.RESOURCE_EXHAUSTED.withDescription(REJECTED).asRuntimeException();
+    }
+
+    /**
+     * Interactive permit for work that is not a call of its own, such as one turn of an interview session
+     * stream; null when the limit is still reached after the budget's {@code max-wait}
+     */
+    public AdaptiveConcurrencyLimiter.Permit acquireInteractive() {
+        AdaptiveConcurrencyLimiter.Permit permit = interactive.limiter.tryAcquire(interactive.maxWait);
+        if (permit == null) {
+            interactive.increment();
+            logger.warn("Rejected interview session turn: interactive limit of {} reached", interactive.limiter.getLimit());
+        }
+        return permit;
+    }
+
+    AdaptiveConcurrencyLimiter limiter(String budget) {
+        return "background".equals(budget) ? background.limiter : interactive.limiter;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        if (SESSION_METHODS.contains(method.getFullMethodName())) {
+            return next.newCall(method, callOptions);
+        }
+        Budget budget = BACKGROUND_METHODS.contains(method.getFullMethodName()) ? background : interactive;
+        AdaptiveConcurrencyLimiter.Permit permit = budget.limiter.tryAcquire(budget.maxWait);
+        if (permit == null) {
+            budget.increment();
+            logger.warn("Rejected {}: {} limit of {} reached", method.getFullMethodName(), budget.name,
+                    budget.limiter.getLimit());
+            return new FailingClientCall<>(Status.RESOURCE_EXHAUSTED.withDescription(REJECTED));
+        }
+
+        ClientCall<ReqT, RespT> call;
+        try {
+            call = next.newCall(method, callOptions);
+        } catch (RuntimeException e) {
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+            throw e;
+        }
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            permit.release(outcome(status));
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+                    throw e;
+                }
+            }
+        };
+    }
+
+    static AdaptiveConcurrencyLimiter.Outcome outcome(Status status) {
+        if (status.isOk()) {
+            return AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+        }
+        return OVERLOAD.contains(status.getCode())
+                ? AdaptiveConcurrencyLimiter.Outcome.DROPPED
+                : AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+    }
+
+    private static final class Budget {
+
+        private final String name;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Duration maxWait;
+        private final Counter rejected;
+
+        private Budget(String name, GenAiConcurrencyProperties.Budget properties, double backoffRatio,
+                       MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limiter = new AdaptiveConcurrencyLimiter(properties.getInitialLimit(), properties.getMinLimit(),
+                    properties.getMaxLimit(), backoffRatio, properties.getSlowCallThreshold());
+            this.maxWait = properties.getMaxWait();
+            if (meterRegistry != null) {
+                Gauge.builder("genai.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                        .tag("budget", name).register(meterRegistry);
+                Gauge.builder("genai.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                        .tag("budget", name).register(meterRegistry);
+                this.rejected = meterRegistry.counter("genai.concurrency.rejected", "budget", name);
+            } else {
+                this.rejected = null;
+            }
+        }
+
+        private void increment() {
+            if (rejected != null) {
+                rejected.increment();
+            }
+        }
+    }
+}
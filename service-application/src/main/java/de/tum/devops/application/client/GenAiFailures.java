@@ -0,0 +1,20 @@
+package de.tum.devops.application.client;
+
+import io.grpc.Status;
+
+import java.util.Set;
+
+/**
+ * Status codes of gen-ai calls that say the service cannot serve right now, rather than that the request is
+ * wrong. {@code INTERNAL} and {@code UNKNOWN} are what the Python servicer returns while its LLM backend is
+ * down. The circuit breakers count these codes as failures, and {@link AIServiceGrpcClient} reports them as
+ * {@link de.tum.devops.application.exception.GenAiUnavailableException}, so scoring is parked for retry.
+ */
+final class GenAiFailures {
+
+    static final Set<Status.Code> RETRY_LATER = Set.of(Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED, Status.Code.INTERNAL, Status.Code.UNKNOWN);
+
+    private GenAiFailures() {
+    }
+}
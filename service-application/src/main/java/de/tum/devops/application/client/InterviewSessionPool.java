@@ -0,0 +1,340 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.InterviewSessionProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import de.tum.devops.grpc.ai.ChatMessage;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import de.tum.devops.grpc.ai.InterviewSessionRequest;
+import de.tum.devops.grpc.ai.InterviewSessionResponse;
+import de.tum.devops.grpc.ai.InterviewSessionStart;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Long-lived {@code InterviewSession} streams to the gen-ai service, one per chat session.
+ * <p>
+ * The first AI message of a stream opens it with the session's context (resume, job, chat history); later
+ * messages only send the candidate's new turn and the server keeps the conversation. Streams are spread
+ * over a fixed pool of channels by session id, so they are multiplexed over a few HTTP/2 connections.
+ * Inbound flow control is manual: {@code prefetch} tokens are requested ahead and one more after each
+ * token has been delivered, so a slow consumer holds the server back instead of buffering here.
+ * <p>
+ * A stream is reused only while it has produced exactly the AI messages the session has stored and is not
+ * in the middle of one; otherwise, for example after another instance answered a turn, a new stream with
+ * the full context replaces it. Streams without a turn for {@code idle-timeout} are closed, and a message
+ * not finished within {@code turn-timeout} fails its stream with {@link Status#DEADLINE_EXCEEDED}. Each
+ * turn takes an interactive permit of the {@link GenAiConcurrencyInterceptor}, if one is given.
+ * <p>
+ * Every open stream holds a worker thread of the gen-ai server, so at most {@code max-streams} are kept
+ * open. A new stream beyond that retires the least recently active idle one; when every stream is in the
+ * middle of a message, the message is not sent here and the caller falls back to a {@code ChatReply} call.
+ * Concurrent openings may overshoot the limit by a few streams.
+ */
+public class InterviewSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewSessionPool.class);
+
+    private final InterviewSessionProperties properties;
+    private final List<AIServiceGrpc.AIServiceStub> stubs;
+    private final GenAiConcurrencyInterceptor concurrency;
+    private final Map<UUID, SessionStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * @param stubs       one stub per pooled channel
+     * @param concurrency limiter for the turns, null for none
+     */
+    public InterviewSessionPool(InterviewSessionProperties properties, List<AIServiceGrpc.AIServiceStub> stubs,
+                                GenAiConcurrencyInterceptor concurrency, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stubs = List.copyOf(stubs);
+        this.concurrency = concurrency;
+        if (meterRegistry != null) {
+            Gauge.builder("genai.session.streams", streams, Map::size).register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !stubs.isEmpty();
+    }
+
+    /**
+     * Streams the session's next AI message to the observer: {@code onNext} per token and {@code onCompleted}
+     * at its end
+     *
+     * @param aiMessages       AI messages the session has before this one
+     * @param candidateMessage the candidate's new message, already part of the stored history; null when the
+     *                         AI message answers no new candidate message, like the opening question
+     * @param context          context of a new stream, only called when one has to be opened
+     * @return false when the message needs a new stream but {@code max-streams} streams are busy; nothing was
+     * sent and the observer was not called
+     */
+    public boolean nextMessage(UUID sessionId, int aiMessages, String candidateMessage,
+                               Supplier<InterviewSessionStart> context, StreamObserver<ChatReplyResponse> observer) {
+        AdaptiveConcurrencyLimiter.Permit permit = null;
+        if (concurrency != null) {
+            permit = concurrency.acquireInteractive();
+            if (permit == null) {
+                observer.onError(GenAiConcurrencyInterceptor.rejection());
+                return true;
+            }
+        }
+
+        SessionStream current = streams.get(sessionId);
+        if (current != null && candidateMessage != null && current.beginTurn(aiMessages, observer, permit)) {
+            logger.debug("Sending the candidate's turn of session {} on its open stream", sessionId);
+            current.send(InterviewSessionRequest.newBuilder()
+                    .setTurn(ChatMessage.newBuilder()
+                            .setSender(ChatMessage.Sender.SENDER_CANDIDATE)
+                            .setContent(candidateMessage))
+                    .build());
+            return true;
+        }
+
+        if (current == null && !makeRoom()) {
+            logger.info("All {} interview streams are busy, session {} falls back to a ChatReply call",
+                    properties.getMaxStreams(), sessionId);
+            if (permit != null) {
+                permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+            }
+            return false;
+        }
+
+        InterviewSessionStart start;
+        try {
+            start = context.get();
+        } catch (RuntimeException e) {
+            if (permit != null) {
+                permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+            }
+            observer.onError(e);
+            return true;
+        }
+        SessionStream stream = new SessionStream(sessionId, aiMessages, observer, permit);
+        SessionStream replaced = streams.put(sessionId, stream);
+        if (replaced != null) {
+            logger.debug("Replacing the interview stream of session {}", sessionId);
+            replaced.retire();
+        }
+        try {
+            stubs.get(Math.floorMod(sessionId.hashCode(), stubs.size())).interviewSession(stream);
+        } catch (RuntimeException e) {
+            stream.onError(e);
+            return true;
+        }
+        stream.send(InterviewSessionRequest.newBuilder().setStart(start).build());
+        return true;
+    }
+
+    /**
+     * Whether another stream may be opened, after retiring the least recently active idle stream if
+     * {@code max-streams} are open
+     */
+    private boolean makeRoom() {
+        if (streams.size() < properties.getMaxStreams()) {
+            return true;
+        }
+        SessionStream oldest = null;
+        long oldestActive = 0;
+        for (SessionStream stream : streams.values()) {
+            Long idleSince = stream.idleSince();
+            if (idleSince != null && (oldest == null || idleSince - oldestActive < 0)) {
+                oldest = stream;
+                oldestActive = idleSince;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        logger.debug("Retiring the interview stream of session {} to stay within {} streams", oldest.sessionId,
+                properties.getMaxStreams());
+        streams.remove(oldest.sessionId, oldest);
+        oldest.retire();
+        return true;
+    }
+
+    /**
+     * Closes streams that stayed idle for {@code idle-timeout} and fails those whose current message takes
+     * longer than {@code turn-timeout}
+     */
+    @Scheduled(fixedDelayString = "${app.gen-ai.interview-session.sweep-interval:PT15S}")
+    public void closeIdleStreams() {
+        long now = System.nanoTime();
+        streams.values().forEach(stream -> stream.expire(now));
+    }
+
+    private final class SessionStream implements ClientResponseObserver<InterviewSessionRequest, InterviewSessionResponse> {
+
+        private final UUID sessionId;
+
+        private ClientCallStreamObserver<InterviewSessionRequest> requests;
+        private StreamObserver<ChatReplyResponse> turn; // observer of the message being generated, null between turns
+        private AdaptiveConcurrencyLimiter.Permit permit;
+        private int aiMessages;
+        private long lastActive = System.nanoTime(); // start of the current turn or end of the last one
+        private boolean retired;
+        private boolean closed;
+        private Status closeStatus; // reported to the current turn when this side cancels the stream
+
+        private SessionStream(UUID sessionId, int aiMessages, StreamObserver<ChatReplyResponse> turn,
+                              AdaptiveConcurrencyLimiter.Permit permit) {
+            this.sessionId = sessionId;
+            this.aiMessages = aiMessages;
+            this.turn = turn;
+            this.permit = permit;
+        }
+
+        @Override
+        public synchronized void beforeStart(ClientCallStreamObserver<InterviewSessionRequest> requestStream) {
+            this.requests = requestStream;
+            requestStream.disableAutoRequestWithInitial(properties.getPrefetch());
+        }
+
+        private synchronized boolean beginTurn(int aiMessages, StreamObserver<ChatReplyResponse> observer,
+                                               AdaptiveConcurrencyLimiter.Permit permit) {
+            if (closed || retired || turn != null || this.aiMessages != aiMessages) {
+                return false;
+            }
+            this.turn = observer;
+            this.permit = permit;
+            this.lastActive = System.nanoTime();
+            return true;
+        }
+
+        private void send(InterviewSessionRequest request) {
+            ClientCallStreamObserver<InterviewSessionRequest> requests;
+            synchronized (this) {
+                requests = this.requests;
+            }
+            try {
+                requests.onNext(request);
+            } catch (RuntimeException e) {
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onNext(InterviewSessionResponse response) {
+            StreamObserver<ChatReplyResponse> observer;
+            boolean halfClose = false;
+            synchronized (this) {
+                observer = turn;
+                if (response.getTurnComplete() && observer != null) {
+                    turn = null;
+                    aiMessages++;
+                    lastActive = System.nanoTime();
+                    permit = release(permit, AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+                    halfClose = retired;
+                }
+            }
+            if (observer != null) {
+                if (response.getTurnComplete()) {
+                    observer.onCompleted();
+                } else {
+                    observer.onNext(ChatReplyResponse.newBuilder().setAiMessage(response.getAiMessage()).build());
+                }
+            }
+            if (halfClose) {
+                requests.onCompleted();
+            } else {
+                requests.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            end(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            end(Status.UNAVAILABLE.withDescription("Interview session stream ended by the server").asRuntimeException());
+        }
+
+        /**
+         * End of the last message, or null while a message is being generated or the stream is done
+         */
+        private synchronized Long idleSince() {
+            return closed || retired || turn != null ? null : lastActive;
+        }
+
+        /**
+         * Closes the stream once its current message is done; it no longer takes turns
+         */
+        private void retire() {
+            boolean halfClose;
+            synchronized (this) {
+                halfClose = !retired && !closed && turn == null && requests != null;
+                retired = true;
+            }
+            if (halfClose) {
+                requests.onCompleted();
+            }
+        }
+
+        private void expire(long now) {
+            boolean timedOut;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                timedOut = turn != null && now - lastActive > properties.getTurnTimeout().toNanos();
+                if (!timedOut && (turn != null || now - lastActive <= properties.getIdleTimeout().toNanos())) {
+                    return;
+                }
+                if (timedOut) {
+                    closeStatus = Status.DEADLINE_EXCEEDED.withDescription("Interview session message timed out");
+                }
+            }
+            streams.remove(sessionId, this);
+            if (timedOut) {
+                logger.warn("AI message of session {} not finished after {}, closing its stream", sessionId,
+                        properties.getTurnTimeout());
+                requests.cancel("AI message timed out", null);
+            } else {
+                logger.debug("Closing idle interview stream of session {}", sessionId);
+                retire();
+            }
+        }
+
+        private void end(Throwable t) {
+            StreamObserver<ChatReplyResponse> observer;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (closeStatus != null) {
+                    t = closeStatus.asRuntimeException();
+                }
+                observer = turn;
+                turn = null;
+                permit = release(permit, GenAiConcurrencyInterceptor.outcome(Status.fromThrowable(t)));
+            }
+            streams.remove(sessionId, this);
+            if (observer != null) {
+                observer.onError(t);
+            }
+        }
+
+        private AdaptiveConcurrencyLimiter.Permit release(AdaptiveConcurrencyLimiter.Permit permit,
+                                                          AdaptiveConcurrencyLimiter.Outcome outcome) {
+            if (permit != null) {
+                permit.release(outcome);
+            }
+            return null;
+        }
+    }
+}
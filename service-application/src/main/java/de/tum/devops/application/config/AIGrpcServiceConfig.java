@@ -1,19 +1,94 @@
 package de.tum.devops.application.config;
 
+import de.tum.devops.application.client.GenAiCircuitBreakerInterceptor;
+import de.tum.devops.application.client.GenAiConcurrencyInterceptor;
+import de.tum.devops.application.client.InterviewSessionPool;
 import de.tum.devops.grpc.ai.AIServiceGrpc;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.grpc.client.GrpcChannelFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class AIGrpcServiceConfig {
     @Bean
-    AIServiceGrpc.AIServiceBlockingStub blockingStub(GrpcChannelFactory channels) {
-        return AIServiceGrpc.newBlockingStub(channels.createChannel("gen-ai"));
+    AIServiceGrpc.AIServiceBlockingStub blockingStub(GrpcChannelFactory channels, RemoteCallGuard remoteCallGuard,
+                                                     GenAiConcurrencyProperties concurrencyProperties,
+                                                     GenAiConcurrencyInterceptor concurrencyInterceptor,
+                                                     GenAiCircuitBreakerProperties circuitBreakerProperties,
+                                                     GenAiCircuitBreakerInterceptor circuitBreakerInterceptor) {
+        return AIServiceGrpc.newBlockingStub(genAiChannel(channels, remoteCallGuard, concurrencyProperties,
+                concurrencyInterceptor, circuitBreakerProperties, circuitBreakerInterceptor));
+    }
+
+    @Bean
+    AIServiceGrpc.AIServiceStub asyncStub(GrpcChannelFactory channels, RemoteCallGuard remoteCallGuard,
+                                          GenAiConcurrencyProperties concurrencyProperties,
+                                          GenAiConcurrencyInterceptor concurrencyInterceptor,
+                                          GenAiCircuitBreakerProperties circuitBreakerProperties,
+                                          GenAiCircuitBreakerInterceptor circuitBreakerInterceptor) {
+        return AIServiceGrpc.newStub(genAiChannel(channels, remoteCallGuard, concurrencyProperties,
+                concurrencyInterceptor, circuitBreakerProperties, circuitBreakerInterceptor));
+    }
+
+    /**
+     * Interview session streams on their own pool of channels, each with the same interceptors as the stubs
+     */
+    @Bean
+    InterviewSessionPool interviewSessionPool(GrpcChannelFactory channels, RemoteCallGuard remoteCallGuard,
+                                              InterviewSessionProperties properties,
+                                              GenAiConcurrencyProperties concurrencyProperties,
+                                              GenAiConcurrencyInterceptor concurrencyInterceptor,
+                                              GenAiCircuitBreakerProperties circuitBreakerProperties,
+                                              GenAiCircuitBreakerInterceptor circuitBreakerInterceptor,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        List<AIServiceGrpc.AIServiceStub> stubs = new ArrayList<>();
+        for (int i = 0; properties.isEnabled() && i < properties.getChannels(); i++) {
+            stubs.add(AIServiceGrpc.newStub(genAiChannel(channels, remoteCallGuard, concurrencyProperties,
+                    concurrencyInterceptor, circuitBreakerProperties, circuitBreakerInterceptor)));
+        }
+        return new InterviewSessionPool(properties, stubs,
+                concurrencyProperties.isEnabled() ? concurrencyInterceptor : null, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * One limiter for both stubs, so blocking and streaming calls share the budgets
+     */
+    @Bean
+    GenAiConcurrencyInterceptor genAiConcurrencyInterceptor(GenAiConcurrencyProperties properties,
+                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new GenAiConcurrencyInterceptor(properties, meterRegistry.getIfAvailable());
     }
 
+    /**
+     * One breaker per RPC, shared by both stubs
+     */
     @Bean
-    AIServiceGrpc.AIServiceStub asyncStub(GrpcChannelFactory channels) {
-        return AIServiceGrpc.newStub(channels.createChannel("gen-ai"));
+    GenAiCircuitBreakerInterceptor genAiCircuitBreakerInterceptor(GenAiCircuitBreakerProperties properties,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        return new GenAiCircuitBreakerInterceptor(properties, meterRegistry.getIfAvailable());
+    }
+
+    private static Channel genAiChannel(GrpcChannelFactory channels, RemoteCallGuard remoteCallGuard,
+                                        GenAiConcurrencyProperties concurrencyProperties,
+                                        GenAiConcurrencyInterceptor concurrencyInterceptor,
+                                        GenAiCircuitBreakerProperties circuitBreakerProperties,
+                                        GenAiCircuitBreakerInterceptor circuitBreakerInterceptor) {
+        Channel channel = channels.createChannel("gen-ai");
+        if (concurrencyProperties.isEnabled()) {
+            channel = ClientInterceptors.intercept(channel, concurrencyInterceptor);
+        }
+        // Before the limiter, so calls on an open circuit neither wait for nor take a permit
+        if (circuitBreakerProperties.isEnabled()) {
+            channel = ClientInterceptors.intercept(channel, circuitBreakerInterceptor);
+        }
+        // Outermost, so a call made inside a transaction is reported before it waits for a permit
+        return ClientInterceptors.intercept(channel, remoteCallGuard.clientInterceptor());
     }
-}
\ No newline at end of file
+}
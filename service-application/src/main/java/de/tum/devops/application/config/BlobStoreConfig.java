@@ -0,0 +1,83 @@
+package de.tum.devops.application.config;
+
+import de.tum.devops.application.storage.BlobCodec;
+import de.tum.devops.application.storage.BlobStore;
+import de.tum.devops.application.storage.CompressingBlobStore;
+import de.tum.devops.application.storage.FileSystemBlobStore;
+import de.tum.devops.application.storage.S3BlobStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.util.Locale;
+import java.nio.file.Paths;
+
+/**
+ * Selects the resume blob store backend via {@code app.file.storage}
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    /**
+     * Local volume (default). Requires a shared volume when running more than one replica.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "filesystem", matchIfMissing = true)
+    public BlobStore fileSystemBlobStore(FileStorageProperties fileStorageProperties) {
+        return withCompression(new FileSystemBlobStore(Paths.get(fileStorageProperties.getUploadDir())),
+                fileStorageProperties);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "s3")
+    public S3Client s3Client(FileStorageProperties fileStorageProperties) {
+        FileStorageProperties.S3 s3 = fileStorageProperties.getS3();
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3.getRegion()))
+                .forcePathStyle(s3.isPathStyleAccess());
+
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        if (StringUtils.hasText(s3.getAccessKey()) && StringUtils.hasText(s3.getSecretKey())) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.builder().build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * S3-compatible object store, lets replicas scale out without a shared RWX volume
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "s3")
+    public BlobStore s3BlobStore(S3Client s3Client, FileStorageProperties fileStorageProperties) {
+        FileStorageProperties.S3 s3 = fileStorageProperties.getS3();
+        if (!StringUtils.hasText(s3.getBucket())) {
+            throw new IllegalStateException("app.file.s3.bucket must be set when app.file.storage=s3");
+        }
+        return withCompression(
+                new S3BlobStore(s3Client, s3.getBucket(), s3.getKeyPrefix(), s3.getPartSize(), s3.isCreateBucket()),
+                fileStorageProperties);
+    }
+
+    /**
+     * Wrap the backend with {@link CompressingBlobStore}, also for {@code app.file.compression.codec=none},
+     * which stores new files raw but still decompresses files written while compression was enabled.
+     */
+    private static BlobStore withCompression(BlobStore store, FileStorageProperties fileStorageProperties) {
+        FileStorageProperties.Compression compression = fileStorageProperties.getCompression();
+        BlobCodec codec = BlobCodec.valueOf(compression.getCodec().trim().toUpperCase(Locale.ROOT));
+        return new CompressingBlobStore(store, codec, compression.getLevel(), compression.getMinSavings());
+    }
+}
@@ -0,0 +1,51 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for chat message partitioning and archival ({@code app.chat.archive})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.chat.archive")
+public class ChatArchiveProperties {
+
+    private boolean enabled = true;
+    private Duration completedFor = Duration.ofDays(30); // sessions completed longer ago are archived
+    private int batchSize = 200; // sessions per archive transaction
+    private int monthsAhead = 2; // monthly partitions created ahead of the current month
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getCompletedFor() {
+        return completedFor;
+    }
+
+    public void setCompletedFor(Duration completedFor) {
+        this.completedFor = completedFor;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+}
@@ -0,0 +1,42 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for resumable AI reply streams ({@code app.chat.stream})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.chat.stream")
+public class ChatStreamProperties {
+
+    private int bufferBytes = 64 * 1024; // recent reply chunks kept per session for replay, UTF-8
+    private Duration retention = Duration.ofMinutes(2); // a finished stream can be resumed this long
+    private Duration maxDuration = Duration.ofMinutes(10); // streams that never finish are dropped after this
+
+    public int getBufferBytes() {
+        return bufferBytes;
+    }
+
+    public void setBufferBytes(int bufferBytes) {
+        this.bufferBytes = bufferBytes;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+}
@@ -0,0 +1,24 @@
+package de.tum.devops.application.config;
+
+import de.tum.devops.application.embedding.Embedder;
+import de.tum.devops.application.embedding.HashingEmbedder;
+import de.tum.devops.application.service.CandidateMatchingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the {@link Embedder} via {@code app.embedding.provider}
+ */
+@Configuration
+public class EmbeddingConfig {
+
+    /**
+     * Local feature-hashing embedder (default), deterministic and free of remote calls
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.embedding", name = "provider", havingValue = "hashing", matchIfMissing = true)
+    public Embedder hashingEmbedder() {
+        return new HashingEmbedder(CandidateMatchingService.DIMENSIONS);
+    }
+}
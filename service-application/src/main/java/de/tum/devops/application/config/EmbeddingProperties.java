@@ -0,0 +1,31 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for semantic matching embeddings ({@code app.embedding})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.embedding")
+public class EmbeddingProperties {
+
+    private String provider = "hashing"; // embedder implementation, see EmbeddingConfig
+    private int efSearch = 100; // HNSW candidate list size per query, higher is more exact and slower
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public int getEfSearch() {
+        return efSearch;
+    }
+
+    public void setEfSearch(int efSearch) {
+        this.efSearch = efSearch;
+    }
+}
@@ -17,7 +17,7 @@ public class FileStorageConfig {
     @Bean
     public CommandLineRunner initFileStorage(FileStorageService fileStorageService) {
         return args -> {
-            fileStorageService.initializeUploadDirectory();
+            fileStorageService.initializeStorage();
         };
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ public class FileStorageProperties {
 
     @Value("${app.file.upload-dir}")
     private String uploadDir;
+    private String storage = "filesystem"; // filesystem | s3
     private long maxFileSize = 10 * 1024 * 1024; // 10MB
     private String[] allowedExtensions = {".pdf", ".doc", ".docx"};
     private String[] allowedContentTypes = {
@@ -20,12 +21,22 @@ public class FileStorageProperties {
             "application/msword",
             "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
     };
+    private final S3 s3 = new S3();
+    private final Compression compression = new Compression();
 
     // Getters and Setters
     public String getUploadDir() {
         return uploadDir;
     }
 
+    public String getStorage() {
+        return storage;
+    }
+
+    public void setStorage(String storage) {
+        this.storage = storage;
+    }
+
     public long getMaxFileSize() {
         return maxFileSize;
     }
@@ -49,4 +60,134 @@ public class FileStorageProperties {
     public void setAllowedContentTypes(String[] allowedContentTypes) {
         this.allowedContentTypes = allowedContentTypes;
     }
-}
\ No newline at end of file
+
+    public S3 getS3() {
+        return s3;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Optional compression of stored resume files ({@code app.file.compression})
+     */
+    public static class Compression {
+
+        private String codec = "none"; // none | deflate | zstd
+        private int level = -1; // codec default
+        private double minSavings = 0.05; // keep the raw file unless compression saves at least 5%
+
+        public String getCodec() {
+            return codec;
+        }
+
+        public void setCodec(String codec) {
+            this.codec = codec;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public double getMinSavings() {
+            return minSavings;
+        }
+
+        public void setMinSavings(double minSavings) {
+            this.minSavings = minSavings;
+        }
+    }
+
+    /**
+     * Settings for the S3-compatible backend ({@code app.file.storage=s3})
+     */
+    public static class S3 {
+
+        private String bucket;
+        private String region = "eu-central-1";
+        private String endpoint; // set for MinIO / non-AWS endpoints
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = false;
+        private String keyPrefix = "";
+        private int partSize = 5 * 1024 * 1024; // 5MB, the S3 minimum for multipart parts
+        private boolean createBucket = false;
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getAccessKey() {
+            return accessKey;
+        }
+
+        public void setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        public String getSecretKey() {
+            return secretKey;
+        }
+
+        public void setSecretKey(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        public boolean isPathStyleAccess() {
+            return pathStyleAccess;
+        }
+
+        public void setPathStyleAccess(boolean pathStyleAccess) {
+            this.pathStyleAccess = pathStyleAccess;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public int getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(int partSize) {
+            this.partSize = partSize;
+        }
+
+        public boolean isCreateBucket() {
+            return createBucket;
+        }
+
+        public void setCreateBucket(boolean createBucket) {
+            this.createBucket = createBucket;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the per-RPC circuit breakers on gen-ai calls ({@code app.gen-ai.circuit-breaker})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.gen-ai.circuit-breaker")
+public class GenAiCircuitBreakerProperties {
+
+    private boolean enabled = true;
+    private int windowSize = 20; // recent calls the failure rate is computed over
+    private int minimumCalls = 5; // calls in the window before the breaker may open
+    private double failureRateThreshold = 0.5;
+    private Duration openDuration = Duration.ofSeconds(30); // calls are rejected this long before a probe
+    private int halfOpenProbes = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+}
@@ -0,0 +1,113 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the adaptive concurrency limits on gen-ai calls ({@code app.gen-ai.concurrency}).
+ * Interactive calls (chat replies, Q&amp;A) and background calls (resume and interview scoring) have separate
+ * budgets.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.gen-ai.concurrency")
+public class GenAiConcurrencyProperties {
+
+    private boolean enabled = true;
+    private double backoffRatio = 0.9; // limit multiplier after an overloaded or slow call
+    private Budget interactive = new Budget(20, 2, 100, Duration.ZERO, Duration.ofSeconds(30));
+    private Budget background = new Budget(4, 1, 20, Duration.ofSeconds(30), Duration.ofSeconds(20));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public Budget getInteractive() {
+        return interactive;
+    }
+
+    public void setInteractive(Budget interactive) {
+        this.interactive = interactive;
+    }
+
+    public Budget getBackground() {
+        return background;
+    }
+
+    public void setBackground(Budget background) {
+        this.background = background;
+    }
+
+    public static class Budget {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration maxWait; // how long a call waits for a free slot before it is rejected
+        private Duration slowCallThreshold; // successful calls slower than this count as overload
+
+        public Budget() {
+        }
+
+        public Budget(int initialLimit, int minLimit, int maxLimit, Duration maxWait, Duration slowCallThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxWait = maxWait;
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+    }
+}
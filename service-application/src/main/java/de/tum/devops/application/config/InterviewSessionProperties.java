@@ -0,0 +1,70 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the interview session streams to the gen-ai service
+ * ({@code app.gen-ai.interview-session})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.gen-ai.interview-session")
+public class InterviewSessionProperties {
+
+    private boolean enabled = true; // false sends every AI message as a ChatReply call with the full context
+    private int channels = 4; // pooled channels the session streams are spread over
+    private Duration idleTimeout = Duration.ofMinutes(2); // a stream without a turn for this long is closed
+    private Duration turnTimeout = Duration.ofSeconds(60); // an AI message not finished after this fails its stream
+    private int prefetch = 16; // tokens requested ahead of the ones delivered, per stream
+    private int maxStreams = 16; // open streams, each holds a gen-ai server worker; keep below GRPC_MAX_WORKERS
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public void setChannels(int channels) {
+        this.channels = channels;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Duration getTurnTimeout() {
+        return turnTimeout;
+    }
+
+    public void setTurnTimeout(Duration turnTimeout) {
+        this.turnTimeout = turnTimeout;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getMaxStreams() {
+        return maxStreams;
+    }
+
+    public void setMaxStreams(int maxStreams) {
+        this.maxStreams = maxStreams;
+    }
+}
@@ -0,0 +1,88 @@
+package de.tum.devops.application.config;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Locale;
+
+/**
+ * Detects outbound HTTP and gRPC calls made while the calling thread holds a JDBC connection, i.e.
+ * inside a transaction. Such calls keep a pooled connection idle for the whole round-trip to the
+ * remote service.
+ * <p>
+ * Applied to every {@link WebClient} built from the auto-configured builder and, through
+ * {@link #clientInterceptor()}, to the gen-ai gRPC stubs. {@code app.remote-call-guard.mode} selects
+ * {@code off}, {@code warn} (log) or {@code fail} (throw, used by tests).
+ */
+@Component
+public class RemoteCallGuard implements WebClientCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteCallGuard.class);
+
+    public enum Mode {OFF, WARN, FAIL}
+
+    private final Mode mode;
+
+    public RemoteCallGuard(@Value("${app.remote-call-guard.mode:warn}") String mode) {
+        this(Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    public RemoteCallGuard(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Checks the current thread before a remote call to {@code target}.
+     *
+     * @throws IllegalStateException in {@code fail} mode when a connection is held
+     */
+    public void check(String target) {
+        if (mode == Mode.OFF || !holdsConnection()) {
+            return;
+        }
+        String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (mode == Mode.FAIL) {
+            throw new IllegalStateException("Remote call to " + target
+                    + " while holding a JDBC connection (transaction " + transaction + ")");
+        }
+        logger.warn("Remote call to {} while holding a JDBC connection (transaction {})", target, transaction);
+    }
+
+    @Override
+    public void customize(WebClient.Builder builder) {
+        builder.filter((request, next) -> {
+            check(request.method() + " " + request.url().getHost());
+            return next.exchange(request);
+        });
+    }
+
+    public ClientInterceptor clientInterceptor() {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                       CallOptions callOptions, Channel next) {
+                check(method.getFullMethodName());
+                return next.newCall(method, callOptions);
+            }
+        };
+    }
+
+    private static boolean holdsConnection() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return true;
+        }
+        return TransactionSynchronizationManager.getResourceMap().values().stream()
+                .anyMatch(ConnectionHolder.class::isInstance);
+    }
+}
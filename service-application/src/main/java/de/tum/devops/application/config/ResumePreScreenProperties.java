@@ -0,0 +1,49 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the lexical resume pre-screen ({@code app.resume-prescreen})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.resume-prescreen")
+public class ResumePreScreenProperties {
+
+    private float threshold = 0; // pre-score below which new resumes are not sent to the LLM, 0 disables
+    private float k1 = 1.2f;
+    private float b = 0.75f;
+    private int averageResumeTokens = 400;
+
+    public float getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(float threshold) {
+        this.threshold = threshold;
+    }
+
+    public float getK1() {
+        return k1;
+    }
+
+    public void setK1(float k1) {
+        this.k1 = k1;
+    }
+
+    public float getB() {
+        return b;
+    }
+
+    public void setB(float b) {
+        this.b = b;
+    }
+
+    public int getAverageResumeTokens() {
+        return averageResumeTokens;
+    }
+
+    public void setAverageResumeTokens(int averageResumeTokens) {
+        this.averageResumeTokens = averageResumeTokens;
+    }
+}
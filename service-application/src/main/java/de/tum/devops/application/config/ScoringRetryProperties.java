@@ -0,0 +1,70 @@
+package de.tum.devops.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for retrying scoring parked while the gen-ai service was unavailable
+ * ({@code app.gen-ai.scoring-retry})
+ */
+@Component
+@ConfigurationProperties(prefix = "app.gen-ai.scoring-retry")
+public class ScoringRetryProperties {
+
+    private boolean enabled = true;
+    private Duration baseDelay = Duration.ofSeconds(30); // delay before the first retry, doubled per attempt
+    private Duration maxDelay = Duration.ofMinutes(30);
+    private Duration lease = Duration.ofMinutes(5); // a claimed retry is handed out again after this long
+    private int batchSize = 20; // retries per worker run
+    private int maxAttempts = 10; // dropped after this many failures other than an unavailable service
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public void setBaseDelay(Duration baseDelay) {
+        this.baseDelay = baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -1,6 +1,10 @@
 package de.tum.devops.application.config;
 
+import de.tum.devops.common.security.JwtDecoderCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -29,13 +33,14 @@ import java.util.List;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity()
+@EnableConfigurationProperties(JwtDecoderCacheProperties.class)
 public class SecurityConfig {
 
     @Value("${app.jwt.public-key}")
     private String publicKeyString;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
@@ -53,20 +58,25 @@ public class SecurityConfig {
                         .anyRequest().authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
-                                .decoder(jwtDecoder())
+                                .decoder(jwtDecoder)
                                 .jwtAuthenticationConverter(jwtAuthenticationConverter())));
 
         return http.build();
     }
 
+    /**
+     * Verifies bearer tokens against the auth service's public key
+     */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(JwtDecoderCacheProperties decoderCache, ObjectProvider<MeterRegistry> meterRegistry) {
+        JwtDecoder decoder;
         try {
             RSAPublicKey publicKey = parsePublicKey(publicKeyString);
-            return NimbusJwtDecoder.withPublicKey(publicKey).build();
+            decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse JWT public key", e);
         }
+        return decoderCache.decorate(decoder, meterRegistry.getIfAvailable());
     }
 
     @Bean
@@ -124,4 +134,4 @@ public class SecurityConfig {
         KeyFactory factory = KeyFactory.getInstance("RSA");
         return (RSAPublicKey) factory.generatePublic(spec);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
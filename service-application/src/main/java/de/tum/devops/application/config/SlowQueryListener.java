@@ -0,0 +1,92 @@
+package de.tum.devops.application.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Logs statements that took longer than the threshold as structured events.
+ * <p>
+ * Fast statements cost one comparison. Bind values are never logged, only their Java types, and
+ * string literals inlined in the SQL text are masked, so resume text and chat content stay out of the logs.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+    private final int maxQueryLength;
+    private final DoubleSupplier random;
+
+    public SlowQueryListener(SlowQueryLogProperties properties) {
+        this(properties, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SlowQueryListener(SlowQueryLogProperties properties, DoubleSupplier random) {
+        this.thresholdMillis = properties.getThreshold().toMillis();
+        this.sampleRate = properties.getSampleRate();
+        this.maxQueryLength = properties.getMaxQueryLength();
+        this.random = random;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMillis || !logger.isWarnEnabled()) {
+            return;
+        }
+        if (sampleRate < 1.0 && random.getAsDouble() >= sampleRate) {
+            return;
+        }
+
+        String query = queryInfoList.stream()
+                .map(q -> redact(q.getQuery()))
+                .collect(Collectors.joining("; "));
+        String parameterTypes = queryInfoList.isEmpty() || queryInfoList.getFirst().getParametersList().isEmpty()
+                ? ""
+                : parameterTypes(queryInfoList.getFirst().getParametersList().getFirst());
+
+        logger.warn("Slow query took {} ms", elapsed,
+                kv("elapsed_ms", elapsed),
+                kv("threshold_ms", thresholdMillis),
+                kv("datasource", execInfo.getDataSourceName()),
+                kv("batch_size", execInfo.isBatch() ? execInfo.getBatchSize() : 0),
+                kv("success", execInfo.isSuccess()),
+                kv("query", query),
+                kv("parameter_types", parameterTypes));
+    }
+
+    String redact(String query) {
+        String redacted = STRING_LITERAL.matcher(query.strip().replaceAll("\\s+", " ")).replaceAll("'?'");
+        return redacted.length() > maxQueryLength ? redacted.substring(0, maxQueryLength) + "..." : redacted;
+    }
+
+    private static String parameterTypes(List<ParameterSetOperation> parameters) {
+        return parameters.stream()
+                .map(p -> {
+                    Object[] args = p.getArgs();
+                    Object value = args != null && args.length > 1 ? args[1] : null;
+                    return value == null || "setNull".equals(p.getMethod().getName())
+                            ? "null" : value.getClass().getSimpleName();
+                })
+                .collect(Collectors.joining(","));
+    }
+}
@@ -4,12 +4,17 @@ import de.tum.devops.application.dto.*;
 import de.tum.devops.application.persistence.entity.ChatSession;
 import de.tum.devops.application.persistence.enums.ApplicationStatus;
 import de.tum.devops.application.service.AIIntegrationService;
+import de.tum.devops.application.service.ApplicationSearchService;
 import de.tum.devops.application.service.ApplicationService;
+import de.tum.devops.application.service.CandidateMatchingService;
 import de.tum.devops.application.service.ChatService;
+import de.tum.devops.application.service.JobApplicationStatsService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -23,7 +28,9 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,11 +48,19 @@ public class ApplicationController {
     private final ApplicationService applicationService;
     private final ChatService chatService;
     private final AIIntegrationService aiIntegrationService;
+    private final JobApplicationStatsService jobApplicationStatsService;
+    private final ApplicationSearchService applicationSearchService;
+    private final CandidateMatchingService candidateMatchingService;
 
-    public ApplicationController(ApplicationService applicationService, ChatService chatService, AIIntegrationService aiIntegrationService) {
+    public ApplicationController(ApplicationService applicationService, ChatService chatService, AIIntegrationService aiIntegrationService,
+                                 JobApplicationStatsService jobApplicationStatsService, ApplicationSearchService applicationSearchService,
+                                 CandidateMatchingService candidateMatchingService) {
         this.applicationService = applicationService;
         this.chatService = chatService;
         this.aiIntegrationService = aiIntegrationService;
+        this.jobApplicationStatsService = jobApplicationStatsService;
+        this.applicationSearchService = applicationSearchService;
+        this.candidateMatchingService = candidateMatchingService;
     }
 
     @PostMapping
@@ -66,6 +81,17 @@ public class ApplicationController {
             logger.error("Failed to score resume for application {}", applicationDto.getApplicationId(), e);
             // Don't fail the application submission if scoring fails
         }
+        try {
+            candidateMatchingService.indexApplicationAsync(applicationDto.getApplicationId());
+        } catch (Exception e) {
+            logger.error("Failed to index embeddings for application {}", applicationDto.getApplicationId(), e);
+        }
+        // The application starts in AI_SCREENING: prepare the interview's opening question
+        try {
+            chatService.pregenerateOpeningQuestion(applicationDto.getApplicationId(), UUID.fromString(jwt.getSubject()));
+        } catch (Exception e) {
+            logger.error("Failed to start opening question generation for application {}", applicationDto.getApplicationId(), e);
+        }
         logger.info("Application submitted successfully with ID: {}", applicationDto.getApplicationId());
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.created(applicationDto));
     }
@@ -85,6 +111,40 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved", pagedResponse));
     }
 
+    /**
+     * Application counts by status, decision, recommendation and score for one job - only accessible by HR
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<ApiResponse<JobApplicationStatsDto>> getJobApplicationStats(@RequestParam UUID jobId) {
+        JobApplicationStatsDto stats = jobApplicationStatsService.getStats(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Application statistics retrieved", stats));
+    }
+
+    /**
+     * Full-text search over resumes and HR comments, best match first - only accessible by HR
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<ApiResponse<ApplicationSearchResultDto>> searchApplications(@RequestParam @NotBlank @Size(max = 200) String q,
+                                                                                      @RequestParam(required = false) UUID jobId,
+                                                                                      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+                                                                                      @RequestParam(required = false) String cursor) {
+        ApplicationSearchResultDto result = applicationSearchService.search(q, jobId, limit, cursor);
+        return ResponseEntity.ok(ApiResponse.success("Applications found", result));
+    }
+
+    /**
+     * Open jobs semantically close to the candidate's latest resume that they have not applied to - only accessible by candidates
+     */
+    @GetMapping("/similar-jobs")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public ResponseEntity<ApiResponse<List<JobMatchDto>>> getSimilarJobs(@RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit,
+                                                                       @AuthenticationPrincipal Jwt jwt) {
+        List<JobMatchDto> matches = candidateMatchingService.findSimilarJobsForCandidate(UUID.fromString(jwt.getSubject()), limit);
+        return ResponseEntity.ok(ApiResponse.success("Similar jobs retrieved", matches));
+    }
+
     @GetMapping("/{applicationId}")
     @PreAuthorize("hasRole('HR') or hasRole('CANDIDATE')")
     public ResponseEntity<ApiResponse<ApplicationDto>> getApplicationById(@PathVariable UUID applicationId,
@@ -127,6 +187,26 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success("Session retrieved", chatInitializationDto));
     }
 
+    /**
+     * Streaming variant of {@link #createOrGetChatSession}: a {@code session} event, then the opening question
+     * as {@code message-chunk} events while it is generated and {@code stream-end} with the stored message
+     */
+    @PostMapping(value = "/{applicationId}/chat/stream", produces = "text/event-stream")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public SseEmitter createOrGetChatSessionStream(@PathVariable UUID applicationId,
+                                                   @AuthenticationPrincipal Jwt jwt) {
+        logger.info("Candidate {} initializing chat for application {} (stream)", jwt.getSubject(), applicationId);
+
+        SseEmitter emitter = new SseEmitter(30_000L); // 30-second timeout
+
+        emitter.onTimeout(() -> logger.warn("Chat initialization stream timed out for application {}", applicationId));
+        emitter.onError(e -> logger.error("Chat initialization stream error for application {}", applicationId, e));
+
+        chatService.initiateChatSessionStream(applicationId, UUID.fromString(jwt.getSubject()), emitter);
+
+        return emitter;
+    }
+
     @PostMapping("/{applicationId}/chat/complete")
     @PreAuthorize("hasRole('CANDIDATE')")
     public ResponseEntity<ApiResponse<Null>> completeChatSession(@PathVariable UUID applicationId,
@@ -139,4 +219,4 @@ public class ApplicationController {
         logger.info("Chat session for application {} completed successfully", applicationId);
         return ResponseEntity.ok(ApiResponse.success("Chat session completed successfully.", null));
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
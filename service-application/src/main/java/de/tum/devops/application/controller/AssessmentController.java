@@ -2,15 +2,25 @@ package de.tum.devops.application.controller;
 
 import de.tum.devops.application.dto.ApiResponse;
 import de.tum.devops.application.dto.AssessmentDto;
+import de.tum.devops.application.dto.CandidateMatchDto;
+import de.tum.devops.application.dto.LeaderboardEntryDto;
 import de.tum.devops.application.persistence.entity.Assessment;
 import de.tum.devops.application.service.AIIntegrationService;
+import de.tum.devops.application.service.ApplicationService;
+import de.tum.devops.application.service.CandidateMatchingService;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -19,39 +29,74 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/v1/assessments")
 @CrossOrigin(origins = "*")
+@Validated
 public class AssessmentController {
 
     private static final Logger logger = LoggerFactory.getLogger(AssessmentController.class);
 
     private final AIIntegrationService aiIntegrationService;
+    private final ApplicationService applicationService;
+    private final CandidateMatchingService candidateMatchingService;
 
-    public AssessmentController(AIIntegrationService aiIntegrationService) {
+    public AssessmentController(AIIntegrationService aiIntegrationService, ApplicationService applicationService,
+                                CandidateMatchingService candidateMatchingService) {
         this.aiIntegrationService = aiIntegrationService;
+        this.applicationService = applicationService;
+        this.candidateMatchingService = candidateMatchingService;
     }
 
     /**
-     * Trigger resume scoring for an application
+     * Top applicants of a job by resume plus interview score
+     */
+    @GetMapping("/jobs/{jobId}/leaderboard")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getLeaderboard(@PathVariable UUID jobId,
+                                                                                 @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit,
+                                                                                 @RequestParam(required = false) @DecimalMin("0.0") @DecimalMax("100.0") Float minScore) {
+        List<LeaderboardEntryDto> leaderboard = applicationService.getLeaderboard(jobId, limit, minScore);
+        return ResponseEntity.ok(ApiResponse.success("Leaderboard retrieved", leaderboard));
+    }
+
+    /**
+     * Applications whose resumes are semantically closest to the job posting, across all jobs unless
+     * {@code appliedOnly}
+     */
+    @GetMapping("/jobs/{jobId}/matches")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<ApiResponse<List<CandidateMatchDto>>> getCandidateMatches(@PathVariable UUID jobId,
+                                                                                    @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit,
+                                                                                    @RequestParam(defaultValue = "false") boolean appliedOnly) {
+        List<CandidateMatchDto> matches = candidateMatchingService.findCandidatesForJob(jobId, limit, appliedOnly);
+        return ResponseEntity.ok(ApiResponse.success("Candidate matches retrieved", matches));
+    }
+
+    /**
+     * Trigger resume scoring for an application; a stored score for the same resume and job posting is
+     * returned unless {@code force} is set
      */
     @PostMapping("/applications/{applicationId}/score-resume")
     @PreAuthorize("hasRole('HR')")
     public ResponseEntity<ApiResponse<AssessmentDto>> scoreResume(@PathVariable UUID applicationId,
+                                                                  @RequestParam(defaultValue = "false") boolean force,
                                                                   @AuthenticationPrincipal String userId) {
         logger.info("HR {} triggered resume scoring for application {}", userId, applicationId);
-        Assessment assessment = aiIntegrationService.scoreResumeSync(applicationId);
+        Assessment assessment = aiIntegrationService.scoreResumeSync(applicationId, force);
         AssessmentDto assessmentDto = new AssessmentDto(assessment);
         return ResponseEntity.ok(ApiResponse.success("Resume scored successfully", assessmentDto));
     }
 
     /**
-     * Trigger interview scoring for an application
+     * Trigger interview scoring for an application; a stored score for the same transcript and job posting
+     * is returned unless {@code force} is set
      */
     @PostMapping("/applications/{applicationId}/score-interview")
     @PreAuthorize("hasRole('HR')")
     public ResponseEntity<ApiResponse<AssessmentDto>> scoreInterview(@PathVariable UUID applicationId,
+                                                                     @RequestParam(defaultValue = "false") boolean force,
                                                                      @AuthenticationPrincipal String userId) {
         logger.info("HR {} triggered interview scoring for application {}", userId, applicationId);
-        Assessment assessment = aiIntegrationService.scoreInterviewSync(applicationId);
+        Assessment assessment = aiIntegrationService.scoreInterviewSync(applicationId, force);
         AssessmentDto assessmentDto = new AssessmentDto(assessment);
         return ResponseEntity.ok(ApiResponse.success("Interview scored successfully", assessmentDto));
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -61,6 +61,28 @@ public class ChatController {
         return emitter;
     }
 
+    /**
+     * Reconnects to the AI reply currently streamed for the session; with {@code Last-Event-ID} only the
+     * events after that one are sent
+     */
+    @GetMapping(value = "/{sessionId}/messages/stream", produces = "text/event-stream")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public SseEmitter resumeMessageStream(@PathVariable UUID sessionId,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                          @AuthenticationPrincipal Jwt jwt) {
+        String userId = jwt.getSubject();
+        logger.info("Candidate {} resuming message stream of session {}", userId, sessionId);
+
+        SseEmitter emitter = new SseEmitter(30_000L); // 30-second timeout
+
+        emitter.onTimeout(() -> logger.warn("Resumed SSE stream timed out for session {}", sessionId));
+        emitter.onError(e -> logger.error("Resumed SSE stream error for session {}", sessionId, e));
+
+        chatService.resumeAiResponseStream(sessionId, UUID.fromString(userId), lastEventId, emitter);
+
+        return emitter;
+    }
+
     @GetMapping("/{sessionId}/messages")
     @PreAuthorize("hasRole('CANDIDATE') or hasRole('HR')")
     public ResponseEntity<ApiResponse<PagedResponseDto<ChatMessageDto>>> getMessages(@PathVariable UUID sessionId,
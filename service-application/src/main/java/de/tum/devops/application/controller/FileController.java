@@ -7,9 +7,10 @@ import de.tum.devops.application.service.ApplicationService;
 import de.tum.devops.application.service.FileStorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +21,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
-import java.net.MalformedURLException;
-import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,11 +45,13 @@ public class FileController {
 
     /**
      * Download resume file by application ID
-     * Only HR can download any resume, candidates can only download their own
+     * Only HR can download any resume, candidates can only download their own.
+     * A single {@code Range} header is honoured so large files can be fetched in pieces.
      */
     @GetMapping("/applications/{applicationId}/resume")
     @PreAuthorize("hasRole('HR') or hasRole('CANDIDATE')")
     public ResponseEntity<Resource> downloadResume(@PathVariable UUID applicationId,
+                                                   @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
                                                    Authentication authentication,
                                                    @AuthenticationPrincipal Jwt jwt) {
         try {
@@ -80,18 +82,11 @@ public class FileController {
 
             // Check if file exists
             if (!fileStorageService.fileExists(filename)) {
-                logger.warn("Resume file not found on disk: {}", filename);
+                logger.warn("Resume file not found in storage: {}", filename);
                 return ResponseEntity.notFound().build();
             }
 
-            // Get file path and create resource
-            Path filePath = fileStorageService.getFilePath(filename);
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists() || !resource.isReadable()) {
-                logger.error("Resume file not readable: {}", filename);
-                return ResponseEntity.notFound().build();
-            }
+            long fileSize = fileStorageService.getFileSize(filename);
 
             // Determine content type
             String contentType = fileStorageService.getContentType(filename);
@@ -99,16 +94,44 @@ public class FileController {
             // Generate a user-friendly filename for download
             String downloadFilename = "resume_" + applicationId + getFileExtension(filename);
 
-            // Build response with appropriate headers
+            // Serve a single byte range without reading the rest of the object
+            List<HttpRange> ranges;
+            try {
+                ranges = rangeHeader != null ? HttpRange.parseRanges(rangeHeader) : List.of();
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid range header for application {}: {}", applicationId, rangeHeader);
+                return ResponseEntity.badRequest().build();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                long start;
+                long end;
+                try {
+                    start = range.getRangeStart(fileSize);
+                    end = range.getRangeEnd(fileSize);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+                            .build();
+                }
+                long length = end - start + 1;
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .contentType(MediaType.parseMediaType(contentType))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + downloadFilename + "\"")
+                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize)
+                        .contentLength(length)
+                        .body(new InputStreamResource(fileStorageService.openFileRange(filename, start, length)));
+            }
+
+            // Build response with appropriate headers, streaming from storage
             return ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(contentType))
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + downloadFilename + "\"")
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileStorageService.getFileSize(filename)))
-                    .body(resource);
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentLength(fileSize)
+                    .body(new InputStreamResource(fileStorageService.openFile(filename)));
 
-        } catch (MalformedURLException e) {
-            logger.error("Malformed URL for application: {}", applicationId, e);
-            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error downloading resume for application: {}", applicationId, e);
             return ResponseEntity.internalServerError().build();
@@ -131,9 +154,9 @@ public class FileController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.notFound("No resume file found for this application"));
             }
 
-            // Check if file exists on disk
+            // Check if file exists in storage
             if (!fileStorageService.fileExists(filename)) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.notFound("Resume file not found on disk"));
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.notFound("Resume file not found in storage"));
             }
 
             long fileSize = fileStorageService.getFileSize(filename);
@@ -173,4 +196,4 @@ public class FileController {
         int lastDotIndex = filename.lastIndexOf('.');
         return (lastDotIndex != -1) ? filename.substring(lastDotIndex) : "";
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -55,6 +55,10 @@ public class ApiResponse<T> {
         return new ApiResponse<>(false, message, null, 500);
     }
 
+    public static <T> ApiResponse<T> serviceUnavailable(String message) {
+        return new ApiResponse<>(false, message, null, 503);
+    }
+
     // Getters and Setters
     public boolean isSuccess() {
         return success;
@@ -95,4 +99,4 @@ public class ApiResponse<T> {
     public void setCode(int code) {
         this.code = code;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package de.tum.devops.application.dto;
+
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One full-text search match. Snippets are HTML-escaped excerpts with the matched terms wrapped in
+ * {@code <mark>}; {@code hrCommentsSnippet} is null when the application has no HR comments.
+ */
+public class ApplicationSearchHitDto {
+
+    private UUID applicationId;
+    private UUID jobId;
+    private UUID candidateId;
+    private ApplicationStatus status;
+    private LocalDateTime submittedAt;
+    private float rank;
+    private String resumeSnippet;
+    private String hrCommentsSnippet;
+
+    public ApplicationSearchHitDto() {
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(UUID applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public UUID getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(UUID candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public float getRank() {
+        return rank;
+    }
+
+    public void setRank(float rank) {
+        this.rank = rank;
+    }
+
+    public String getResumeSnippet() {
+        return resumeSnippet;
+    }
+
+    public void setResumeSnippet(String resumeSnippet) {
+        this.resumeSnippet = resumeSnippet;
+    }
+
+    public String getHrCommentsSnippet() {
+        return hrCommentsSnippet;
+    }
+
+    public void setHrCommentsSnippet(String hrCommentsSnippet) {
+        this.hrCommentsSnippet = hrCommentsSnippet;
+    }
+}
@@ -0,0 +1,37 @@
+package de.tum.devops.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of full-text search matches, best first. Pass {@code nextCursor} back as {@code cursor} to get
+ * the following page; it is null on the last page.
+ */
+public class ApplicationSearchResultDto {
+
+    private List<ApplicationSearchHitDto> hits;
+    private String nextCursor;
+
+    public ApplicationSearchResultDto() {
+    }
+
+    public ApplicationSearchResultDto(List<ApplicationSearchHitDto> hits, String nextCursor) {
+        this.hits = hits;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ApplicationSearchHitDto> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<ApplicationSearchHitDto> hits) {
+        this.hits = hits;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -2,6 +2,7 @@ package de.tum.devops.application.dto;
 
 import de.tum.devops.application.persistence.entity.Assessment;
 import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import de.tum.devops.application.persistence.projection.ApplicationSummary;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,6 +12,7 @@ public class AssessmentDto {
     private UUID applicationId;
     private Float resumeScore;
     private Float interviewScore;
+    private Float preScore;
     private String resumeComment;
     private String interviewComment;
     private RecommendationEnum recommendation;
@@ -22,6 +24,7 @@ public class AssessmentDto {
         this.applicationId = assessment.getApplication().getApplicationId();
         this.resumeScore = assessment.getResumeScore();
         this.interviewScore = assessment.getInterviewScore();
+        this.preScore = assessment.getPreScore();
         this.resumeComment = assessment.getResumeComment();
         this.interviewComment = assessment.getInterviewComment();
         this.recommendation = assessment.getRecommendation();
@@ -29,6 +32,19 @@ public class AssessmentDto {
         this.updatedAt = assessment.getUpdatedAt();
     }
 
+    public AssessmentDto(ApplicationSummary summary) {
+        this.assessmentId = summary.assessmentId();
+        this.applicationId = summary.applicationId();
+        this.resumeScore = summary.resumeScore();
+        this.interviewScore = summary.interviewScore();
+        this.preScore = summary.preScore();
+        this.resumeComment = summary.resumeComment();
+        this.interviewComment = summary.interviewComment();
+        this.recommendation = summary.recommendation();
+        this.createdAt = summary.assessmentCreatedAt();
+        this.updatedAt = summary.assessmentUpdatedAt();
+    }
+
     public UUID getAssessmentId() {
         return assessmentId;
     }
@@ -61,6 +77,14 @@ public class AssessmentDto {
         this.interviewScore = interviewScore;
     }
 
+    public Float getPreScore() {
+        return preScore;
+    }
+
+    public void setPreScore(Float preScore) {
+        this.preScore = preScore;
+    }
+
     public String getResumeComment() {
         return resumeComment;
     }
@@ -100,4 +124,4 @@ public class AssessmentDto {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package de.tum.devops.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Application whose resume is semantically close to a job. {@code similarity} is the cosine similarity of
+ * the two embeddings, 1 meaning identical direction.
+ */
+public class CandidateMatchDto {
+
+    private UUID applicationId;
+    private UUID candidateId;
+    private UUID jobId;
+    private double similarity;
+
+    public CandidateMatchDto() {
+    }
+
+    public CandidateMatchDto(UUID applicationId, UUID candidateId, UUID jobId, double similarity) {
+        this.applicationId = applicationId;
+        this.candidateId = candidateId;
+        this.jobId = jobId;
+        this.similarity = similarity;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(UUID applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public UUID getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(UUID candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
@@ -0,0 +1,86 @@
+package de.tum.devops.application.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Application counts of one job for HR dashboards.
+ * <p>
+ * Every map lists all of its buckets, zero counts included. Decisions and recommendations not made yet are
+ * counted under {@code NONE}; the score histograms use 10-point buckets keyed by their lower bound
+ * ({@code "0"} to {@code "90"}, the last one including 100) plus {@code NONE} for unscored applications.
+ */
+public class JobApplicationStatsDto {
+
+    private UUID jobId;
+    private long totalApplications;
+    private Map<String, Long> statusCounts = new LinkedHashMap<>();
+    private Map<String, Long> decisionCounts = new LinkedHashMap<>();
+    private Map<String, Long> recommendationCounts = new LinkedHashMap<>();
+    private Map<String, Long> resumeScoreHistogram = new LinkedHashMap<>();
+    private Map<String, Long> interviewScoreHistogram = new LinkedHashMap<>();
+
+    public JobApplicationStatsDto() {
+    }
+
+    public JobApplicationStatsDto(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public Map<String, Long> getDecisionCounts() {
+        return decisionCounts;
+    }
+
+    public void setDecisionCounts(Map<String, Long> decisionCounts) {
+        this.decisionCounts = decisionCounts;
+    }
+
+    public Map<String, Long> getRecommendationCounts() {
+        return recommendationCounts;
+    }
+
+    public void setRecommendationCounts(Map<String, Long> recommendationCounts) {
+        this.recommendationCounts = recommendationCounts;
+    }
+
+    public Map<String, Long> getResumeScoreHistogram() {
+        return resumeScoreHistogram;
+    }
+
+    public void setResumeScoreHistogram(Map<String, Long> resumeScoreHistogram) {
+        this.resumeScoreHistogram = resumeScoreHistogram;
+    }
+
+    public Map<String, Long> getInterviewScoreHistogram() {
+        return interviewScoreHistogram;
+    }
+
+    public void setInterviewScoreHistogram(Map<String, Long> interviewScoreHistogram) {
+        this.interviewScoreHistogram = interviewScoreHistogram;
+    }
+}
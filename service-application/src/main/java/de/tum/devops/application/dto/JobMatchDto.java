@@ -0,0 +1,34 @@
+package de.tum.devops.application.dto;
+
+/**
+ * Open job semantically close to a candidate's latest resume, with the cosine similarity of the embeddings
+ */
+public class JobMatchDto {
+
+    private JobDto job;
+    private double similarity;
+
+    public JobMatchDto() {
+    }
+
+    public JobMatchDto(JobDto job, double similarity) {
+        this.job = job;
+        this.similarity = similarity;
+    }
+
+    public JobDto getJob() {
+        return job;
+    }
+
+    public void setJob(JobDto job) {
+        this.job = job;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
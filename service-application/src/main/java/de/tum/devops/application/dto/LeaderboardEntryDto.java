@@ -0,0 +1,89 @@
+package de.tum.devops.application.dto;
+
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import de.tum.devops.application.persistence.projection.LeaderboardEntry;
+
+import java.util.UUID;
+
+/**
+ * Ranked applicant of a job, best first. {@code rank} starts at 1.
+ */
+public class LeaderboardEntryDto {
+
+    private int rank;
+    private UUID applicationId;
+    private UUID candidateId;
+    private Float resumeScore;
+    private Float interviewScore;
+    private Float overallScore;
+    private RecommendationEnum recommendation;
+
+    public LeaderboardEntryDto() {
+    }
+
+    public LeaderboardEntryDto(int rank, LeaderboardEntry entry) {
+        this.rank = rank;
+        this.applicationId = entry.applicationId();
+        this.candidateId = entry.candidateId();
+        this.resumeScore = entry.resumeScore();
+        this.interviewScore = entry.interviewScore();
+        this.overallScore = entry.overallScore();
+        this.recommendation = entry.recommendation();
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(UUID applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public UUID getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(UUID candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public Float getResumeScore() {
+        return resumeScore;
+    }
+
+    public void setResumeScore(Float resumeScore) {
+        this.resumeScore = resumeScore;
+    }
+
+    public Float getInterviewScore() {
+        return interviewScore;
+    }
+
+    public void setInterviewScore(Float interviewScore) {
+        this.interviewScore = interviewScore;
+    }
+
+    public Float getOverallScore() {
+        return overallScore;
+    }
+
+    public void setOverallScore(Float overallScore) {
+        this.overallScore = overallScore;
+    }
+
+    public RecommendationEnum getRecommendation() {
+        return recommendation;
+    }
+
+    public void setRecommendation(RecommendationEnum recommendation) {
+        this.recommendation = recommendation;
+    }
+}
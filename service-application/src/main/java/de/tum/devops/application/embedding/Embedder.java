@@ -0,0 +1,19 @@
+package de.tum.devops.application.embedding;
+
+/**
+ * Turns text into a dense vector for semantic matching. Implementations must be thread-safe and return
+ * L2-normalised vectors of {@link #dimensions()} components, or an all-zero vector when the text has
+ * nothing to embed.
+ */
+public interface Embedder {
+
+    /**
+     * Identifies the model and its version. Vectors of different models are never compared, so this must
+     * change whenever the same text would embed differently.
+     */
+    String model();
+
+    int dimensions();
+
+    float[] embed(String text);
+}
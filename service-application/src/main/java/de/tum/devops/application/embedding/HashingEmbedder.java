@@ -0,0 +1,85 @@
+package de.tum.devops.application.embedding;
+
+import de.tum.devops.application.text.Tokenizer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deterministic local {@link Embedder} based on feature hashing: word unigrams and bigrams from the
+ * {@link Tokenizer} are hashed into {@code dimensions} signed buckets, weighted by sublinear term frequency
+ * and normalised.
+ * <p>
+ * Texts sharing vocabulary (skills, tools, job titles) end up close in cosine distance, without any model
+ * download or remote call. It captures no synonyms, so it is the default for development and tests and a
+ * baseline until a learned embedder is plugged in.
+ */
+public class HashingEmbedder implements Embedder {
+
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    private final int dimensions;
+
+    public HashingEmbedder(int dimensions) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("dimensions must be positive");
+        }
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public String model() {
+        return "hashing-v1-" + dimensions;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        String previous = null;
+        for (String token : Tokenizer.tokenize(text)) {
+            counts.merge(token, 1, Integer::sum);
+            if (previous != null) {
+                counts.merge(previous + ' ' + token, 1, Integer::sum);
+            }
+            previous = token;
+        }
+
+        float[] vector = new float[dimensions];
+        for (Map.Entry<String, Integer> feature : counts.entrySet()) {
+            String key = feature.getKey();
+            long hash = fnv1a(key);
+            int bucket = (int) Long.remainderUnsigned(hash >>> 1, dimensions);
+            float weight = (float) (1 + Math.log(feature.getValue())) * (key.indexOf(' ') < 0 ? 1f : BIGRAM_WEIGHT);
+            vector[bucket] += (hash & 1) == 0 ? weight : -weight;
+        }
+
+        double norm = 0;
+        for (float component : vector) {
+            norm += component * component;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units; the low bit gives the sign, the rest the bucket
+     */
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,12 @@
+package de.tum.devops.application.exception;
+
+/**
+ * Exception thrown when the gen-ai service cannot be reached, is overloaded or its circuit is open; the
+ * call may succeed when retried later
+ */
+public class GenAiUnavailableException extends RuntimeException {
+
+    public GenAiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
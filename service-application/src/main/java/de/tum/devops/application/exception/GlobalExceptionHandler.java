@@ -3,6 +3,7 @@ package de.tum.devops.application.exception;
 import de.tum.devops.application.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -115,6 +116,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.notFound(ex.getMessage()));
     }
 
+    /**
+     * Handle an unavailable gen-ai service; clients may retry after a short wait
+     */
+    @ExceptionHandler(GenAiUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleGenAiUnavailableException(
+            GenAiUnavailableException ex) {
+
+        logger.warn("Gen-ai service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(ApiResponse.serviceUnavailable("The AI service is unavailable right now. Please try again shortly."));
+    }
+
     /**
      * Handle multipart file exceptions
      */
@@ -146,4 +160,4 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.internalError("An unexpected error occurred"));
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -24,15 +24,29 @@ import java.util.UUID;
  * hr_decision decision_enum,
  * hr_comments TEXT,
  * submitted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
- * updated_at TIMESTAMP
+ * updated_at TIMESTAMP,
+ * search_vector TSVECTOR GENERATED ALWAYS AS (...) STORED
  * );
+ * <p>
+ * {@code search_vector} is computed by the database from {@code hr_comments} and {@code resume_text} and is not
+ * mapped; it is only queried by {@link de.tum.devops.application.service.ApplicationSearchService}.
  */
 @Entity
+@NamedEntityGraph(name = Application.WITH_RELATIONS, attributeNodes = {
+        @NamedAttributeNode("assessment"),
+        @NamedAttributeNode("chatSession")
+})
 @Table(name = "applications", indexes = {
         @Index(name = "idx_applications_candidate_id", columnList = "candidate_id"),
         @Index(name = "idx_applications_job_id", columnList = "job_id")
 })
-public class Application {
+public class Application extends AssignedIdEntity {
+
+    /**
+     * Fetches the inverse one-to-one sides in the same statement. Hibernate cannot proxy them, so without
+     * the graph every loaded application costs two extra selects.
+     */
+    public static final String WITH_RELATIONS = "Application.withRelations";
 
     @Id
     @Column(name = "application_id", columnDefinition = "UUID", updatable = false, nullable = false)
@@ -92,6 +106,11 @@ public class Application {
     }
 
     // Getters and Setters
+    @Override
+    public UUID getId() {
+        return applicationId;
+    }
+
     public UUID getApplicationId() {
         return applicationId;
     }
@@ -198,4 +217,4 @@ public class Application {
                 ", submittedAt=" + submittedAt +
                 '}';
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.UUID;
  * CREATE TABLE assessments (
  * assessment_id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
  * application_id UUID NOT NULL,
+ * job_id UUID NOT NULL,
  * resume_score FLOAT CHECK (resume_score BETWEEN 0 AND 100),
  * interview_score FLOAT CHECK (interview_score BETWEEN 0 AND 100),
  * resume_comment TEXT,
@@ -25,12 +26,15 @@ import java.util.UUID;
  * created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
  * updated_at TIMESTAMP
  * );
+ * <p>
+ * {@code job_id} is a copy of the application's job, which never changes, kept here so the per-job
+ * leaderboard is answered from the partial index {@code idx_ass_job_rank} alone.
  */
 @Entity
 @Table(name = "assessments", indexes = {
         @Index(name = "idx_assessments_application_id", columnList = "application_id")
 })
-public class Assessment {
+public class Assessment extends AssignedIdEntity {
 
     @Id
     @Column(name = "assessment_id", columnDefinition = "UUID", updatable = false, nullable = false)
@@ -40,6 +44,9 @@ public class Assessment {
     @JoinColumn(name = "application_id", nullable = false, unique = true)
     private Application application;
 
+    @Column(name = "job_id", columnDefinition = "UUID", updatable = false, nullable = false)
+    private UUID jobId;
+
     @DecimalMin("0.0")
     @DecimalMax("100.0")
     @Column(name = "resume_score")
@@ -50,6 +57,12 @@ public class Assessment {
     @Column(name = "interview_score")
     private Float interviewScore;
 
+    // Lexical BM25 score against the job requirements, computed before the LLM resume score
+    @DecimalMin("0.0")
+    @DecimalMax("100.0")
+    @Column(name = "pre_score")
+    private Float preScore;
+
     @Column(name = "resume_comment", columnDefinition = "TEXT")
     private String resumeComment;
 
@@ -74,10 +87,15 @@ public class Assessment {
 
     public Assessment(Application application) {
         this();
-        this.application = application;
+        setApplication(application);
     }
 
     // Getters and Setters
+    @Override
+    public UUID getId() {
+        return assessmentId;
+    }
+
     public UUID getAssessmentId() {
         return assessmentId;
     }
@@ -92,6 +110,11 @@ public class Assessment {
 
     public void setApplication(Application application) {
         this.application = application;
+        this.jobId = application == null ? null : application.getJobId();
+    }
+
+    public UUID getJobId() {
+        return jobId;
     }
 
     public Float getResumeScore() {
@@ -110,6 +133,14 @@ public class Assessment {
         this.interviewScore = interviewScore;
     }
 
+    public Float getPreScore() {
+        return preScore;
+    }
+
+    public void setPreScore(Float preScore) {
+        this.preScore = preScore;
+    }
+
     public String getResumeComment() {
         return resumeComment;
     }
@@ -160,4 +191,4 @@ public class Assessment {
                 ", recommendation=" + recommendation +
                 '}';
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package de.tum.devops.application.persistence.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Base class for entities whose UUID is assigned by the application before saving.
+ * <p>
+ * Spring Data treats an entity with a non-null ID as existing and calls {@code merge}, which costs a
+ * SELECT per new row. Tracking newness here lets {@code save} go straight to {@code persist}, so inserts
+ * can be batched at flush.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -13,18 +13,22 @@ import java.util.UUID;
  * <p>
  * Database schema:
  * CREATE TABLE chat_messages (
- * message_id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+ * message_id UUID NOT NULL DEFAULT uuid_generate_v4(),
  * session_id UUID NOT NULL,
  * sender message_sender NOT NULL,
  * content TEXT NOT NULL,
- * sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
- * );
+ * sent_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+ * PRIMARY KEY (message_id, sent_at)
+ * ) PARTITION BY RANGE (sent_at);
+ * <p>
+ * Messages of archived sessions live in chat_message_archive; {@code ChatMessageRepository} reads both
+ * through the chat_message_history view.
  */
 @Entity
 @Table(name = "chat_messages", indexes = {
-        @Index(name = "idx_chat_messages_session_id", columnList = "session_id")
+        @Index(name = "idx_chat_sess", columnList = "session_id, sent_at")
 })
-public class ChatMessage {
+public class ChatMessage extends AssignedIdEntity {
 
     @Id
     @Column(name = "message_id", columnDefinition = "UUID", updatable = false, nullable = false)
@@ -59,6 +63,11 @@ public class ChatMessage {
     }
 
     // Getters and Setters
+    @Override
+    public UUID getId() {
+        return messageId;
+    }
+
     public UUID getMessageId() {
         return messageId;
     }
@@ -108,4 +117,4 @@ public class ChatMessage {
                 ", sentAt=" + sentAt +
                 '}';
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
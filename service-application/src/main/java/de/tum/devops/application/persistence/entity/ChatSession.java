@@ -5,8 +5,6 @@ import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,12 +19,14 @@ import java.util.UUID;
  * started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
  * completed_at TIMESTAMP
  * );
+ * <p>
+ * The session's messages are read through {@code ChatMessageRepository}, which also covers archived ones.
  */
 @Entity
 @Table(name = "chat_sessions", indexes = {
         @Index(name = "idx_chat_sessions_application_id", columnList = "application_id")
 })
-public class ChatSession {
+public class ChatSession extends AssignedIdEntity {
 
     @Id
     @Column(name = "session_id", columnDefinition = "UUID", updatable = false, nullable = false)
@@ -36,9 +36,6 @@ public class ChatSession {
     @JoinColumn(name = "application_id", nullable = false, unique = true)
     private Application application;
 
-    @OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<ChatMessage> messages = new ArrayList<>();
-
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private ChatStatus status = ChatStatus.ACTIVE;
@@ -63,6 +60,11 @@ public class ChatSession {
     }
 
     // Getters and Setters
+    @Override
+    public UUID getId() {
+        return sessionId;
+    }
+
     public UUID getSessionId() {
         return sessionId;
     }
@@ -79,14 +81,6 @@ public class ChatSession {
         this.application = application;
     }
 
-    public List<ChatMessage> getMessages() {
-        return messages;
-    }
-
-    public void setMessages(List<ChatMessage> messages) {
-        this.messages = messages;
-    }
-
     public ChatStatus getStatus() {
         return status;
     }
@@ -128,4 +122,4 @@ public class ChatSession {
                 ", messageCount=" + messageCount +
                 '}';
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package de.tum.devops.application.persistence.projection;
+
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.ChatStatus;
+import de.tum.devops.application.persistence.enums.DecisionEnum;
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * List view of an application, selected via JPQL constructor expression.
+ * <p>
+ * Deliberately excludes {@code resume_text}: list pages only need the metadata, the chat status and the
+ * assessment scores, and the full text is loaded through the entity on detail views and AI calls.
+ * Assessment columns are null when the application has no assessment yet.
+ */
+public record ApplicationSummary(
+        UUID applicationId,
+        UUID jobId,
+        UUID candidateId,
+        ApplicationStatus status,
+        String resumeFilePath,
+        DecisionEnum hrDecision,
+        String hrComments,
+        LocalDateTime submittedAt,
+        LocalDateTime updatedAt,
+        ChatStatus chatStatus,
+        UUID assessmentId,
+        Float resumeScore,
+        Float interviewScore,
+        Float preScore,
+        String resumeComment,
+        String interviewComment,
+        RecommendationEnum recommendation,
+        LocalDateTime assessmentCreatedAt,
+        LocalDateTime assessmentUpdatedAt
+) {
+}
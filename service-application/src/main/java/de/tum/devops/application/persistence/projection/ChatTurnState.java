@@ -0,0 +1,21 @@
+package de.tum.devops.application.persistence.projection;
+
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.ChatStatus;
+
+import java.util.UUID;
+
+/**
+ * Session and application state read at the start of a chat turn, selected via JPQL constructor expression.
+ * <p>
+ * Nothing here is managed by the persistence context, so the turn changes counters and statuses only through
+ * the conditional updates on the repositories and never writes back a stale copy.
+ */
+public record ChatTurnState(
+        UUID sessionId,
+        UUID applicationId,
+        UUID candidateId,
+        ChatStatus status,
+        Integer messageCount,
+        ApplicationStatus applicationStatus) {
+}
@@ -0,0 +1,25 @@
+package de.tum.devops.application.persistence.projection;
+
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+
+import java.util.UUID;
+
+/**
+ * One row of a job's leaderboard, selected via JPQL constructor expression.
+ * <p>
+ * Entries are ordered by {@link #overallScore()}, the expression the partial index {@code idx_ass_job_rank}
+ * is built on; only assessments with both scores are ranked, so neither score is null.
+ */
+public record LeaderboardEntry(
+        UUID assessmentId,
+        UUID applicationId,
+        UUID candidateId,
+        Float resumeScore,
+        Float interviewScore,
+        RecommendationEnum recommendation
+) {
+
+    public float overallScore() {
+        return resumeScore + interviewScore;
+    }
+}
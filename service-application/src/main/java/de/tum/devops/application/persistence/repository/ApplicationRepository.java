@@ -2,13 +2,19 @@ package de.tum.devops.application.persistence.repository;
 
 import de.tum.devops.application.persistence.entity.Application;
 import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.projection.ApplicationSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,45 +25,98 @@ import java.util.UUID;
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, UUID> {
 
+    String SUMMARY_SELECT = "SELECT new de.tum.devops.application.persistence.projection.ApplicationSummary("
+            + "a.applicationId, a.jobId, a.candidateId, a.status, a.resumeFilePath, a.hrDecision, a.hrComments, "
+            + "a.submittedAt, a.updatedAt, c.status, s.assessmentId, s.resumeScore, s.interviewScore, "
+            + "s.preScore, s.resumeComment, s.interviewComment, s.recommendation, s.createdAt, s.updatedAt) "
+            + "FROM Application a LEFT JOIN a.chatSession c LEFT JOIN a.assessment s ";
+
+    String SUMMARY_COUNT = "SELECT count(a) FROM Application a ";
+
+    /**
+     * Find application by ID with assessment and chat session in one statement
+     */
+    @Override
+    @EntityGraph(Application.WITH_RELATIONS)
+    Optional<Application> findById(UUID applicationId);
+
+    /**
+     * Find all applications with assessment and chat session
+     */
+    @Override
+    @EntityGraph(Application.WITH_RELATIONS)
+    List<Application> findAll();
+
+    /**
+     * Find a page of applications with assessment and chat session
+     */
+    @Override
+    @EntityGraph(Application.WITH_RELATIONS)
+    Page<Application> findAll(Pageable pageable);
+
     /**
-     * Find applications by candidate ID with pagination
+     * Find application list views (without resume text) with pagination
      */
-    Page<Application> findByCandidateId(UUID candidateId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT, countQuery = SUMMARY_COUNT)
+    Page<ApplicationSummary> findSummaries(Pageable pageable);
 
     /**
-     * Find applications by job ID with pagination
+     * Find application list views by job ID with pagination
      */
-    Page<Application> findByJobId(UUID jobId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.jobId = :jobId",
+            countQuery = SUMMARY_COUNT + "WHERE a.jobId = :jobId")
+    Page<ApplicationSummary> findSummariesByJobId(@Param("jobId") UUID jobId, Pageable pageable);
 
     /**
-     * Find applications by status with pagination
+     * Find application list views by status with pagination
      */
-    Page<Application> findByStatus(ApplicationStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.status = :status",
+            countQuery = SUMMARY_COUNT + "WHERE a.status = :status")
+    Page<ApplicationSummary> findSummariesByStatus(@Param("status") ApplicationStatus status, Pageable pageable);
 
     /**
-     * Find applications by candidate ID and status
+     * Find application list views by job ID and status
      */
-    Page<Application> findByCandidateIdAndStatus(UUID candidateId, ApplicationStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.jobId = :jobId AND a.status = :status",
+            countQuery = SUMMARY_COUNT + "WHERE a.jobId = :jobId AND a.status = :status")
+    Page<ApplicationSummary> findSummariesByJobIdAndStatus(@Param("jobId") UUID jobId,
+                                                           @Param("status") ApplicationStatus status,
+                                                           Pageable pageable);
 
     /**
-     * Find applications by job ID and status
+     * Find application list views by candidate ID with pagination
      */
-    Page<Application> findByJobIdAndStatus(UUID jobId, ApplicationStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.candidateId = :candidateId",
+            countQuery = SUMMARY_COUNT + "WHERE a.candidateId = :candidateId")
+    Page<ApplicationSummary> findSummariesByCandidateId(@Param("candidateId") UUID candidateId, Pageable pageable);
 
     /**
-     * Find applications by candidate ID and job ID
+     * Find application list views by candidate ID and job ID
      */
-    Page<Application> findByCandidateIdAndJobId(UUID candidateId, UUID jobId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.candidateId = :candidateId AND a.jobId = :jobId",
+            countQuery = SUMMARY_COUNT + "WHERE a.candidateId = :candidateId AND a.jobId = :jobId")
+    Page<ApplicationSummary> findSummariesByCandidateIdAndJobId(@Param("candidateId") UUID candidateId,
+                                                                @Param("jobId") UUID jobId,
+                                                                Pageable pageable);
 
     /**
-     * Find applications by job ID, status and candidate ID (for complex filtering)
+     * Find application list views by candidate ID and status
      */
-    Page<Application> findByJobIdAndStatusAndCandidateId(UUID jobId, ApplicationStatus status, UUID candidateId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.candidateId = :candidateId AND a.status = :status",
+            countQuery = SUMMARY_COUNT + "WHERE a.candidateId = :candidateId AND a.status = :status")
+    Page<ApplicationSummary> findSummariesByCandidateIdAndStatus(@Param("candidateId") UUID candidateId,
+                                                                 @Param("status") ApplicationStatus status,
+                                                                 Pageable pageable);
 
     /**
-     * Find applications by candidate ID, job ID and status (different parameter order for service method)
+     * Find application list views by candidate ID, job ID and status
      */
-    Page<Application> findByCandidateIdAndJobIdAndStatus(UUID candidateId, UUID jobId, ApplicationStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.candidateId = :candidateId AND a.jobId = :jobId AND a.status = :status",
+            countQuery = SUMMARY_COUNT + "WHERE a.candidateId = :candidateId AND a.jobId = :jobId AND a.status = :status")
+    Page<ApplicationSummary> findSummariesByCandidateIdAndJobIdAndStatus(@Param("candidateId") UUID candidateId,
+                                                                         @Param("jobId") UUID jobId,
+                                                                         @Param("status") ApplicationStatus status,
+                                                                         Pageable pageable);
 
     /**
      * Check if candidate has already applied for a specific job
@@ -67,12 +126,13 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
     /**
      * Find all applications for a specific job
      */
+    @EntityGraph(Application.WITH_RELATIONS)
     List<Application> findByJobIdOrderBySubmittedAtDesc(UUID jobId);
 
     /**
      * Find applications with chat sessions (for HR to see which have interviews)
      */
-    @Query("SELECT a FROM Application a LEFT JOIN FETCH a.chatSession WHERE a.chatSession IS NOT NULL")
+    @Query("SELECT a FROM Application a JOIN FETCH a.chatSession LEFT JOIN FETCH a.assessment")
     List<Application> findApplicationsWithChatSessions();
 
     /**
@@ -90,4 +150,17 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
      * Count applications for a specific job
      */
     long countByJobId(UUID jobId);
-}
\ No newline at end of file
+
+    /**
+     * Move an application to {@code to} if it is currently in one of {@code from}.
+     * Returns the number of rows changed, 0 when the application was already moved on.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :to, a.updatedAt = :updatedAt "
+            + "WHERE a.applicationId = :applicationId AND a.status IN :from")
+    int transitionStatus(@Param("applicationId") UUID applicationId,
+                         @Param("from") Collection<ApplicationStatus> from,
+                         @Param("to") ApplicationStatus to,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -3,6 +3,8 @@ package de.tum.devops.application.persistence.repository;
 import de.tum.devops.application.persistence.entity.Application;
 import de.tum.devops.application.persistence.entity.Assessment;
 import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import de.tum.devops.application.persistence.projection.LeaderboardEntry;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -56,10 +58,16 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
     boolean existsByApplicationApplicationId(UUID applicationId);
     
     /**
-     * Find assessments ordered by overall performance (average of scores)
+     * Top {@code limit} fully scored assessments of a job, best overall score ({@code resumeScore +
+     * interviewScore}) first. Served from the partial index {@code idx_ass_job_rank}, so the cost depends on
+     * the limit and not on the number of assessments.
      */
-    @Query("SELECT a FROM Assessment a WHERE a.resumeScore IS NOT NULL AND a.interviewScore IS NOT NULL ORDER BY (a.resumeScore + a.interviewScore) DESC")
-    List<Assessment> findAllOrderByOverallScoreDesc();
+    @Query("SELECT new de.tum.devops.application.persistence.projection.LeaderboardEntry(" +
+            "a.assessmentId, app.applicationId, app.candidateId, a.resumeScore, a.interviewScore, a.recommendation) " +
+            "FROM Assessment a JOIN a.application app " +
+            "WHERE a.jobId = :jobId AND a.resumeScore IS NOT NULL AND a.interviewScore IS NOT NULL " +
+            "ORDER BY (a.resumeScore + a.interviewScore) DESC, a.assessmentId")
+    List<LeaderboardEntry> findLeaderboard(@Param("jobId") UUID jobId, Limit limit);
     
     /**
      * Count assessments by recommendation
@@ -67,8 +75,13 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
     long countByRecommendation(RecommendationEnum recommendation);
     
     /**
-     * Find top performing assessments (for analytics)
+     * Fully scored assessments of a job whose average score is at least {@code threshold}, best first
      */
-    @Query("SELECT a FROM Assessment a WHERE a.resumeScore IS NOT NULL AND a.interviewScore IS NOT NULL AND (a.resumeScore + a.interviewScore) / 2 >= :threshold ORDER BY (a.resumeScore + a.interviewScore) DESC")
-    List<Assessment> findTopPerformers(@Param("threshold") Float threshold);
-}
\ No newline at end of file
+    @Query("SELECT new de.tum.devops.application.persistence.projection.LeaderboardEntry(" +
+            "a.assessmentId, app.applicationId, app.candidateId, a.resumeScore, a.interviewScore, a.recommendation) " +
+            "FROM Assessment a JOIN a.application app " +
+            "WHERE a.jobId = :jobId AND a.resumeScore IS NOT NULL AND a.interviewScore IS NOT NULL " +
+            "AND (a.resumeScore + a.interviewScore) >= :threshold * 2 " +
+            "ORDER BY (a.resumeScore + a.interviewScore) DESC, a.assessmentId")
+    List<LeaderboardEntry> findTopPerformers(@Param("jobId") UUID jobId, @Param("threshold") Float threshold, Limit limit);
+}
\ No newline at end of file
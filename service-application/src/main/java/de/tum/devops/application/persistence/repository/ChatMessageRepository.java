@@ -6,62 +6,119 @@ import de.tum.devops.application.persistence.enums.MessageSender;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Repository interface for ChatMessage entity
+ * <p>
+ * Reads go through the {@code chat_message_history} view, which spans the live {@code chat_messages}
+ * partitions and the per-session {@code chat_message_archive}, so archived conversations are returned like
+ * live ones. Writes go to {@code chat_messages}.
  */
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID> {
 
+    String HISTORY_BY_SESSION = "FROM chat_message_history WHERE session_id = :sessionId";
+
+    // Scalar subquery rather than a join, so the session id reaches the index scans of every branch of the view
+    String HISTORY_BY_APPLICATION = "FROM chat_message_history h WHERE h.session_id = "
+            + "(SELECT s.session_id FROM chat_sessions s WHERE s.application_id = :applicationId)";
+
     /**
      * Find messages by session ID with pagination, ordered by sent time
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.session.sessionId = :sessionId ORDER BY m.sentAt ASC")
-    Page<ChatMessage> findBySessionIdOrderBySentAtAsc(UUID sessionId, Pageable pageable);
+    @Query(value = "SELECT * " + HISTORY_BY_SESSION + " ORDER BY sent_at ASC",
+            countQuery = "SELECT count(*) " + HISTORY_BY_SESSION,
+            nativeQuery = true)
+    Page<ChatMessage> findBySessionIdOrderBySentAtAsc(@Param("sessionId") UUID sessionId, Pageable pageable);
 
     /**
      * Find messages by session ID, ordered by sent time (for full conversation)
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.session.sessionId = :sessionId ORDER BY m.sentAt ASC")
-    List<ChatMessage> findBySessionIdOrderBySentAtAsc(UUID sessionId);
+    @Query(value = "SELECT * " + HISTORY_BY_SESSION + " ORDER BY sent_at ASC", nativeQuery = true)
+    List<ChatMessage> findBySessionIdOrderBySentAtAsc(@Param("sessionId") UUID sessionId);
 
     /**
      * Find messages by session with pagination
      */
-    Page<ChatMessage> findBySessionOrderBySentAtAsc(ChatSession session, Pageable pageable);
+    default Page<ChatMessage> findBySessionOrderBySentAtAsc(ChatSession session, Pageable pageable) {
+        return findBySessionIdOrderBySentAtAsc(session.getSessionId(), pageable);
+    }
 
     /**
      * Find messages by session and sender
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.session.sessionId = :sessionId AND m.sender = :sender ORDER BY m.sentAt ASC")
-    List<ChatMessage> findBySessionIdAndSenderOrderBySentAtAsc(UUID sessionId, MessageSender sender);
+    @Query(value = "SELECT * " + HISTORY_BY_SESSION + " AND sender = CAST(:#{#sender.name()} AS message_sender) "
+            + "ORDER BY sent_at ASC", nativeQuery = true)
+    List<ChatMessage> findBySessionIdAndSenderOrderBySentAtAsc(@Param("sessionId") UUID sessionId,
+                                                               @Param("sender") MessageSender sender);
 
     /**
      * Count messages by sender in a session
      */
-    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.session.sessionId = :sessionId AND m.sender = :sender")
-    long countBySessionIdAndSender(UUID sessionId, MessageSender sender);
+    @Query(value = "SELECT count(*) " + HISTORY_BY_SESSION + " AND sender = CAST(:#{#sender.name()} AS message_sender)",
+            nativeQuery = true)
+    long countBySessionIdAndSender(@Param("sessionId") UUID sessionId, @Param("sender") MessageSender sender);
 
     /**
      * Find latest message in a session
      */
-    ChatMessage findFirstBySessionSessionIdOrderBySentAtDesc(UUID sessionId);
+    @Query(value = "SELECT * " + HISTORY_BY_SESSION + " ORDER BY sent_at DESC LIMIT 1", nativeQuery = true)
+    ChatMessage findFirstBySessionSessionIdOrderBySentAtDesc(@Param("sessionId") UUID sessionId);
 
     /**
      * Find messages by application ID (through session relationship)
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.session.application.applicationId = :applicationId ORDER BY m.sentAt ASC")
+    @Query(value = "SELECT h.* " + HISTORY_BY_APPLICATION + " ORDER BY h.sent_at ASC", nativeQuery = true)
     List<ChatMessage> findByApplicationIdOrderBySentAtAsc(@Param("applicationId") UUID applicationId);
 
     /**
      * Find messages by application ID with pagination
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.session.application.applicationId = :applicationId ORDER BY m.sentAt ASC")
+    @Query(value = "SELECT h.* " + HISTORY_BY_APPLICATION + " ORDER BY h.sent_at ASC",
+            countQuery = "SELECT count(*) " + HISTORY_BY_APPLICATION,
+            nativeQuery = true)
     Page<ChatMessage> findByApplicationIdOrderBySentAtAsc(@Param("applicationId") UUID applicationId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Move the messages of up to {@code batchSize} sessions completed before {@code completedBefore} from
+     * {@code chat_messages} into {@code chat_message_archive}, one JSONB row per session. Sessions locked by
+     * a concurrent run are skipped. Returns the number of sessions archived.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH sessions AS (
+                SELECT cs.session_id FROM chat_sessions cs
+                WHERE cs.status = 'COMPLETE' AND cs.completed_at < :completedBefore
+                  AND EXISTS (SELECT 1 FROM chat_messages m WHERE m.session_id = cs.session_id)
+                ORDER BY cs.completed_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM chat_messages m USING sessions s WHERE m.session_id = s.session_id
+                RETURNING m.*
+            )
+            INSERT INTO chat_message_archive AS a (session_id, messages, message_count)
+            SELECT session_id,
+                   jsonb_agg(jsonb_build_object('message_id', message_id, 'sender', sender, 'content', content,
+                                                'sent_at', sent_at) ORDER BY sent_at),
+                   count(*)
+            FROM moved
+            GROUP BY session_id
+            ON CONFLICT (session_id) DO UPDATE
+                SET messages = a.messages || EXCLUDED.messages,
+                    message_count = a.message_count + EXCLUDED.message_count,
+                    archived_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int archiveCompletedSessions(@Param("completedBefore") LocalDateTime completedBefore,
+                                 @Param("batchSize") int batchSize);
+}
@@ -3,11 +3,15 @@ package de.tum.devops.application.persistence.repository;
 import de.tum.devops.application.persistence.entity.Application;
 import de.tum.devops.application.persistence.entity.ChatSession;
 import de.tum.devops.application.persistence.enums.ChatStatus;
+import de.tum.devops.application.persistence.projection.ChatTurnState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,19 +48,60 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, UUID>
     boolean existsByApplicationApplicationId(UUID applicationId);
     
     /**
-     * Find chat session with messages loaded
+     * Count sessions by status
      */
-    @Query("SELECT cs FROM ChatSession cs LEFT JOIN FETCH cs.messages WHERE cs.sessionId = :sessionId")
-    Optional<ChatSession> findByIdWithMessages(@Param("sessionId") UUID sessionId);
-    
+    long countByStatus(ChatStatus status);
+
     /**
-     * Find chat session by application with messages loaded
+     * Load the session and application state a chat turn needs, without managing either entity
      */
-    @Query("SELECT cs FROM ChatSession cs LEFT JOIN FETCH cs.messages WHERE cs.application.applicationId = :applicationId")
-    Optional<ChatSession> findByApplicationIdWithMessages(@Param("applicationId") UUID applicationId);
-    
+    @Query("SELECT new de.tum.devops.application.persistence.projection.ChatTurnState("
+            + "s.sessionId, a.applicationId, a.candidateId, s.status, s.messageCount, a.status) "
+            + "FROM ChatSession s JOIN s.application a WHERE s.sessionId = :sessionId")
+    Optional<ChatTurnState> findTurnState(@Param("sessionId") UUID sessionId);
+
     /**
-     * Count sessions by status
+     * Atomically increment the message count.
+     * Returns the number of updated sessions, 0 when the session does not exist.
      */
-    long countByStatus(ChatStatus status);
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatSession s SET s.messageCount = s.messageCount + 1 WHERE s.sessionId = :sessionId")
+    int incrementMessageCount(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Create the application's chat session unless it has one; of concurrent callers only one creates it.
+     * Returns 1 when this call created the session.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO chat_sessions (session_id, application_id, status, message_count, started_at) "
+            + "VALUES (:sessionId, :applicationId, 'ACTIVE', 0, :startedAt) ON CONFLICT (application_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("sessionId") UUID sessionId,
+                       @Param("applicationId") UUID applicationId,
+                       @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * Count the opening AI message: moves the message count from 0 to 1.
+     * Returns 1 for the caller that may store the opening message and 0 for everyone else.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatSession s SET s.messageCount = 1 WHERE s.sessionId = :sessionId AND s.messageCount = 0")
+    int claimOpeningMessage(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Complete an active session once it has at least {@code minMessageCount} messages.
+     * Returns 1 for the caller that performed the transition and 0 for everyone else.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatSession s SET s.status = de.tum.devops.application.persistence.enums.ChatStatus.COMPLETE, "
+            + "s.completedAt = :completedAt WHERE s.sessionId = :sessionId "
+            + "AND s.status = de.tum.devops.application.persistence.enums.ChatStatus.ACTIVE "
+            + "AND s.messageCount >= :minMessageCount")
+    int completeIfActive(@Param("sessionId") UUID sessionId,
+                         @Param("minMessageCount") int minMessageCount,
+                         @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,130 @@
+package de.tum.devops.application.scoring;
+
+import de.tum.devops.application.text.Tokenizer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Lexical relevance of a resume to a job's requirements with Okapi BM25, as a cheap stand-in for the LLM
+ * score.
+ * <p>
+ * The requirements are split into items (lines, bullets, list entries, sentences) that form the document
+ * collection for the inverse document frequencies, so a word repeated in every item ("experience") weighs
+ * less than a skill named once. The resume is then scored as a single document against all requirement terms.
+ * Each term's BM25 contribution is capped at its IDF, which it reaches with one mention in a resume of
+ * average length, so the score is the IDF-weighted share of requirement terms the resume covers, 0 to 100.
+ * <p>
+ * A {@link Query} keeps its term statistics in primitive arrays and scoring is one pass over the resume
+ * tokens; both are thread-safe.
+ */
+public class Bm25Scorer {
+
+    private static final Pattern REQUIREMENT_SEPARATORS = Pattern.compile("\\R|[;•·,]|\\.(?=\\s|$)");
+
+    private final float k1;
+    private final float b;
+    private final float averageDocumentLength;
+
+    /**
+     * @param k1                    term frequency saturation, 1.2 is the usual default
+     * @param b                     length normalisation between 0 (none) and 1 (full), usually 0.75
+     * @param averageDocumentLength expected resume length in tokens
+     */
+    public Bm25Scorer(float k1, float b, float averageDocumentLength) {
+        if (k1 < 0 || b < 0 || b > 1 || averageDocumentLength <= 0) {
+            throw new IllegalArgumentException("BM25 requires k1 >= 0, 0 <= b <= 1 and a positive average length");
+        }
+        this.k1 = k1;
+        this.b = b;
+        this.averageDocumentLength = averageDocumentLength;
+    }
+
+    /**
+     * Builds the term statistics of a job's requirements
+     */
+    public Query compile(String requirements) {
+        Map<String, Integer> termIds = new HashMap<>();
+        int[] documentFrequencies = new int[16];
+        int items = 0;
+        for (String item : REQUIREMENT_SEPARATORS.split(requirements == null ? "" : requirements)) {
+            Set<String> distinct = new HashSet<>(Tokenizer.tokenize(item));
+            if (distinct.isEmpty()) {
+                continue;
+            }
+            items++;
+            for (String term : distinct) {
+                int id = termIds.computeIfAbsent(term, t -> termIds.size());
+                if (id == documentFrequencies.length) {
+                    documentFrequencies = Arrays.copyOf(documentFrequencies, id * 2);
+                }
+                documentFrequencies[id]++;
+            }
+        }
+
+        float[] idf = new float[termIds.size()];
+        float idfSum = 0;
+        for (int id = 0; id < idf.length; id++) {
+            int df = documentFrequencies[id];
+            idf[id] = (float) Math.log(1 + (items - df + 0.5) / (df + 0.5));
+            idfSum += idf[id];
+        }
+        return new Query(termIds, idf, idfSum);
+    }
+
+    /**
+     * Compiled requirements of one job
+     */
+    public final class Query {
+
+        private final Map<String, Integer> termIds;
+        private final float[] idf;
+        private final float idfSum;
+
+        private Query(Map<String, Integer> termIds, float[] idf, float idfSum) {
+            this.termIds = termIds;
+            this.idf = idf;
+            this.idfSum = idfSum;
+        }
+
+        /**
+         * Number of distinct requirement terms; a query without terms cannot score anything
+         */
+        public int size() {
+            return idf.length;
+        }
+
+        /**
+         * @return the resume's score from 0 (no requirement term) to 100 (every term at least once in a
+         * resume of average length), 0 for an empty query
+         */
+        public float score(String resume) {
+            if (idf.length == 0) {
+                return 0;
+            }
+            int[] termFrequencies = new int[idf.length];
+            int length = 0;
+            for (String token : Tokenizer.tokenize(resume)) {
+                length++;
+                Integer id = termIds.get(token);
+                if (id != null) {
+                    termFrequencies[id]++;
+                }
+            }
+
+            float lengthNorm = k1 * (1 - b + b * length / averageDocumentLength);
+            float score = 0;
+            for (int id = 0; id < idf.length; id++) {
+                int tf = termFrequencies[id];
+                if (tf > 0) {
+                    score += idf[id] * Math.min(1f, tf * (k1 + 1) / (tf + lengthNorm));
+                }
+            }
+            return 100 * score / idfSum;
+        }
+    }
+}
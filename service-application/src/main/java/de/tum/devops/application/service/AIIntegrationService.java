@@ -3,16 +3,18 @@ package de.tum.devops.application.service;
 import de.tum.devops.application.client.AIServiceGrpcClient;
 import de.tum.devops.application.client.JobWebClient;
 import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.exception.GenAiUnavailableException;
 import de.tum.devops.application.persistence.entity.Application;
 import de.tum.devops.application.persistence.entity.Assessment;
 import de.tum.devops.application.persistence.entity.ChatMessage;
 import de.tum.devops.application.persistence.entity.ChatSession;
-import de.tum.devops.application.persistence.enums.MessageSender;
 import de.tum.devops.application.persistence.enums.RecommendationEnum;
 import de.tum.devops.application.persistence.repository.ApplicationRepository;
 import de.tum.devops.application.persistence.repository.AssessmentRepository;
 import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import de.tum.devops.application.persistence.repository.ChatSessionRepository;
 import de.tum.devops.grpc.ai.ChatReplyResponse;
+import de.tum.devops.grpc.ai.InterviewSessionStart;
 import de.tum.devops.grpc.ai.ScoreInterviewResponse;
 import de.tum.devops.grpc.ai.ScoreResumeResponse;
 import io.grpc.stub.StreamObserver;
@@ -20,15 +22,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
- * Service for AI integration
+ * Service for AI integration.
+ * <p>
+ * Calls to the job service and the gen-ai service can take seconds, so none of them run inside a
+ * transaction: each operation reads what it needs in one short transaction, makes the remote calls
+ * without holding a connection, and writes the result in a second short transaction.
+ * <p>
+ * Scoring that fails because the gen-ai service is unavailable is parked in the {@link ScoringRetryQueue}
+ * rather than stored with a placeholder score.
  */
 @Service
 public class AIIntegrationService {
@@ -39,186 +48,194 @@ public class AIIntegrationService {
     private final JobWebClient jobWebClient;
     private final ApplicationRepository applicationRepository;
     private final AssessmentRepository assessmentRepository;
+    private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ResumePreScreener resumePreScreener;
+    private final ScoreMemoizer scoreMemoizer;
+    private final ScoringRetryQueue scoringRetryQueue;
 
     public AIIntegrationService(AIServiceGrpcClient aiServiceClient,
                                 JobWebClient jobWebClient,
                                 ApplicationRepository applicationRepository,
                                 AssessmentRepository assessmentRepository,
-                                ChatMessageRepository chatMessageRepository) {
+                                ChatSessionRepository chatSessionRepository,
+                                ChatMessageRepository chatMessageRepository,
+                                TransactionTemplate transactionTemplate,
+                                ResumePreScreener resumePreScreener,
+                                ScoreMemoizer scoreMemoizer,
+                                ScoringRetryQueue scoringRetryQueue) {
         this.aiServiceClient = aiServiceClient;
         this.jobWebClient = jobWebClient;
         this.applicationRepository = applicationRepository;
         this.assessmentRepository = assessmentRepository;
+        this.chatSessionRepository = chatSessionRepository;
         this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.resumePreScreener = resumePreScreener;
+        this.scoreMemoizer = scoreMemoizer;
+        this.scoringRetryQueue = scoringRetryQueue;
     }
 
     /**
-     * Process a chat message from a candidate and get AI response
+     * Generate the next AI message of a chat session; the caller stores it
      *
      * @param sessionId Chat session ID
      * @return AI response message
+     * @throws IllegalStateException     when the job details cannot be fetched or the reply fails
+     * @throws GenAiUnavailableException when the AI service is unavailable
      */
-    @Transactional
-    public ChatMessage processAndGetAIResponse(UUID sessionId, ChatSession session) {
-        // Get application and job details
-        Application application = session.getApplication();
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-
-        if (job == null) {
-            logger.error("Failed to fetch job details for application {}", application.getApplicationId());
-            return createErrorMessage(session, "Sorry, I couldn't process your message due to missing job information.");
-        }
-
-        // Get chat history
-        List<ChatMessage> chatHistory = chatMessageRepository.findBySessionIdOrderBySentAtAsc(sessionId);
+    public String generateChatReply(UUID sessionId) {
+        ChatContext context = loadChatContext(sessionId);
+        JobDto job = fetchJob(context.applicationId(), context.jobId());
 
         // Call AI service for response
-        String aiResponse = aiServiceClient.getChatReply(
-                application.getResumeText(),
+        return aiServiceClient.getChatReply(
+                context.resumeText(),
                 job.getTitle(),
                 job.getDescription(),
                 job.getRequirements(),
-                chatHistory
+                context.history()
         );
-
-        // Create and save AI response message
-        ChatMessage aiMessage = new ChatMessage();
-        aiMessage.setMessageId(UUID.randomUUID());
-        aiMessage.setSession(session);
-        aiMessage.setSender(MessageSender.AI);
-        aiMessage.setContent(aiResponse);
-
-        // Update session message count
-        session.setMessageCount(session.getMessageCount() + 1);
-
-        return chatMessageRepository.save(aiMessage);
     }
 
-    @Transactional
-    public void processAndGetAIResponseStream(UUID sessionId, ChatSession session, StreamObserver<ChatReplyResponse> responseObserver) {
-        // Get application and job details
-        Application application = session.getApplication();
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-
-        if (job == null) {
-            logger.error("Failed to fetch job details for application {}", application.getApplicationId());
-            // Handle error through the stream
-            responseObserver.onError(new IllegalStateException("Could not fetch job details."));
-            return;
-        }
-
-        // Get chat history
-        List<ChatMessage> chatHistory = chatMessageRepository.findBySessionIdOrderBySentAtAsc(sessionId);
-
-        // Build gRPC request
-        List<de.tum.devops.grpc.ai.ChatMessage> grpcMessages = chatHistory.stream()
-                .map(aiServiceClient::convertToGrpcChatMessage)
-                .collect(Collectors.toList());
+    /**
+     * Stream the next AI message of a chat session. The chat history, resume and job are only loaded when
+     * they have to be sent, that is when no open interview session stream can take the turn; failures to load
+     * them are reported to the observer.
+     *
+     * @param aiMessages       AI messages the session has stored before this one
+     * @param candidateMessage the candidate message it answers, null for the opening question
+     */
+    public void processAndGetAIResponseStream(UUID sessionId, int aiMessages, String candidateMessage,
+                                              StreamObserver<ChatReplyResponse> responseObserver) {
+        aiServiceClient.interviewReplyStream(sessionId, aiMessages, candidateMessage,
+                () -> loadInterviewContext(sessionId), responseObserver);
+    }
 
-        de.tum.devops.grpc.ai.ChatReplyRequest request = de.tum.devops.grpc.ai.ChatReplyRequest.newBuilder()
-                .setResumeText(application.getResumeText())
+    private InterviewSessionStart loadInterviewContext(UUID sessionId) {
+        ChatContext context = loadChatContext(sessionId);
+        JobDto job = fetchJob(context.applicationId(), context.jobId());
+        return InterviewSessionStart.newBuilder()
+                .setSessionId(sessionId.toString())
+                .setResumeText(context.resumeText())
                 .setJobTitle(job.getTitle())
                 .setJobDescription(job.getDescription())
                 .setJobRequirements(job.getRequirements())
-                .addAllChatHistory(grpcMessages)
+                .addAllChatHistory(context.history().stream()
+                        .map(aiServiceClient::convertToGrpcChatMessage)
+                        .collect(Collectors.toList()))
                 .build();
-
-        // Start the stream
-        aiServiceClient.chatReplyStream(request, responseObserver);
     }
 
-    @Transactional
     public void processNormalQAStream(String question, boolean isOpenRag, StreamObserver<ChatReplyResponse> responseObserver) {
         // Directly call AI service for Normal QA, no db interaction needed
         aiServiceClient.normalQAStream(question, isOpenRag, responseObserver);
     }
 
     /**
-     * Score a resume against job requirements
+     * Score a resume against job requirements. The stored score is reused while neither the resume nor the
+     * job posting changed.
      *
      * @param applicationId Application ID
+     * @param force         ask the AI service again even if a stored score exists
      * @return Assessment with resume score
+     * @throws GenAiUnavailableException when the AI service is unavailable; the scoring is parked for retry
      */
-    @Transactional
-    public Assessment scoreResumeSync(UUID applicationId) {
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
-
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-        if (job == null) {
-            logger.error("Failed to fetch job details for application {}", applicationId);
-            throw new IllegalStateException("Failed to fetch job details");
-        }
-
-        // Call AI service to score resume
-        ScoreResumeResponse scoreResponse = aiServiceClient.scoreResume(
-                job.getTitle(),
-                job.getDescription(),
-                job.getRequirements(),
-                application.getResumeText()
-        );
-
-        // Create or update assessment
-        Assessment assessment = assessmentRepository.findByApplication(application)
-                .orElse(new Assessment(application));
-
-        assessment.setResumeScore((float) scoreResponse.getResumeScore());
-        assessment.setResumeComment(scoreResponse.getComment());
-        assessment.setRecommendation(aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation()));
-
-        return assessmentRepository.save(assessment);
+    public Assessment scoreResumeSync(UUID applicationId, boolean force) {
+        return scoreResume(applicationId, false, force);
     }
 
+    /**
+     * Scores the resume of a new application. Unlike {@link #scoreResumeSync}, the LLM is not called when
+     * the lexical pre-score is below the configured threshold; HR can still request the full score later.
+     * A failed scoring is parked for retry unless the application no longer exists.
+     */
     @Async
-    @Transactional
     public void scoreResumeAsync(UUID applicationId) {
+        try {
+            scoreResume(applicationId, true, false);
+        } catch (GenAiUnavailableException e) {
+            logger.warn("Resume scoring for application {} parked: {}", applicationId, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Resume scoring for application {} dropped: {}", applicationId, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Resume scoring for application {} failed, parked for retry", applicationId, e);
+            scoringRetryQueue.parkFailed(applicationId, ScoringRetryQueue.Kind.RESUME, e.getMessage());
+        }
+    }
+
+    private Assessment scoreResume(UUID applicationId, boolean preScreen, boolean force) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-        if (job == null) {
-            logger.error("Failed to fetch job details for application {}", applicationId);
-            throw new IllegalStateException("Failed to fetch job details");
+        JobDto job = fetchJob(applicationId, application.getJobId());
+
+        Float preScore = resumePreScreener.score(job.getRequirements(), application.getResumeText());
+        if (preScreen && resumePreScreener.isBelowThreshold(preScore)) {
+            logger.info("Skipping LLM resume scoring for application {}: pre-score {} below threshold {}",
+                    applicationId, preScore, resumePreScreener.getThreshold());
+            return transactionTemplate.execute(status -> {
+                Assessment assessment = findOrCreateAssessment(application);
+                assessment.setPreScore(preScore);
+                assessment.setResumeComment("Not scored by AI: few job requirements found in the resume");
+                return assessmentRepository.save(assessment);
+            });
         }
 
-        // Call AI service to score resume
-        ScoreResumeResponse scoreResponse = aiServiceClient.scoreResume(
-                job.getTitle(),
-                job.getDescription(),
-                job.getRequirements(),
-                application.getResumeText()
-        );
+        // Call AI service to score resume, unless this resume was already scored for this job posting
+        ScoreResumeResponse scoreResponse = parkIfUnavailable(applicationId, ScoringRetryQueue.Kind.RESUME,
+                () -> scoreMemoizer.memoize(ScoreMemoizer.Kind.RESUME, jobHash(job),
+                        ScoreMemoizer.hash(application.getResumeText()), force, ScoreResumeResponse.parser(),
+                        () -> aiServiceClient.scoreResume(
+                                job.getTitle(),
+                                job.getDescription(),
+                                job.getRequirements(),
+                                application.getResumeText()
+                        )));
 
         // Create or update assessment
-        Assessment assessment = assessmentRepository.findByApplication(application)
-                .orElse(new Assessment(application));
-        if (assessment.getAssessmentId() == null) {
-            assessment.setAssessmentId(UUID.randomUUID());
-        }
-        assessment.setResumeScore((float) scoreResponse.getResumeScore());
-        assessment.setResumeComment(scoreResponse.getComment());
-        assessment.setRecommendation(aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation()));
-
-        assessmentRepository.save(assessment);
+        return transactionTemplate.execute(status -> {
+            Assessment assessment = findOrCreateAssessment(application);
+            assessment.setPreScore(preScore);
+            assessment.setResumeScore((float) scoreResponse.getResumeScore());
+            assessment.setResumeComment(scoreResponse.getComment());
+            assessment.setRecommendation(aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation()));
+            return assessmentRepository.save(assessment);
+        });
     }
 
     /**
-     * Score an interview based on chat history
+     * Score an interview based on chat history. A failed scoring is parked for retry unless the application
+     * no longer exists.
      *
      * @param applicationId Application ID
      */
     @Async
-    @Transactional
     public void scoreInterviewAsync(UUID applicationId) {
+        try {
+            scoreInterviewSync(applicationId, false);
+        } catch (GenAiUnavailableException e) {
+            logger.warn("Interview scoring for application {} parked: {}", applicationId, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Interview scoring for application {} dropped: {}", applicationId, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Interview scoring for application {} failed, parked for retry", applicationId, e);
+            scoringRetryQueue.parkFailed(applicationId, ScoringRetryQueue.Kind.INTERVIEW, e.getMessage());
+        }
+    }
+
+    /**
+     * Score an interview; the stored score is reused while neither the transcript nor the job posting changed
+     *
+     * @param force ask the AI service again even if a stored score exists
+     * @throws GenAiUnavailableException when the AI service is unavailable; the scoring is parked for retry
+     */
+    public Assessment scoreInterviewSync(UUID applicationId, boolean force) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-        if (job == null) {
-            logger.error("Failed to fetch job details for application {}", applicationId);
-            throw new IllegalStateException("Failed to fetch job details");
-        }
+        JobDto job = fetchJob(applicationId, application.getJobId());
 
         // Get chat history
         List<ChatMessage> chatHistory = chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId);
@@ -227,85 +244,84 @@ public class AIIntegrationService {
             throw new IllegalStateException("No chat history found for scoring");
         }
 
-        // Call AI service to score interview
-        ScoreInterviewResponse scoreResponse = aiServiceClient.scoreInterview(
-                job.getTitle(),
-                job.getDescription(),
-                job.getRequirements(),
-                chatHistory
-        );
+        // Call AI service to score interview, unless this transcript was already scored for this job posting
+        String transcriptHash = ScoreMemoizer.hash(chatHistory.stream()
+                .map(message -> message.getSender() + ": " + message.getContent())
+                .toArray(String[]::new));
+        ScoreInterviewResponse scoreResponse = parkIfUnavailable(applicationId, ScoringRetryQueue.Kind.INTERVIEW,
+                () -> scoreMemoizer.memoize(ScoreMemoizer.Kind.INTERVIEW, jobHash(job),
+                        transcriptHash, force, ScoreInterviewResponse.parser(),
+                        () -> aiServiceClient.scoreInterview(
+                                job.getTitle(),
+                                job.getDescription(),
+                                job.getRequirements(),
+                                chatHistory
+                        )));
 
         // Create or update assessment
-        Assessment assessment = assessmentRepository.findByApplication(application)
-                .orElse(new Assessment(application));
-
-        assessment.setInterviewScore((float) scoreResponse.getInterviewScore());
-        assessment.setInterviewComment(scoreResponse.getComment());
-
-        // Only update recommendation if it's worse than the existing one
-        RecommendationEnum newRecommendation = aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation());
-        if (assessment.getRecommendation() == null ||
-                assessment.getRecommendation().ordinal() < newRecommendation.ordinal()) {
-            assessment.setRecommendation(newRecommendation);
-        }
+        return transactionTemplate.execute(status -> {
+            Assessment assessment = findOrCreateAssessment(application);
+            assessment.setInterviewScore((float) scoreResponse.getInterviewScore());
+            assessment.setInterviewComment(scoreResponse.getComment());
+
+            // Only update recommendation if it's worse than the existing one
+            RecommendationEnum newRecommendation = aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation());
+            if (assessment.getRecommendation() == null ||
+                    assessment.getRecommendation().ordinal() < newRecommendation.ordinal()) {
+                assessment.setRecommendation(newRecommendation);
+            }
+
+            return assessmentRepository.save(assessment);
+        });
+    }
 
-        assessmentRepository.save(assessment);
+    /**
+     * Application and chat history for a session, detached from the persistence context
+     */
+    private record ChatContext(UUID applicationId, UUID jobId, String resumeText, List<ChatMessage> history) {
     }
 
-    @Transactional
-    public Assessment scoreInterviewSync(UUID applicationId) {
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+    private ChatContext loadChatContext(UUID sessionId) {
+        return transactionTemplate.execute(status -> {
+            ChatSession session = chatSessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Chat session not found"));
+            Application application = session.getApplication();
+            return new ChatContext(
+                    application.getApplicationId(),
+                    application.getJobId(),
+                    application.getResumeText(),
+                    chatMessageRepository.findBySessionIdOrderBySentAtAsc(sessionId));
+        });
+    }
 
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
+    private JobDto fetchJob(UUID applicationId, UUID jobId) {
+        JobDto job = jobWebClient.fetchJob(jobId).block();
         if (job == null) {
             logger.error("Failed to fetch job details for application {}", applicationId);
             throw new IllegalStateException("Failed to fetch job details");
         }
+        return job;
+    }
 
-        // Get chat history
-        List<ChatMessage> chatHistory = chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId);
-        if (chatHistory.isEmpty()) {
-            logger.warn("No chat history found for application {}", applicationId);
-            throw new IllegalStateException("No chat history found for scoring");
-        }
-
-        // Call AI service to score interview
-        ScoreInterviewResponse scoreResponse = aiServiceClient.scoreInterview(
-                job.getTitle(),
-                job.getDescription(),
-                job.getRequirements(),
-                chatHistory
-        );
-
-        // Create or update assessment
-        Assessment assessment = assessmentRepository.findByApplication(application)
-                .orElse(new Assessment(application));
-
-        assessment.setInterviewScore((float) scoreResponse.getInterviewScore());
-        assessment.setInterviewComment(scoreResponse.getComment());
-
-        // Only update recommendation if it's worse than the existing one
-        RecommendationEnum newRecommendation = aiServiceClient.convertToRecommendationEnum(scoreResponse.getRecommendation());
-        if (assessment.getRecommendation() == null ||
-                assessment.getRecommendation().ordinal() < newRecommendation.ordinal()) {
-            assessment.setRecommendation(newRecommendation);
+    private <T> T parkIfUnavailable(UUID applicationId, ScoringRetryQueue.Kind kind, Supplier<T> scoring) {
+        try {
+            return scoring.get();
+        } catch (GenAiUnavailableException e) {
+            scoringRetryQueue.park(applicationId, kind, e.getMessage());
+            throw e;
         }
+    }
 
-        return assessmentRepository.save(assessment);
+    private static String jobHash(JobDto job) {
+        return ScoreMemoizer.hash(job.getTitle(), job.getDescription(), job.getRequirements());
     }
 
-    /**
-     * Create error message when AI service fails
-     */
-    private ChatMessage createErrorMessage(ChatSession session, String errorMessage) {
-        ChatMessage message = new ChatMessage();
-        message.setMessageId(UUID.randomUUID());
-        message.setSession(session);
-        message.setSender(MessageSender.AI);
-        message.setContent(errorMessage);
-        message.setSentAt(LocalDateTime.now());
-        // Not save error message
-        return message;
+    private Assessment findOrCreateAssessment(Application application) {
+        return assessmentRepository.findByApplicationApplicationId(application.getApplicationId())
+                .orElseGet(() -> {
+                    Assessment assessment = new Assessment(application);
+                    assessment.setAssessmentId(UUID.randomUUID());
+                    return assessment;
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.dto.ApplicationSearchHitDto;
+import de.tum.devops.application.dto.ApplicationSearchResultDto;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over resumes and HR comments.
+ * <p>
+ * Matches come from the GIN index on the generated {@code applications.search_vector} column and are ranked
+ * with {@code ts_rank}, HR comments weighing more than resume text. Pages are keyset-paginated on
+ * {@code (rank, application_id)}, so later pages cost the same as the first, and highlight snippets are only
+ * built for the rows of the returned page. The query string uses web search syntax: quoted phrases,
+ * {@code or} and {@code -} for exclusion.
+ */
+@Service
+public class ApplicationSearchService {
+
+    private static final String CONFIG = "english";
+    // Control characters as selection markers so the snippet can be HTML-escaped before adding <mark>
+    private static final String START_SEL = "\u0002";
+    private static final String STOP_SEL = "\u0003";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL
+            + ", MaxWords=25, MinWords=8, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    private static final String SEARCH = """
+            SELECT h.application_id, h.job_id, h.candidate_id, h.status, h.submitted_at, h.rank,
+                   ts_headline('%1$s', a.resume_text, h.query, :options) AS resume_snippet,
+                   CASE WHEN a.hr_comments IS NOT NULL
+                        THEN ts_headline('%1$s', a.hr_comments, h.query, :options) END AS hr_comments_snippet
+            FROM (
+                SELECT * FROM (
+                    SELECT a.application_id, a.job_id, a.candidate_id, a.status, a.submitted_at, q.query,
+                           ts_rank(a.search_vector, q.query) AS rank
+                    FROM applications a, websearch_to_tsquery('%1$s', :query) q(query)
+                    WHERE a.search_vector @@ q.query %2$s
+                ) ranked
+                %3$s
+                ORDER BY rank DESC, application_id DESC
+                LIMIT :limit
+            ) h
+            JOIN applications a ON a.application_id = h.application_id
+            ORDER BY h.rank DESC, h.application_id DESC""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ApplicationSearchService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+    }
+
+    /**
+     * Best matches for {@code query}, optionally within one job
+     *
+     * @param cursor {@code nextCursor} of the previous page, null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ApplicationSearchResultDto search(String query, UUID jobId, int limit, String cursor) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("options", HEADLINE_OPTIONS)
+                .addValue("limit", limit);
+        String jobFilter = "";
+        if (jobId != null) {
+            jobFilter = "AND a.job_id = :jobId";
+            params.addValue("jobId", jobId);
+        }
+        String keyset = "";
+        if (cursor != null) {
+            Cursor after = Cursor.decode(cursor);
+            keyset = "WHERE (rank, application_id) < (:afterRank, :afterId)";
+            params.addValue("afterRank", after.rank()).addValue("afterId", after.applicationId());
+        }
+        String sql = SEARCH.formatted(CONFIG, jobFilter, keyset);
+
+        List<ApplicationSearchHitDto> hits = readOnlyTransactionTemplate.execute(tx ->
+                jdbcTemplate.query(sql, params, (rs, rowNum) -> toHit(rs)));
+
+        String nextCursor = null;
+        if (hits.size() == limit) {
+            ApplicationSearchHitDto last = hits.get(hits.size() - 1);
+            nextCursor = new Cursor(last.getRank(), last.getApplicationId()).encode();
+        }
+        return new ApplicationSearchResultDto(hits, nextCursor);
+    }
+
+    private static ApplicationSearchHitDto toHit(ResultSet rs) throws SQLException {
+        ApplicationSearchHitDto hit = new ApplicationSearchHitDto();
+        hit.setApplicationId(rs.getObject("application_id", UUID.class));
+        hit.setJobId(rs.getObject("job_id", UUID.class));
+        hit.setCandidateId(rs.getObject("candidate_id", UUID.class));
+        String status = rs.getString("status");
+        hit.setStatus(status == null ? null : ApplicationStatus.valueOf(status));
+        Timestamp submittedAt = rs.getTimestamp("submitted_at");
+        hit.setSubmittedAt(submittedAt == null ? null : submittedAt.toLocalDateTime());
+        hit.setRank(rs.getFloat("rank"));
+        hit.setResumeSnippet(highlight(rs.getString("resume_snippet")));
+        hit.setHrCommentsSnippet(highlight(rs.getString("hr_comments_snippet")));
+        return hit;
+    }
+
+    static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(START_SEL, "<mark>")
+                .replace(STOP_SEL, "</mark>");
+    }
+
+    /**
+     * Position after the last hit of a page. {@code rank} is a {@code real} recomputed identically on every
+     * query, so comparing it exactly is safe.
+     */
+    record Cursor(float rank, UUID applicationId) {
+
+        String encode() {
+            String raw = Float.toString(rank) + '|' + applicationId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(Float.parseFloat(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+        }
+    }
+}
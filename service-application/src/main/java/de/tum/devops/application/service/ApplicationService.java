@@ -8,17 +8,24 @@ import de.tum.devops.application.persistence.entity.Assessment;
 import de.tum.devops.application.persistence.enums.ApplicationStatus;
 import de.tum.devops.application.persistence.enums.ChatStatus;
 import de.tum.devops.application.persistence.enums.DecisionEnum;
+import de.tum.devops.application.persistence.projection.ApplicationSummary;
+import de.tum.devops.application.persistence.projection.LeaderboardEntry;
 import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.AssessmentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -27,21 +34,30 @@ public class ApplicationService {
     private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
 
     private final ApplicationRepository applicationRepository;
+    private final AssessmentRepository assessmentRepository;
     private final JobWebClient jobWebClient;
     private final AuthWebClient authWebClient;
     private final FileStorageService fileStorageService;
     private final DocumentTextExtractorService documentTextExtractorService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     public ApplicationService(ApplicationRepository applicationRepository,
+                              AssessmentRepository assessmentRepository,
                               JobWebClient jobWebClient,
                               AuthWebClient authWebClient,
                               FileStorageService fileStorageService,
-                              DocumentTextExtractorService documentTextExtractorService) {
+                              DocumentTextExtractorService documentTextExtractorService,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate) {
         this.applicationRepository = applicationRepository;
+        this.assessmentRepository = assessmentRepository;
         this.jobWebClient = jobWebClient;
         this.authWebClient = authWebClient;
         this.fileStorageService = fileStorageService;
         this.documentTextExtractorService = documentTextExtractorService;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
     }
 
     public Application getById(UUID applicationId) {
@@ -49,9 +65,9 @@ public class ApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
     }
 
-    @Transactional
     public ApplicationDto submitApplication(UUID jobId, UUID candidateId, MultipartFile resumeFile) {
         logger.info("Submitting application for job {} by candidate {}", jobId, candidateId);
+        // Not transactional: the job lookup and file storage below are remote calls, only the save in step 7 writes
 
         // 1. Validate resume file is provided
         if (resumeFile == null || resumeFile.isEmpty()) {
@@ -82,63 +98,57 @@ public class ApplicationService {
         // 5. Store resume file
         String filePath = fileStorageService.store(resumeFile, candidateId + "_" + jobId);
 
-        // 6. Create and save application
+        // 6. Create application, already in AI_SCREENING, together with its assessment
         Application application = new Application();
         application.setApplicationId(UUID.randomUUID());
         application.setJobId(jobId);
         application.setCandidateId(candidateId);
         application.setResumeText(resumeText);
         application.setResumeFilePath(filePath);
-        application.setStatus(ApplicationStatus.SUBMITTED);
+        application.setStatus(ApplicationStatus.AI_SCREENING);
 
+        Assessment assessment = new Assessment(application);
+        assessment.setAssessmentId(UUID.randomUUID());
+        application.setAssessment(assessment);
+
+        // 7. save application; both inserts go out in one flush at commit
         Application savedApplication = applicationRepository.save(application);
         logger.info("Application submitted successfully with ID: {}", savedApplication.getApplicationId());
 
-        // 7. save application
-        // Update status to AI_SCREENING
-        savedApplication.setStatus(ApplicationStatus.AI_SCREENING);
-        // create assessment
-        Assessment assessment = new Assessment(savedApplication);
-        assessment.setAssessmentId(UUID.randomUUID());
-        savedApplication.setAssessment(assessment);
-        savedApplication = applicationRepository.saveAndFlush(savedApplication);
-
         ApplicationDto applicationDto = convertToDto(savedApplication);
         applicationDto.setJob(jobDto);
         hideImportantFieldsForCandidate(applicationDto);
         return applicationDto;
     }
 
-    @Transactional(readOnly = true)
     public Page<ApplicationDto> getApplications(int page, int size, UUID jobId, ApplicationStatus status, String userRole, UUID userId) {
         Pageable pageable = PageRequest.of(page, size, Sort.Direction.DESC, "submittedAt");
-        Page<Application> applicationPage;
-
-        if ("HR".equals(userRole)) {
-            // HR can see all applications with optional filtering
-            if (jobId != null && status != null) {
-                applicationPage = applicationRepository.findByJobIdAndStatus(jobId, status, pageable);
-            } else if (jobId != null) {
-                applicationPage = applicationRepository.findByJobId(jobId, pageable);
-            } else if (status != null) {
-                applicationPage = applicationRepository.findByStatus(status, pageable);
-            } else {
-                applicationPage = applicationRepository.findAll(pageable);
+        // List pages use a projection without resume_text; the full text is only loaded on detail views
+        Page<ApplicationSummary> summaryPage = readOnlyTransactionTemplate.execute(tx -> {
+            if ("HR".equals(userRole)) {
+                // HR can see all applications with optional filtering
+                if (jobId != null && status != null) {
+                    return applicationRepository.findSummariesByJobIdAndStatus(jobId, status, pageable);
+                } else if (jobId != null) {
+                    return applicationRepository.findSummariesByJobId(jobId, pageable);
+                } else if (status != null) {
+                    return applicationRepository.findSummariesByStatus(status, pageable);
+                }
+                return applicationRepository.findSummaries(pageable);
             }
-        } else {
             // Candidates can only see their own applications with optional filtering
             if (jobId != null && status != null) {
-                applicationPage = applicationRepository.findByCandidateIdAndJobIdAndStatus(userId, jobId, status, pageable);
+                return applicationRepository.findSummariesByCandidateIdAndJobIdAndStatus(userId, jobId, status, pageable);
             } else if (jobId != null) {
-                applicationPage = applicationRepository.findByCandidateIdAndJobId(userId, jobId, pageable);
+                return applicationRepository.findSummariesByCandidateIdAndJobId(userId, jobId, pageable);
             } else if (status != null) {
-                applicationPage = applicationRepository.findByCandidateIdAndStatus(userId, status, pageable);
-            } else {
-                applicationPage = applicationRepository.findByCandidateId(userId, pageable);
+                return applicationRepository.findSummariesByCandidateIdAndStatus(userId, status, pageable);
             }
-        }
+            return applicationRepository.findSummariesByCandidateId(userId, pageable);
+        });
 
-        Page<ApplicationDto> dtoPage = applicationPage.map(this::convertToDto);
+        // Enriched with candidate and job from the other services after the query's transaction has ended
+        Page<ApplicationDto> dtoPage = summaryPage.map(this::convertToDto);
 
         if (userRole != null && userRole.equals("CANDIDATE")) {
             dtoPage.getContent().forEach(this::hideImportantFieldsForCandidate);
@@ -147,10 +157,9 @@ public class ApplicationService {
         return dtoPage;
     }
 
-    @Transactional(readOnly = true)
     public ApplicationDto getApplicationById(UUID applicationId, String userRole, UUID userId) {
         // Use the enhanced query to fetch application with all related entities
-        Application application = applicationRepository.findByIdWithRelations(applicationId)
+        Application application = readOnlyTransactionTemplate.execute(tx -> applicationRepository.findByIdWithRelations(applicationId))
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
         // Skip security check for internal calls
@@ -167,37 +176,40 @@ public class ApplicationService {
         return applicationDto;
     }
 
-    @Transactional
+    /**
+     * Best {@code limit} fully scored applicants of a job, optionally only those whose average score is at
+     * least {@code minScore}
+     */
+    public List<LeaderboardEntryDto> getLeaderboard(UUID jobId, int limit, Float minScore) {
+        List<LeaderboardEntry> entries = readOnlyTransactionTemplate.execute(tx -> minScore == null
+                ? assessmentRepository.findLeaderboard(jobId, Limit.of(limit))
+                : assessmentRepository.findTopPerformers(jobId, minScore, Limit.of(limit)));
+
+        List<LeaderboardEntryDto> leaderboard = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            leaderboard.add(new LeaderboardEntryDto(leaderboard.size() + 1, entry));
+        }
+        return leaderboard;
+    }
+
     public ApplicationDto updateApplication(UUID applicationId, DecisionEnum hrDecision, String hrComments, UUID hrUserId) {
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+        Application updatedApplication = transactionTemplate.execute(status -> {
+            Application application = applicationRepository.findById(applicationId)
+                    .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
-        if (application.getHrDecision() != null) {
-            application.setHrDecision(hrDecision);
-        }
-        if (application.getHrComments() != null) {
-            application.setHrComments(hrComments);
-        }
+            if (application.getHrDecision() != null) {
+                application.setHrDecision(hrDecision);
+            }
+            if (application.getHrComments() != null) {
+                application.setHrComments(hrComments);
+            }
 
-        Application updatedApplication = applicationRepository.save(application);
+            return applicationRepository.save(application);
+        });
         return convertToDto(updatedApplication);
     }
 
     private ApplicationDto convertToDto(Application application) {
-        // Fetch related data if needed, e.g., user details
-        UserDto candidate = authWebClient.fetchUser(application.getCandidateId()).block();
-        JobDto job = jobWebClient.fetchJob(application.getJobId()).block();
-        if (job == null) {
-            logger.warn("Job not found for application: {}", application.getApplicationId());
-        } else {
-            try {
-                UserDto hrCreator = authWebClient.fetchUser(job.getHrCreator().getUserId()).block();
-                job.setHrCreator(hrCreator);
-            } catch (Exception e) {
-                logger.error("HR creator not found for job when converting Application to dto: {}", job.getJobId(), e);
-            }
-        }
-
         ChatStatus chatStatus = application.getChatSession() != null ? application.getChatSession().getStatus() : null;
 
         AssessmentDto assessment = new AssessmentDto(application.getAssessment());
@@ -214,12 +226,52 @@ public class ApplicationService {
                 chatStatus,
                 application.getSubmittedAt(),
                 application.getUpdatedAt(),
-                candidate, // assuming ApplicationDto is updated to hold UserDto
-                job, // assuming ApplicationDto is updated to hold JobDto
+                fetchCandidate(application.getCandidateId()),
+                fetchJob(application.getJobId(), application.getApplicationId()),
+                assessment
+        );
+    }
+
+    private ApplicationDto convertToDto(ApplicationSummary summary) {
+        AssessmentDto assessment = summary.assessmentId() != null ? new AssessmentDto(summary) : null;
+
+        return new ApplicationDto(
+                summary.applicationId(),
+                summary.jobId(),
+                summary.candidateId(),
+                summary.status(),
+                null, // resume text is not part of list views
+                summary.resumeFilePath(),
+                summary.hrDecision(),
+                summary.hrComments(),
+                summary.chatStatus(),
+                summary.submittedAt(),
+                summary.updatedAt(),
+                fetchCandidate(summary.candidateId()),
+                fetchJob(summary.jobId(), summary.applicationId()),
                 assessment
         );
     }
 
+    private UserDto fetchCandidate(UUID candidateId) {
+        return authWebClient.fetchUser(candidateId).block();
+    }
+
+    private JobDto fetchJob(UUID jobId, UUID applicationId) {
+        JobDto job = jobWebClient.fetchJob(jobId).block();
+        if (job == null) {
+            logger.warn("Job not found for application: {}", applicationId);
+        } else {
+            try {
+                UserDto hrCreator = authWebClient.fetchUser(job.getHrCreator().getUserId()).block();
+                job.setHrCreator(hrCreator);
+            } catch (Exception e) {
+                logger.error("HR creator not found for job when converting Application to dto: {}", job.getJobId(), e);
+            }
+        }
+        return job;
+    }
+
     private void hideImportantFieldsForCandidate(ApplicationDto applicationDto) {
         applicationDto.setResumeText(null);
         applicationDto.setResumeFilePath(null);
@@ -230,4 +282,4 @@ public class ApplicationService {
         }
         applicationDto.setAssessment(null);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,328 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.EmbeddingProperties;
+import de.tum.devops.application.dto.CandidateMatchDto;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.dto.JobMatchDto;
+import de.tum.devops.application.dto.JobStatus;
+import de.tum.devops.application.embedding.Embedder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Semantic matching between resumes and job postings on pgvector.
+ * <p>
+ * Every submitted application gets an embedding of its resume in {@code application_embeddings}; jobs are
+ * embedded from title, description and requirements into {@code job_embeddings} the first time they are seen
+ * and again whenever that text changes. Nearest neighbours come from the HNSW indexes on cosine distance,
+ * with iterative index scans so filtered queries still return {@code limit} rows. Job data is fetched from
+ * the job service before any transaction is opened. Queries whose reference vector is missing, for example a
+ * job or resume without embeddable text, return no matches rather than ranking against nothing.
+ */
+@Service
+public class CandidateMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateMatchingService.class);
+
+    /**
+     * Dimension of the {@code VECTOR} columns; the configured embedder must produce vectors of this size
+     */
+    public static final int DIMENSIONS = 384;
+
+    private static final int JOB_FETCH_CONCURRENCY = 8;
+
+    private static final String UPSERT_APPLICATION = """
+            INSERT INTO application_embeddings (application_id, job_id, candidate_id, model, embedding, updated_at)
+            VALUES (:applicationId, :jobId, :candidateId, :model, CAST(:embedding AS vector), now())
+            ON CONFLICT (application_id) DO UPDATE
+            SET model = EXCLUDED.model, embedding = EXCLUDED.embedding, updated_at = EXCLUDED.updated_at""";
+
+    private static final String UPSERT_JOB = """
+            INSERT INTO job_embeddings (job_id, title, content_hash, model, embedding, status, updated_at)
+            VALUES (:jobId, :title, :contentHash, :model, CAST(:embedding AS vector), :status, now())
+            ON CONFLICT (job_id) DO UPDATE
+            SET title = EXCLUDED.title, content_hash = EXCLUDED.content_hash, model = EXCLUDED.model,
+                embedding = EXCLUDED.embedding, status = EXCLUDED.status, updated_at = EXCLUDED.updated_at
+            WHERE job_embeddings.content_hash <> EXCLUDED.content_hash OR job_embeddings.model <> EXCLUDED.model""";
+
+    private static final String UPDATE_JOB_STATUS = """
+            UPDATE job_embeddings SET status = :status
+            WHERE job_id = :jobId AND status <> :status""";
+
+    // The query vector is a scalar subquery so it is evaluated once and the HNSW index can order by it
+    private static final String CANDIDATES_FOR_JOB = """
+            WITH q AS (SELECT embedding FROM job_embeddings WHERE job_id = :jobId AND model = :model)
+            SELECT e.application_id, e.candidate_id, e.job_id,
+                   e.embedding <=> (SELECT embedding FROM q) AS distance
+            FROM application_embeddings e
+            WHERE e.model = :model AND EXISTS (SELECT 1 FROM q) %s
+            ORDER BY e.embedding <=> (SELECT embedding FROM q)
+            LIMIT :limit""";
+
+    private static final String JOBS_FOR_CANDIDATE = """
+            WITH q AS (
+                SELECT embedding FROM application_embeddings
+                WHERE candidate_id = :candidateId AND model = :model
+                ORDER BY updated_at DESC
+                LIMIT 1
+            )
+            SELECT j.job_id, j.embedding <=> (SELECT embedding FROM q) AS distance
+            FROM job_embeddings j
+            WHERE j.model = :model AND j.status = 'OPEN' AND EXISTS (SELECT 1 FROM q)
+              AND NOT EXISTS (SELECT 1 FROM applications a WHERE a.candidate_id = :candidateId AND a.job_id = j.job_id)
+            ORDER BY j.embedding <=> (SELECT embedding FROM q)
+            LIMIT :limit""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Embedder embedder;
+    private final JobWebClient jobWebClient;
+    private final EmbeddingProperties properties;
+
+    public CandidateMatchingService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate,
+                                    Embedder embedder,
+                                    JobWebClient jobWebClient,
+                                    EmbeddingProperties properties) {
+        if (embedder.dimensions() != DIMENSIONS) {
+            throw new IllegalStateException("Embedder " + embedder.model() + " produces " + embedder.dimensions()
+                    + " dimensions, the embedding tables store " + DIMENSIONS);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.embedder = embedder;
+        this.jobWebClient = jobWebClient;
+        this.properties = properties;
+    }
+
+    @Async
+    public void indexApplicationAsync(UUID applicationId) {
+        indexApplication(applicationId);
+    }
+
+    /**
+     * Embeds the application's resume and, if new or changed, its job posting
+     *
+     * @throws IllegalArgumentException if the application does not exist
+     */
+    public void indexApplication(UUID applicationId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("applicationId", applicationId);
+        IndexedApplication application;
+        try {
+            application = jdbcTemplate.queryForObject("""
+                    SELECT job_id, candidate_id, resume_text FROM applications
+                    WHERE application_id = :applicationId""", params, (rs, rowNum) -> new IndexedApplication(
+                    rs.getObject("job_id", UUID.class), rs.getObject("candidate_id", UUID.class),
+                    rs.getString("resume_text")));
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("Application not found");
+        }
+
+        JobDto job = jobWebClient.fetchJob(application.jobId()).block();
+        float[] resumeVector = embedder.embed(application.resumeText());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (job != null) {
+                upsertJob(job);
+            }
+            if (isZero(resumeVector)) {
+                logger.warn("Resume of application {} has nothing to embed", applicationId);
+                return;
+            }
+            jdbcTemplate.update(UPSERT_APPLICATION, params
+                    .addValue("jobId", application.jobId())
+                    .addValue("candidateId", application.candidateId())
+                    .addValue("model", embedder.model())
+                    .addValue("embedding", toVectorLiteral(resumeVector)));
+        });
+        logger.info("Indexed embeddings for application {}", applicationId);
+    }
+
+    /**
+     * Applications whose resumes are closest to the job posting, most similar first
+     *
+     * @param appliedOnly only applications to this job, otherwise candidates who applied to any job
+     * @return no matches if the job posting has nothing to embed
+     * @throws IllegalArgumentException if the job does not exist
+     */
+    public List<CandidateMatchDto> findCandidatesForJob(UUID jobId, int limit, boolean appliedOnly) {
+        if (!ensureJobIndexed(jobId)) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("model", embedder.model())
+                .addValue("limit", limit);
+        String sql = CANDIDATES_FOR_JOB.formatted(appliedOnly ? "AND e.job_id = :jobId" : "");
+        return readOnlyTransactionTemplate.execute(status -> {
+            configureIndexScan();
+            return jdbcTemplate.query(sql, params, (rs, rowNum) -> new CandidateMatchDto(
+                    rs.getObject("application_id", UUID.class),
+                    rs.getObject("candidate_id", UUID.class),
+                    rs.getObject("job_id", UUID.class),
+                    1 - rs.getDouble("distance")));
+        });
+    }
+
+    /**
+     * Open jobs closest to the candidate's most recent resume that they have not applied to yet
+     * <p>
+     * Neighbours are preselected on the job status cached in {@code job_embeddings}, then fetched from the job
+     * service concurrently for their current details. Jobs closed since their status was cached are dropped
+     * and their cached status is updated.
+     */
+    public List<JobMatchDto> findSimilarJobsForCandidate(UUID candidateId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("candidateId", candidateId)
+                .addValue("model", embedder.model())
+                .addValue("limit", limit);
+        List<JobDistance> neighbours = readOnlyTransactionTemplate.execute(status -> {
+            configureIndexScan();
+            return jdbcTemplate.query(JOBS_FOR_CANDIDATE, params, (rs, rowNum) -> new JobDistance(
+                    rs.getObject("job_id", UUID.class), rs.getDouble("distance")));
+        });
+
+        List<JobMatchDto> fetched = Flux.fromIterable(Objects.requireNonNull(neighbours))
+                .flatMapSequential(neighbour -> jobWebClient.fetchJob(neighbour.jobId())
+                        .map(job -> new JobMatchDto(job, 1 - neighbour.distance())), JOB_FETCH_CONCURRENCY)
+                .collectList()
+                .block();
+
+        List<JobMatchDto> matches = new ArrayList<>();
+        List<JobDto> notOpen = new ArrayList<>();
+        for (JobMatchDto match : Objects.requireNonNull(fetched)) {
+            if (match.getJob().getStatus() == JobStatus.OPEN) {
+                matches.add(match);
+            } else {
+                notOpen.add(match.getJob());
+            }
+        }
+        if (!notOpen.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> notOpen.forEach(this::updateJobStatus));
+        }
+        return matches;
+    }
+
+    /**
+     * @return whether the job has an embedding of the configured model
+     */
+    private boolean ensureJobIndexed(UUID jobId) {
+        Boolean indexed = readOnlyTransactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM job_embeddings WHERE job_id = :jobId AND model = :model)",
+                new MapSqlParameterSource().addValue("jobId", jobId).addValue("model", embedder.model()),
+                Boolean.class));
+        if (Boolean.TRUE.equals(indexed)) {
+            return true;
+        }
+        JobDto job = jobWebClient.fetchJob(jobId).blockOptional()
+                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> upsertJob(job)));
+    }
+
+    /**
+     * Embeds the job posting unless its current text already is, and records its status
+     *
+     * @return whether the job posting has an embedding of its current text
+     */
+    private boolean upsertJob(JobDto job) {
+        String text = String.join("\n", job.getTitle(), Objects.toString(job.getDescription(), ""),
+                Objects.toString(job.getRequirements(), ""));
+        String contentHash = sha256(embedder.model() + "\n" + text);
+        Boolean current = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM job_embeddings WHERE job_id = :jobId AND content_hash = :contentHash)",
+                new MapSqlParameterSource().addValue("jobId", job.getJobId()).addValue("contentHash", contentHash),
+                Boolean.class);
+        if (Boolean.TRUE.equals(current)) {
+            updateJobStatus(job);
+            return true;
+        }
+        float[] vector = embedder.embed(text);
+        if (isZero(vector)) {
+            logger.warn("Job {} has nothing to embed", job.getJobId());
+            return false;
+        }
+        jdbcTemplate.update(UPSERT_JOB, new MapSqlParameterSource()
+                .addValue("jobId", job.getJobId())
+                .addValue("title", job.getTitle())
+                .addValue("contentHash", contentHash)
+                .addValue("model", embedder.model())
+                .addValue("embedding", toVectorLiteral(vector))
+                .addValue("status", String.valueOf(job.getStatus())));
+        return true;
+    }
+
+    private void updateJobStatus(JobDto job) {
+        jdbcTemplate.update(UPDATE_JOB_STATUS, new MapSqlParameterSource()
+                .addValue("jobId", job.getJobId())
+                .addValue("status", String.valueOf(job.getStatus())));
+    }
+
+    /**
+     * Sets the HNSW search width and lets filtered scans continue until enough rows pass the filter. Both
+     * settings only last until the end of the current transaction.
+     */
+    private void configureIndexScan() {
+        jdbcTemplate.getJdbcTemplate().execute("SET LOCAL hnsw.ef_search = " + properties.getEfSearch());
+        jdbcTemplate.getJdbcTemplate().execute("SET LOCAL hnsw.iterative_scan = strict_order");
+    }
+
+    /**
+     * pgvector text form {@code [x1,x2,...]}, cast to {@code vector} in SQL
+     */
+    static String toVectorLiteral(float[] vector) {
+        StringBuilder literal = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append(vector[i]);
+        }
+        return literal.append(']').toString();
+    }
+
+    // Cosine distance to a zero vector is undefined, such vectors are never stored
+    private static boolean isZero(float[] vector) {
+        for (float component : vector) {
+            if (component != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record IndexedApplication(UUID jobId, UUID candidateId, String resumeText) {
+    }
+
+    private record JobDistance(UUID jobId, double distance) {
+    }
+}
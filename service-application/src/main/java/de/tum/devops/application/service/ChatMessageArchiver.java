@@ -0,0 +1,139 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ChatArchiveProperties;
+import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintains the monthly {@code chat_messages} partitions and archives completed interviews.
+ * <p>
+ * Partitions for the current and the next {@code monthsAhead} months are created at startup and every six
+ * hours; there is no default partition, so inserts need them even when archival is disabled. Once a day,
+ * messages of sessions completed longer than {@code completedFor} ago are moved into
+ * {@code chat_message_archive} and past partitions left empty are detached {@code CONCURRENTLY} and then
+ * dropped, so chat reads and writes are not blocked meanwhile. Both jobs are safe to run on several
+ * instances at once.
+ */
+@Component
+public class ChatMessageArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatMessageArchiver.class);
+
+    static final String PARTITION_PREFIX = "chat_messages_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatArchiveProperties properties;
+
+    public ChatMessageArchiver(ChatMessageRepository chatMessageRepository,
+                               JdbcTemplate jdbcTemplate,
+                               ChatArchiveProperties properties) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "PT6H")
+    public void createPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    @Scheduled(cron = "${app.chat.archive.cron:0 15 3 * * *}")
+    public void archiveAndCompact() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int sessions = archiveCompletedSessions();
+        int dropped = dropEmptyPartitions(YearMonth.now());
+        logger.info("Archived {} completed chat sessions, dropped {} empty chat message partitions", sessions, dropped);
+    }
+
+    /**
+     * Archives completed sessions batch by batch, each in its own transaction
+     *
+     * @return the number of sessions archived
+     */
+    public int archiveCompletedSessions() {
+        LocalDateTime completedBefore = LocalDateTime.now().minus(properties.getCompletedFor());
+        int total = 0;
+        int archived;
+        do {
+            archived = chatMessageRepository.archiveCompletedSessions(completedBefore, properties.getBatchSize());
+            total += archived;
+        } while (archived > 0);
+        return total;
+    }
+
+    /**
+     * Creates the partition for {@code month} unless it exists
+     */
+    void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDate from = month.atDay(1);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF chat_messages "
+                    + "FOR VALUES FROM ('" + from + "') TO ('" + from.plusMonths(1) + "')");
+        } catch (DataAccessException e) {
+            logger.warn("Could not create chat message partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops monthly partitions before {@code currentMonth} that hold no rows. A partition is detached
+     * {@code CONCURRENTLY} first, which only takes a SHARE UPDATE EXCLUSIVE lock on {@code chat_messages},
+     * while dropping an attached partition would lock the whole table. A detach interrupted in a previous
+     * run is finalized. Must not run inside a transaction.
+     *
+     * @return the number of partitions dropped
+     */
+    int dropEmptyPartitions(YearMonth currentMonth) {
+        List<Partition> partitions = jdbcTemplate.query(
+                "SELECT c.relname, i.inhdetachpending FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'chat_messages'::regclass AND c.relname < ?",
+                (rs, rowNum) -> new Partition(rs.getString(1), rs.getBoolean(2)),
+                partitionName(currentMonth));
+        int dropped = 0;
+        for (Partition partition : partitions) {
+            if (!partition.name().startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + partition.name() + ")", Boolean.class);
+            if (!Boolean.TRUE.equals(empty)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("ALTER TABLE chat_messages DETACH PARTITION " + partition.name()
+                        + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.name());
+                dropped++;
+            } catch (DataAccessException e) {
+                // e.g. another instance is detaching it right now
+                logger.warn("Could not drop chat message partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private record Partition(String name, boolean detachPending) {
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
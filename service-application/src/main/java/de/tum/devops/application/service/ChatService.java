@@ -1,66 +1,87 @@
 package de.tum.devops.application.service;
 
+import de.tum.devops.application.client.AIServiceGrpcClient;
+import de.tum.devops.application.client.GenAiConcurrencyInterceptor;
 import de.tum.devops.application.dto.ChatInitializationDto;
 import de.tum.devops.application.dto.ChatMessageDto;
 import de.tum.devops.application.dto.ChatSessionDto;
-import de.tum.devops.application.persistence.entity.Application;
 import de.tum.devops.application.persistence.entity.ChatMessage;
 import de.tum.devops.application.persistence.entity.ChatSession;
-import de.tum.devops.application.persistence.enums.ApplicationStatus;
 import de.tum.devops.application.persistence.enums.ChatStatus;
 import de.tum.devops.application.persistence.enums.MessageSender;
+import de.tum.devops.application.persistence.projection.ChatTurnState;
 import de.tum.devops.application.persistence.repository.ApplicationRepository;
 import de.tum.devops.application.persistence.repository.ChatMessageRepository;
 import de.tum.devops.application.persistence.repository.ChatSessionRepository;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chat orchestration. Not transactional itself: writes go through {@link ChatTurnWriter} in short
+ * transactions around the AI calls, reads use their own read-only transactions.
+ */
 @Service
-@Transactional
 public class ChatService {
 
     private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
 
+    private static final String BUSY_MESSAGE = "The AI service is busy right now. Please try again in a few seconds.";
+    private static final String UNAVAILABLE_MESSAGE = "The AI service is unavailable right now. Please try again shortly.";
+
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ApplicationRepository applicationRepository;
     private final AIIntegrationService aiIntegrationService;
+    private final ChatTurnWriter chatTurnWriter;
+    private final ChatStreamRegistry chatStreamRegistry;
+    private final boolean pregenerateOpeningQuestion;
 
-    private final int aiMessageLimit = 2;
+    // Opening questions being generated in this instance; initialization joins a running pre-generation
+    private final ConcurrentHashMap<UUID, CompletableFuture<ChatMessage>> openingQuestions = new ConcurrentHashMap<>();
 
     public ChatService(ChatSessionRepository chatSessionRepository,
                        ChatMessageRepository chatMessageRepository,
                        ApplicationRepository applicationRepository,
-                       AIIntegrationService aiIntegrationService) {
+                       AIIntegrationService aiIntegrationService,
+                       ChatTurnWriter chatTurnWriter,
+                       ChatStreamRegistry chatStreamRegistry,
+                       @Value("${app.chat.pregenerate-opening-question:true}") boolean pregenerateOpeningQuestion) {
         this.chatSessionRepository = chatSessionRepository;
         this.chatMessageRepository = chatMessageRepository;
         this.applicationRepository = applicationRepository;
         this.aiIntegrationService = aiIntegrationService;
+        this.chatTurnWriter = chatTurnWriter;
+        this.chatStreamRegistry = chatStreamRegistry;
+        this.pregenerateOpeningQuestion = pregenerateOpeningQuestion;
     }
 
-    @Transactional
     public ChatInitializationDto initiateChatSession(UUID applicationId, UUID candidateId) {
-        ChatSession session = createOrGetSession(applicationId, candidateId);
+        ChatSession session = chatTurnWriter.createOrGetSession(applicationId, candidateId);
         ChatMessage initialMessage;
 
         List<ChatMessage> aiMessages = chatMessageRepository.findBySessionIdAndSenderOrderBySentAtAsc(session.getSessionId(), MessageSender.AI);
 
         if (aiMessages.isEmpty()) {
             logger.info("No AI messages found for session {}, generating initial question.", session.getSessionId());
-            initialMessage = addInitialAiMessage(session);
+            initialMessage = openingQuestion(session.getSessionId());
+            // The opening question is counted once, by whoever stored it
+            session.setMessageCount(Math.max(session.getMessageCount(), 1));
         } else {
             initialMessage = aiMessages.getLast();
             logger.info("Found existing initial AI message {} for session {}.", initialMessage.getMessageId(), session.getSessionId());
@@ -69,80 +90,209 @@ public class ChatService {
         return new ChatInitializationDto(new ChatSessionDto(session), new ChatMessageDto(initialMessage));
     }
 
-    private ChatMessage addInitialAiMessage(ChatSession session) {
-        // Get the AI's first response
-        return aiIntegrationService.processAndGetAIResponse(session.getSessionId(), session);
+    /**
+     * Streaming variant of {@link #initiateChatSession}. Sends a {@code session} event with the session, then
+     * the opening question as {@code message-chunk} events while it is generated, through the same pipeline
+     * as the replies to candidate messages, and finally {@code stream-end} with the stored message. An opening
+     * question that is already stored, or being generated in this instance, is sent as {@code stream-end} only.
+     */
+    public void initiateChatSessionStream(UUID applicationId, UUID candidateId, SseEmitter emitter) {
+        ChatSession session = chatTurnWriter.createOrGetSession(applicationId, candidateId);
+        UUID sessionId = session.getSessionId();
+        List<ChatMessage> aiMessages = chatMessageRepository.findBySessionIdAndSenderOrderBySentAtAsc(sessionId, MessageSender.AI);
+
+        // As in initiateChatSession, the session is reported with its opening question counted
+        session.setMessageCount(Math.max(session.getMessageCount(), 1));
+        try {
+            emitter.send(SseEmitter.event().name("session").data(new ChatSessionDto(session)));
+        } catch (Exception e) {
+            logger.error("Error sending chat session {}", sessionId, e);
+            emitter.completeWithError(e);
+            return;
+        }
+
+        if (!aiMessages.isEmpty()) {
+            logger.info("Found existing initial AI message for session {}.", sessionId);
+            sendStreamEnd(emitter, sessionId, aiMessages.getLast());
+            return;
+        }
+
+        CompletableFuture<ChatMessage> mine = new CompletableFuture<>();
+        CompletableFuture<ChatMessage> running = openingQuestions.putIfAbsent(sessionId, mine);
+        if (running != null) {
+            logger.info("Waiting for the opening question being generated for session {}", sessionId);
+            running.whenComplete((message, t) -> {
+                if (t == null) {
+                    sendStreamEnd(emitter, sessionId, message);
+                } else {
+                    sendError(emitter, errorMessage(t, "An error occurred while communicating with the AI service."), t);
+                }
+            });
+            return;
+        }
+
+        logger.info("No AI messages found for session {}, streaming initial question.", sessionId);
+        ChatStreamRegistry.ChatStream stream = chatStreamRegistry.start(sessionId);
+        stream.attach(emitter, null);
+        StreamObserver<de.tum.devops.grpc.ai.ChatReplyResponse> responseObserver = new StreamObserver<>() {
+            @Override
+            public void onNext(de.tum.devops.grpc.ai.ChatReplyResponse response) {
+                String chunk = response.getAiMessage();
+                if (!chunk.isEmpty()) {
+                    stream.chunk(chunk);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.error("Error from AI service stream for the opening question of session {}", sessionId, t);
+                stream.fail(errorMessage(t, "An error occurred while communicating with the AI service."), t);
+                settleOpeningQuestion(sessionId, mine, null, t);
+            }
+
+            @Override
+            public void onCompleted() {
+                logger.info("Opening question stream completed for session {}.", sessionId);
+                try {
+                    ChatMessage openingMessage = chatTurnWriter.saveOpeningMessage(sessionId, stream.content());
+                    stream.complete(new ChatMessageDto(openingMessage));
+                    settleOpeningQuestion(sessionId, mine, openingMessage, null);
+                } catch (Exception e) {
+                    logger.error("Error during stream completion for session {}", sessionId, e);
+                    stream.fail("An error occurred while saving the AI reply.", e);
+                    settleOpeningQuestion(sessionId, mine, null, e);
+                }
+            }
+        };
+
+        try {
+            aiIntegrationService.processAndGetAIResponseStream(sessionId, 0, null, responseObserver);
+        } catch (RuntimeException e) {
+            responseObserver.onError(e);
+        }
     }
 
-    public ChatSession createOrGetSession(UUID applicationId, UUID candidateId) {
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+    /**
+     * Generates and stores the opening question of a new application's interview in the background, so
+     * opening the chat later is a database read. When it fails, initialization generates the question.
+     */
+    @Async
+    public void pregenerateOpeningQuestion(UUID applicationId, UUID candidateId) {
+        if (!pregenerateOpeningQuestion) {
+            return;
+        }
+        try {
+            ChatSession session = chatTurnWriter.createOrGetSession(applicationId, candidateId);
+            if (chatMessageRepository.findBySessionIdAndSenderOrderBySentAtAsc(session.getSessionId(), MessageSender.AI).isEmpty()) {
+                openingQuestion(session.getSessionId());
+                logger.info("Pre-generated the opening question for application {}", applicationId);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not pre-generate the opening question for application {}: {}", applicationId, e.getMessage());
+        }
+    }
 
-        // Check if the candidate owns this application
-        if (!application.getCandidateId().equals(candidateId)) {
-            throw new SecurityException("Access denied to this application's chat");
+    /**
+     * Generates and stores the session's opening question, or waits for the generation already running in
+     * this instance. A failed generation is not stored, so the next request generates the question again.
+     */
+    private ChatMessage openingQuestion(UUID sessionId) {
+        CompletableFuture<ChatMessage> mine = new CompletableFuture<>();
+        CompletableFuture<ChatMessage> running = openingQuestions.putIfAbsent(sessionId, mine);
+        if (running != null) {
+            logger.info("Waiting for the opening question being generated for session {}", sessionId);
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
+        try {
+            ChatMessage message = chatTurnWriter.saveOpeningMessage(sessionId, aiIntegrationService.generateChatReply(sessionId));
+            mine.complete(message);
+            return message;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            openingQuestions.remove(sessionId, mine);
+        }
+    }
 
-        return chatSessionRepository.findByApplicationApplicationId(applicationId)
-                .orElseGet(() -> {
-                    logger.info("Creating new chat session for application {}", applicationId);
-                    ChatSession newSession = new ChatSession();
-                    newSession.setSessionId(UUID.randomUUID());
-                    newSession.setApplication(application);
-                    return chatSessionRepository.save(newSession);
-                });
+    private void settleOpeningQuestion(UUID sessionId, CompletableFuture<ChatMessage> future, ChatMessage message, Throwable t) {
+        openingQuestions.remove(sessionId, future);
+        if (t == null) {
+            future.complete(message);
+        } else {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private void sendStreamEnd(SseEmitter emitter, UUID sessionId, ChatMessage message) {
+        try {
+            emitter.send(SseEmitter.event().name("stream-end").data(new ChatMessageDto(message)));
+            emitter.complete();
+        } catch (Exception e) {
+            logger.error("Error sending the opening question of session {}", sessionId, e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, String message, Throwable t) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(message));
+            emitter.completeWithError(t);
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    public ChatSession createOrGetSession(UUID applicationId, UUID candidateId) {
+        return chatTurnWriter.createOrGetSession(applicationId, candidateId);
     }
 
+    /**
+     * Stores the candidate's message and streams the AI reply to the emitter. {@code message-chunk} events
+     * carry ids, so a client that loses the connection can pick the reply up again with
+     * {@link #resumeAiResponseStream}.
+     */
     public void addCandidateMessageAndGetAiResponseStream(UUID sessionId, String content, UUID candidateId, SseEmitter emitter) {
         // Step 1: Prepare session and save user message (transactional part)
-        PreparedSession preparedSession = prepareForStreaming(sessionId, content, candidateId);
-        ChatSession session = preparedSession.session;
+        ChatTurnWriter.PreparedTurn preparedTurn = chatTurnWriter.prepareTurn(sessionId, content, candidateId);
+        if (preparedTurn.interviewCompleted()) {
+            scoreInterview(preparedTurn.applicationId());
+        }
 
         final String endingMessage = "Interview session is already complete. Do you have any questions about our company? I can answer some of them if I know it. For security reasons, no further context will be retrieved at this session.";
 
-        StringBuilder fullAiResponse = new StringBuilder();
-
         // step 2: Check if the session is already complete. If so, then answer as NormalQA
-        if (preparedSession.isAlreadyCompleteMoreThanOnce) {
+        if (preparedTurn.isAlreadyCompleteMoreThanOnce()) {
             // Use NormalQA stream which needs only user question
+            ChatStreamRegistry.ChatStream stream = chatStreamRegistry.start(sessionId);
+            stream.attach(emitter, null);
             StreamObserver<de.tum.devops.grpc.ai.ChatReplyResponse> qaObserver = new StreamObserver<>() {
                 @Override
                 public void onNext(de.tum.devops.grpc.ai.ChatReplyResponse response) {
-                    try {
-                        String chunk = response.getAiMessage();
-                        if (!chunk.isEmpty()) {
-                            fullAiResponse.append(chunk);
-                            ChatMessageDto chunkDto = new ChatMessageDto(null, session.getSessionId(), MessageSender.AI, chunk, LocalDateTime.now());
-                            emitter.send(SseEmitter.event().name("message-chunk").data(chunkDto));
-                        }
-                    } catch (IOException e) {
-                        logger.error("Error sending SSE QA chunk for session {}", sessionId, e);
+                    String chunk = response.getAiMessage();
+                    if (!chunk.isEmpty()) {
+                        stream.chunk(chunk);
                     }
                 }
 
                 @Override
                 public void onError(Throwable t) {
                     logger.error("NormalQA stream error for session {}", sessionId, t);
-                    try {
-                        emitter.send(SseEmitter.event().name("error").data("Error during QA."));
-                    } catch (IOException ignored) {
-                        logger.error("Error sending SSE error for session {}", sessionId, t);
-                    }
-                    emitter.completeWithError(t);
+                    stream.fail(errorMessage(t, "Error during QA."), t);
                 }
 
                 @Override
                 public void onCompleted() {
                     logger.info("NormalQA stream completed for session {}.", sessionId);
-                    fullAiResponse.append("\n").append(endingMessage);
-                    try {
-                        ChatMessage finalMessage = saveFinalAiMessage(session.getSessionId(), fullAiResponse.toString(), false);
-                        emitter.send(SseEmitter.event().name("message-chunk").data("\n").data(endingMessage));
-                        emitter.send(SseEmitter.event().name("stream-end").data(new ChatMessageDto(finalMessage)));
-                    } catch (IOException ignored) {
-                        logger.error("Error sending SSE stream end for session {}", sessionId);
-                    }
-                    emitter.complete();
+                    stream.chunk("\n" + endingMessage);
+                    stream.complete(transientAiMessage(sessionId, stream.content()));
                 }
             };
 
@@ -150,7 +300,7 @@ public class ChatService {
             return;
         }
 
-        if (session.getStatus() == ChatStatus.COMPLETE) {
+        if (preparedTurn.status() == ChatStatus.COMPLETE) {
             logger.warn("Chat session {} is already complete.", sessionId);
             try {
                 emitter.send(SseEmitter.event().name("message-chunk").data(endingMessage));
@@ -162,138 +312,97 @@ public class ChatService {
             return;
         }
 
-        // Step 3: Set up and start the stream (non-transactional part)
+        // Step 3: Set up and start the stream (non-transactional part). The reply is generated and stored
+        // even if the client disconnects; it can resume with Last-Event-ID, see resumeAiResponseStream
+        ChatStreamRegistry.ChatStream stream = chatStreamRegistry.start(sessionId);
+        stream.attach(emitter, null);
         StreamObserver<de.tum.devops.grpc.ai.ChatReplyResponse> responseObserver = new StreamObserver<>() {
             @Override
             public void onNext(de.tum.devops.grpc.ai.ChatReplyResponse response) {
-                try {
-                    String chunk = response.getAiMessage();
-                    if (!chunk.isEmpty()) {
-                        fullAiResponse.append(chunk);
-                        // Send a partial DTO for the chunk
-                        ChatMessageDto chunkDto = new ChatMessageDto(null, session.getSessionId(), MessageSender.AI, chunk, LocalDateTime.now());
-                        emitter.send(SseEmitter.event().name("message-chunk").data(chunkDto));
-                    }
-                } catch (IOException e) {
-                    logger.error("Error sending SSE event for session {}", sessionId, e);
+                String chunk = response.getAiMessage();
+                if (!chunk.isEmpty()) {
+                    stream.chunk(chunk);
                 }
             }
 
             @Override
             public void onError(Throwable t) {
                 logger.error("Error from AI service stream for session {}", sessionId, t);
-                try {
-                    emitter.send(SseEmitter.event().name("error").data("An error occurred while communicating with the AI service."));
-                } catch (IOException e) {
-                    // Ignore, client likely disconnected.
-                } finally {
-                    emitter.completeWithError(t);
-                }
+                stream.fail(errorMessage(t, "An error occurred while communicating with the AI service."), t);
             }
 
             @Override
             public void onCompleted() {
                 logger.info("AI stream completed for session {}.", sessionId);
                 try {
-                    // Save the final message and get the entity back
-                    ChatMessage finalMessage = saveFinalAiMessage(session.getSessionId(), fullAiResponse.toString(), true);
-                    // Send the final, complete DTO
-                    emitter.send(SseEmitter.event().name("stream-end").data(new ChatMessageDto(finalMessage)));
-                    emitter.complete();
+                    // Save the final message and send the final, complete DTO
+                    ChatMessage finalMessage = chatTurnWriter.saveAiMessage(sessionId, stream.content());
+                    stream.complete(new ChatMessageDto(finalMessage));
                 } catch (Exception e) {
                     logger.error("Error during stream completion for session {}", sessionId, e);
-                    emitter.completeWithError(e);
+                    stream.fail("An error occurred while saving the AI reply.", e);
                 }
             }
         };
 
-        aiIntegrationService.processAndGetAIResponseStream(sessionId, session, responseObserver);
+        aiIntegrationService.processAndGetAIResponseStream(sessionId, preparedTurn.messageCount(), content, responseObserver);
     }
 
-    public record PreparedSession(ChatSession session, boolean isAlreadyCompleteMoreThanOnce) {
-    }
-
-    @Transactional
-    public PreparedSession prepareForStreaming(UUID sessionId, String content, UUID candidateId) {
-        ChatSession session = chatSessionRepository.findById(sessionId)
+    /**
+     * Continues the session's current AI reply on a new connection, after the event with {@code lastEventId}
+     * (from the start when null)
+     */
+    public void resumeAiResponseStream(UUID sessionId, UUID candidateId, String lastEventId, SseEmitter emitter) {
+        ChatTurnState state = chatSessionRepository.findTurnState(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("Chat session not found"));
-
-        if (!session.getApplication().getCandidateId().equals(candidateId)) {
+        if (!state.candidateId().equals(candidateId)) {
             throw new SecurityException("Access denied to this chat session");
         }
-
-        if (session.getStatus() == ChatStatus.COMPLETE) {
-            logger.warn("Chat session {} is already complete before adding user message.", sessionId);
-            return new PreparedSession(session, true);
-        }
-
-        ChatMessage userMessage = new ChatMessage();
-        userMessage.setMessageId(UUID.randomUUID());
-        userMessage.setSession(session);
-        userMessage.setSender(MessageSender.CANDIDATE);
-        userMessage.setContent(content);
-        chatMessageRepository.save(userMessage);
-
-        if (session.getMessageCount() >= aiMessageLimit) {
-            logger.info("Chat session {} has reached the maximum AI message count. Setting status to complete.", sessionId);
-            session = completeInterview(session);
-            return new PreparedSession(session, false);
-        }
-
-        Application application = session.getApplication();
-        if (application.getStatus() == ApplicationStatus.AI_SCREENING) {
-            application.setStatus(ApplicationStatus.AI_INTERVIEW);
-            applicationRepository.save(application);
-        }
-        return new PreparedSession(session, false);
+        ChatStreamRegistry.ChatStream stream = chatStreamRegistry.find(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("No AI reply to resume for this chat session"));
+        logger.info("Resuming AI reply stream for session {} after event {}", sessionId, lastEventId);
+        stream.attach(emitter, lastEventId);
     }
 
-    @Transactional
-    public ChatMessage saveFinalAiMessage(UUID sessionId, String content, boolean isSaveToDB) {
-        ChatSession session = chatSessionRepository.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("Chat session not found during final save."));
-
-        logger.info("Saving full AI response for session {}", sessionId);
-        ChatMessage aiMessage = new ChatMessage();
-        aiMessage.setMessageId(UUID.randomUUID());
-        aiMessage.setSession(session);
-        aiMessage.setSender(MessageSender.AI);
-        aiMessage.setContent(content);
-        if (isSaveToDB) {
-            chatMessageRepository.save(aiMessage);
-
-            Integer aiMessageCount = session.getMessageCount();
-            session.setMessageCount(aiMessageCount + 1);
-
-            chatSessionRepository.save(session);
+    /**
+     * Complete the interview process, scoring it only if this call completed the session
+     */
+    public void completeInterview(ChatSession session) {
+        UUID applicationId = session.getApplication().getApplicationId();
+        if (chatTurnWriter.completeInterview(session.getSessionId(), applicationId)) {
+            scoreInterview(applicationId);
         } else {
-            aiMessage.setSentAt(LocalDateTime.now());
+            logger.info("Chat session {} was already complete", session.getSessionId());
         }
-        return aiMessage;
     }
 
     /**
-     * Complete the interview process
+     * Score the interview once the completing transaction has committed
      */
-    @Transactional
-    public ChatSession completeInterview(ChatSession session) {
-        // Mark chat session as complete
-        session.setStatus(ChatStatus.COMPLETE);
-        session.setCompletedAt(LocalDateTime.now());
-        session = chatSessionRepository.saveAndFlush(session);
-
-        // Update application status
-        Application application = session.getApplication();
-        application.setStatus(ApplicationStatus.COMPLETED);
-        applicationRepository.save(application);
-
-        // Score the interview
+    private void scoreInterview(UUID applicationId) {
         try {
-            aiIntegrationService.scoreInterviewAsync(application.getApplicationId());
+            aiIntegrationService.scoreInterviewAsync(applicationId);
         } catch (Exception e) {
-            logger.error("Failed to score interview for application {}", application.getApplicationId(), e);
+            logger.error("Failed to score interview for application {}", applicationId, e);
         }
-        return session;
+    }
+
+    /**
+     * SSE error text for a failed AI stream: a limiter rejection or an unavailable service (for example an
+     * open circuit) tells the candidate to retry instead of reporting a generic error
+     */
+    private static String errorMessage(Throwable t, String otherwise) {
+        if (GenAiConcurrencyInterceptor.isRejection(t)) {
+            return BUSY_MESSAGE;
+        }
+        return AIServiceGrpcClient.isUnavailable(t) ? UNAVAILABLE_MESSAGE : otherwise;
+    }
+
+    /**
+     * AI message that is shown to the candidate but not stored
+     */
+    private ChatMessageDto transientAiMessage(UUID sessionId, String content) {
+        return new ChatMessageDto(UUID.randomUUID(), sessionId, MessageSender.AI, content, LocalDateTime.now());
     }
 
     @Transactional(readOnly = true)
@@ -306,7 +415,8 @@ public class ChatService {
                 throw new SecurityException("Access denied to this chat's history");
             }
         }
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "sentAt"));
+        // Ordered by sent_at in the query, which reads live and archived messages
+        Pageable pageable = PageRequest.of(page, size);
         Page<ChatMessage> messages = chatMessageRepository.findBySessionIdOrderBySentAtAsc(sessionId, pageable);
         // transform messages to ChatMessageDto
         return messages.map(ChatMessageDto::new);
@@ -318,7 +428,8 @@ public class ChatService {
         if (!applicationRepository.existsById(applicationId)) {
             throw new IllegalArgumentException("Application not found");
         }
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "sentAt"));
+        // Ordered by sent_at in the query, which reads live and archived messages
+        Pageable pageable = PageRequest.of(page, size);
         // Use the direct query method for better performance
         Page<ChatMessage> messages = chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId, pageable);
         // transform messages to ChatMessageDto
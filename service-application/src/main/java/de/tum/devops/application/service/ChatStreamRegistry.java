@@ -0,0 +1,262 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ChatStreamProperties;
+import de.tum.devops.application.dto.ChatMessageDto;
+import de.tum.devops.application.persistence.enums.MessageSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AI reply streams that outlive the SSE connection they were started on.
+ * <p>
+ * Every {@code message-chunk} of a reply gets an event id {@code <stream>-<seq>} with a sequence number
+ * counting from 1, and the most recent chunks are kept per session as UTF-8 bytes, up to
+ * {@code bufferBytes}. The generation keeps running when the client disconnects; a client that reconnects
+ * with {@code Last-Event-ID} gets the chunks it missed and then the live ones. When the missed chunks have
+ * already left the buffer, or the id belongs to another stream, it gets a {@code message-snapshot} event
+ * with the whole reply so far instead. Finished streams stay resumable for {@code retention}.
+ * <p>
+ * Streams live in this instance's memory, so a reconnect has to reach the instance serving the reply.
+ */
+@Component
+public class ChatStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatStreamRegistry.class);
+
+    private final ConcurrentHashMap<UUID, ChatStream> streams = new ConcurrentHashMap<>();
+    private final ChatStreamProperties properties;
+
+    public ChatStreamRegistry(ChatStreamProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Starts the stream of a new reply in the session, replacing the previous one
+     */
+    public ChatStream start(UUID sessionId) {
+        purgeExpired();
+        long now = System.currentTimeMillis();
+        ChatStream stream = new ChatStream(sessionId, Long.toString(now, 36), now);
+        ChatStream previous = streams.put(sessionId, stream);
+        if (previous != null) {
+            previous.detach();
+        }
+        return stream;
+    }
+
+    /**
+     * The running or recently finished stream of the session
+     */
+    public Optional<ChatStream> find(UUID sessionId) {
+        purgeExpired();
+        return Optional.ofNullable(streams.get(sessionId));
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long retention = properties.getRetention().toMillis();
+        long maxDuration = properties.getMaxDuration().toMillis();
+        streams.values().removeIf(stream -> stream.isExpired(now, retention, maxDuration));
+    }
+
+    private record Chunk(long seq, LocalDateTime sentAt, byte[] content) {
+    }
+
+    public final class ChatStream {
+
+        private final UUID sessionId;
+        private final String streamId;
+        private final long startedAt;
+
+        private final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+        private final StringBuilder content = new StringBuilder();
+        private int bufferedBytes;
+        private long lastSeq;
+
+        private SseEmitter emitter;
+        private Supplier<SseEmitter.SseEventBuilder> end; // built per send, a built event cannot be sent twice
+        private boolean failed;
+        private Throwable failure;
+        private long finishedAt;
+
+        private ChatStream(UUID sessionId, String streamId, long startedAt) {
+            this.sessionId = sessionId;
+            this.streamId = streamId;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Sends the events after {@code lastEventId} (all of them when null) to the emitter and then the live
+         * ones. A previously attached emitter is completed.
+         */
+        public synchronized void attach(SseEmitter emitter, String lastEventId) {
+            long after = sequenceAfter(lastEventId);
+            boolean replayed;
+            if (chunks.isEmpty() || chunks.getFirst().seq() <= after + 1) {
+                replayed = replay(emitter, after);
+            } else {
+                // The missed chunks already left the buffer
+                replayed = send(emitter, event(lastSeq).name("message-snapshot")
+                        .data(dto(content.toString(), LocalDateTime.now())));
+            }
+            if (!replayed) {
+                return;
+            }
+            if (end != null) {
+                finish(emitter);
+                return;
+            }
+            if (this.emitter != null) {
+                this.emitter.complete();
+            }
+            this.emitter = emitter;
+            emitter.onCompletion(() -> detach(emitter));
+            emitter.onTimeout(() -> detach(emitter));
+            emitter.onError(e -> detach(emitter));
+        }
+
+        /**
+         * Appends a chunk of the reply and sends it to the attached client, if any
+         */
+        public synchronized void chunk(String text) {
+            Chunk chunk = new Chunk(++lastSeq, LocalDateTime.now(), text.getBytes(StandardCharsets.UTF_8));
+            content.append(text);
+            chunks.addLast(chunk);
+            bufferedBytes += chunk.content().length;
+            while (bufferedBytes > properties.getBufferBytes() && chunks.size() > 1) {
+                bufferedBytes -= chunks.removeFirst().content().length;
+            }
+            if (emitter != null && !send(emitter, chunkEvent(chunk))) {
+                emitter = null;
+            }
+        }
+
+        /**
+         * The reply so far
+         */
+        public synchronized String content() {
+            return content.toString();
+        }
+
+        /**
+         * Ends the stream with {@code stream-end}; the attached client is completed
+         */
+        public synchronized void complete(ChatMessageDto finalMessage) {
+            long seq = lastSeq + 1;
+            end(() -> event(seq).name("stream-end").data(finalMessage), false, null);
+        }
+
+        /**
+         * Ends the stream with an {@code error} event; the attached client is completed with the error
+         */
+        public synchronized void fail(String message, Throwable t) {
+            long seq = lastSeq + 1;
+            end(() -> event(seq).name("error").data(message), true, t);
+        }
+
+        private void end(Supplier<SseEmitter.SseEventBuilder> event, boolean failed, Throwable failure) {
+            if (end != null) {
+                return;
+            }
+            this.end = event;
+            this.failed = failed;
+            this.failure = failure;
+            this.finishedAt = System.currentTimeMillis();
+            chunks.clear();
+            bufferedBytes = 0;
+            if (emitter != null) {
+                finish(emitter);
+                emitter = null;
+            }
+        }
+
+        private synchronized void detach() {
+            if (emitter != null) {
+                emitter.complete();
+                emitter = null;
+            }
+        }
+
+        private synchronized void detach(SseEmitter detached) {
+            if (emitter == detached) {
+                logger.debug("Client left the reply stream of session {}, generation continues", sessionId);
+                emitter = null;
+            }
+        }
+
+        private synchronized boolean isExpired(long now, long retention, long maxDuration) {
+            return end != null ? now - finishedAt >= retention : now - startedAt >= maxDuration;
+        }
+
+        private boolean replay(SseEmitter emitter, long after) {
+            for (Chunk chunk : chunks) {
+                if (chunk.seq() > after && !send(emitter, chunkEvent(chunk))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void finish(SseEmitter emitter) {
+            if (!send(emitter, end.get())) {
+                return;
+            }
+            if (failed && failure != null) {
+                emitter.completeWithError(failure);
+            } else {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Sequence number of the last event the client saw in this stream, or 0 when the id is missing or
+         * belongs to another stream
+         */
+        private long sequenceAfter(String lastEventId) {
+            String prefix = streamId + "-";
+            if (lastEventId == null || !lastEventId.startsWith(prefix)) {
+                return 0;
+            }
+            try {
+                return Math.max(0, Math.min(Long.parseLong(lastEventId.substring(prefix.length())), lastSeq));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        private SseEmitter.SseEventBuilder chunkEvent(Chunk chunk) {
+            return event(chunk.seq()).name("message-chunk")
+                    .data(dto(new String(chunk.content(), StandardCharsets.UTF_8), chunk.sentAt()));
+        }
+
+        private SseEmitter.SseEventBuilder event(long seq) {
+            return SseEmitter.event().id(streamId + "-" + seq);
+        }
+
+        private ChatMessageDto dto(String text, LocalDateTime sentAt) {
+            return new ChatMessageDto(null, sessionId, MessageSender.AI, text, sentAt);
+        }
+
+        private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected or the emitter timed out; it may come back with Last-Event-ID
+                logger.debug("Could not send reply event for session {}: {}", sessionId, e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.ChatMessage;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.ChatStatus;
+import de.tum.devops.application.persistence.enums.MessageSender;
+import de.tum.devops.application.persistence.projection.ChatTurnState;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import de.tum.devops.application.persistence.repository.ChatSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Database side of a chat turn. Every public method is one short transaction; {@link ChatService} calls
+ * them through the Spring proxy before and after the AI stream, so no connection is held while the reply
+ * is generated and the final write runs transactionally on the gRPC callback thread as well.
+ * <p>
+ * The message counter and the status transitions are single conditional {@code UPDATE}s rather than
+ * read-modify-write on loaded entities, so concurrent turns on one session neither lose increments nor
+ * complete the interview twice.
+ */
+@Component
+@Transactional
+public class ChatTurnWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatTurnWriter.class);
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ApplicationRepository applicationRepository;
+
+    private static final Set<ApplicationStatus> SCREENING = EnumSet.of(ApplicationStatus.AI_SCREENING);
+    private static final Set<ApplicationStatus> NOT_COMPLETED = EnumSet.complementOf(EnumSet.of(ApplicationStatus.COMPLETED));
+
+    private final int aiMessageLimit = 2;
+
+    public ChatTurnWriter(ChatSessionRepository chatSessionRepository,
+                          ChatMessageRepository chatMessageRepository,
+                          ApplicationRepository applicationRepository) {
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    /**
+     * Result of {@link #prepareTurn}. {@code status} is the session status after the turn;
+     * {@code interviewCompleted} is set when this turn ended the interview, the caller then triggers scoring
+     * once the transaction has committed. {@code messageCount} is the number of AI messages before the turn.
+     */
+    public record PreparedTurn(UUID sessionId, UUID applicationId, ChatStatus status,
+                               boolean isAlreadyCompleteMoreThanOnce, boolean interviewCompleted, int messageCount) {
+    }
+
+    public ChatSession createOrGetSession(UUID applicationId, UUID candidateId) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+
+        // Check if the candidate owns this application
+        if (!application.getCandidateId().equals(candidateId)) {
+            throw new SecurityException("Access denied to this application's chat");
+        }
+
+        // Opening the chat and the opening question's pre-generation may create the session at the same time
+        return chatSessionRepository.findByApplicationApplicationId(applicationId)
+                .orElseGet(() -> {
+                    if (chatSessionRepository.insertIfAbsent(UUID.randomUUID(), applicationId, LocalDateTime.now()) == 1) {
+                        logger.info("Created new chat session for application {}", applicationId);
+                    }
+                    return chatSessionRepository.findByApplicationApplicationId(applicationId)
+                            .orElseThrow(() -> new IllegalStateException("Chat session not found"));
+                });
+    }
+
+    /**
+     * Checks access, stores the candidate's message and moves the session and application on.
+     * <p>
+     * Status changes are conditional updates, so when two turns race only one of them completes the
+     * interview and triggers scoring.
+     */
+    public PreparedTurn prepareTurn(UUID sessionId, String content, UUID candidateId) {
+        ChatTurnState state = chatSessionRepository.findTurnState(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Chat session not found"));
+
+        if (!state.candidateId().equals(candidateId)) {
+            throw new SecurityException("Access denied to this chat session");
+        }
+
+        if (state.status() == ChatStatus.COMPLETE) {
+            logger.warn("Chat session {} is already complete before adding user message.", sessionId);
+            return new PreparedTurn(sessionId, state.applicationId(), ChatStatus.COMPLETE, true, false, state.messageCount());
+        }
+
+        saveMessage(sessionId, MessageSender.CANDIDATE, content);
+
+        if (state.messageCount() >= aiMessageLimit) {
+            boolean completed = complete(sessionId, state.applicationId(), aiMessageLimit);
+            if (completed) {
+                logger.info("Chat session {} has reached the maximum AI message count. Setting status to complete.", sessionId);
+            }
+            return new PreparedTurn(sessionId, state.applicationId(), ChatStatus.COMPLETE, false, completed, state.messageCount());
+        }
+
+        if (state.applicationStatus() == ApplicationStatus.AI_SCREENING) {
+            applicationRepository.transitionStatus(state.applicationId(), SCREENING, ApplicationStatus.AI_INTERVIEW,
+                    LocalDateTime.now());
+        }
+        return new PreparedTurn(sessionId, state.applicationId(), state.status(), false, false, state.messageCount());
+    }
+
+    /**
+     * Stores the complete AI reply and counts it against the session's message limit.
+     */
+    public ChatMessage saveAiMessage(UUID sessionId, String content) {
+        logger.info("Saving full AI response for session {}", sessionId);
+        ChatMessage aiMessage = saveMessage(sessionId, MessageSender.AI, content);
+        chatSessionRepository.incrementMessageCount(sessionId);
+        return aiMessage;
+    }
+
+    /**
+     * Stores the opening AI question unless the session already has one, for example from a pre-generation
+     * that finished first on another instance.
+     *
+     * @return the session's opening question, this one or the existing one
+     * @throws IllegalStateException when the generated question is empty; nothing is stored
+     */
+    public ChatMessage saveOpeningMessage(UUID sessionId, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalStateException("Opening question is empty");
+        }
+        if (chatSessionRepository.claimOpeningMessage(sessionId) == 0) {
+            logger.info("Chat session {} already has its opening question", sessionId);
+            return chatMessageRepository.findBySessionIdAndSenderOrderBySentAtAsc(sessionId, MessageSender.AI).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Opening question not found"));
+        }
+        return saveMessage(sessionId, MessageSender.AI, content);
+    }
+
+    /**
+     * Marks the session and its application as complete.
+     *
+     * @return whether this call completed the session, false when it was already complete
+     */
+    public boolean completeInterview(UUID sessionId, UUID applicationId) {
+        return complete(sessionId, applicationId, 0);
+    }
+
+    private ChatMessage saveMessage(UUID sessionId, MessageSender sender, String content) {
+        ChatMessage message = new ChatMessage();
+        message.setMessageId(UUID.randomUUID());
+        message.setSession(chatSessionRepository.getReferenceById(sessionId));
+        message.setSender(sender);
+        message.setContent(content);
+        return chatMessageRepository.save(message);
+    }
+
+    private boolean complete(UUID sessionId, UUID applicationId, int minMessageCount) {
+        LocalDateTime now = LocalDateTime.now();
+        if (chatSessionRepository.completeIfActive(sessionId, minMessageCount, now) == 0) {
+            return false;
+        }
+        applicationRepository.transitionStatus(applicationId, NOT_COMPLETED, ApplicationStatus.COMPLETED, now);
+        return true;
+    }
+}
@@ -3,20 +3,22 @@ package de.tum.devops.application.service;
 import de.tum.devops.application.config.FileStorageProperties;
 import de.tum.devops.application.exception.FileNotFoundException;
 import de.tum.devops.application.exception.FileStorageException;
+import de.tum.devops.application.storage.BlobStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
 /**
  * Service for handling file storage operations
+ * <p>
+ * Validation and naming live here; the bytes go to the configured {@link BlobStore}.
  */
 @Service
 public class FileStorageService {
@@ -24,9 +26,11 @@ public class FileStorageService {
     private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
 
     private final FileStorageProperties fileStorageProperties;
+    private final BlobStore blobStore;
 
-    public FileStorageService(FileStorageProperties fileStorageProperties) {
+    public FileStorageService(FileStorageProperties fileStorageProperties, BlobStore blobStore) {
         this.fileStorageProperties = fileStorageProperties;
+        this.blobStore = blobStore;
     }
 
     /**
@@ -41,12 +45,6 @@ public class FileStorageService {
             // Validate file
             validateFile(file);
 
-            // Create upload directory if not exists
-            Path uploadPath = Paths.get(fileStorageProperties.getUploadDir());
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
             // Generate unique filename
             String originalFilename = file.getOriginalFilename();
             if (originalFilename == null || originalFilename.trim().isEmpty()) {
@@ -55,10 +53,10 @@ public class FileStorageService {
             String extension = getFileExtension(originalFilename);
             String uniqueFilename = filePrefix + "_" + System.currentTimeMillis() + extension;
 
-            Path filePath = uploadPath.resolve(uniqueFilename);
-
             // Store file
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            try (InputStream content = file.getInputStream()) {
+                blobStore.put(uniqueFilename, content, file.getSize());
+            }
 
             logger.info("File stored successfully: {}", uniqueFilename);
             return uniqueFilename;
@@ -88,8 +86,7 @@ public class FileStorageService {
      */
     public void deleteFile(String filename) {
         try {
-            Path filePath = Paths.get(fileStorageProperties.getUploadDir()).resolve(filename);
-            Files.deleteIfExists(filePath);
+            blobStore.delete(filename);
             logger.info("File deleted successfully: {}", filename);
         } catch (IOException e) {
             logger.error("Failed to delete file: {}", e.getMessage());
@@ -97,7 +94,31 @@ public class FileStorageService {
     }
 
     /**
-     * Get file path for download
+     * Open the stored file for streaming. The caller must close the stream.
+     */
+    public InputStream openFile(String filename) {
+        try {
+            return blobStore.get(filename);
+        } catch (IOException e) {
+            logger.error("Failed to open file {}: {}", filename, e.getMessage());
+            throw new FileStorageException("Failed to open file", e);
+        }
+    }
+
+    /**
+     * Open a byte range of the stored file for streaming. The caller must close the stream.
+     */
+    public InputStream openFileRange(String filename, long offset, long length) {
+        try {
+            return blobStore.getRange(filename, offset, length);
+        } catch (IOException e) {
+            logger.error("Failed to open range of file {}: {}", filename, e.getMessage());
+            throw new FileStorageException("Failed to open file", e);
+        }
+    }
+
+    /**
+     * Get file path inside the local upload directory (filesystem backend only)
      */
     public Path getFilePath(String filename) {
         if (filename == null || filename.trim().isEmpty()) {
@@ -123,8 +144,7 @@ public class FileStorageService {
         }
 
         try {
-            Path filePath = getFilePath(filename);
-            return Files.exists(filePath) && Files.isRegularFile(filePath);
+            return blobStore.exists(filename);
         } catch (Exception e) {
             logger.warn("Error checking file existence for {}: {}", filename, e.getMessage());
             return false;
@@ -135,12 +155,11 @@ public class FileStorageService {
      * Get file size in bytes
      */
     public long getFileSize(String filename) {
+        if (filename == null || filename.trim().isEmpty()) {
+            throw new FileNotFoundException("File not found: " + filename);
+        }
         try {
-            Path filePath = getFilePath(filename);
-            if (!Files.exists(filePath)) {
-                throw new FileNotFoundException("File not found: " + filename);
-            }
-            return Files.size(filePath);
+            return blobStore.size(filename);
         } catch (IOException e) {
             logger.error("Failed to get file size for {}: {}", filename, e.getMessage());
             throw new FileStorageException("Failed to get file size", e);
@@ -165,20 +184,14 @@ public class FileStorageService {
     }
 
     /**
-     * Initialize upload directory on startup
+     * Initialize the storage backend on startup
      */
-    public void initializeUploadDirectory() {
+    public void initializeStorage() {
         try {
-            Path uploadPath = Paths.get(fileStorageProperties.getUploadDir());
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-                logger.info("Created upload directory: {}", uploadPath.toAbsolutePath());
-            } else {
-                logger.info("Upload directory already exists: {}", uploadPath.toAbsolutePath());
-            }
+            blobStore.initialize();
         } catch (IOException e) {
-            logger.error("Failed to initialize upload directory: {}", e.getMessage());
-            throw new FileStorageException("Failed to initialize upload directory", e);
+            logger.error("Failed to initialize file storage: {}", e.getMessage());
+            throw new FileStorageException("Failed to initialize file storage", e);
         }
     }
 
@@ -250,4 +263,4 @@ public class FileStorageService {
         int lastDotIndex = filename.lastIndexOf('.');
         return (lastDotIndex != -1) ? filename.substring(lastDotIndex) : "";
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.dto.JobApplicationStatsDto;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.DecisionEnum;
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Serves the per-job counters in {@code job_application_stats} and reconciles them.
+ * <p>
+ * The counters are kept up to date by database triggers on {@code applications} and {@code assessments}, in
+ * the same transaction as every submit, status change, decision and scoring, so reading a job's statistics
+ * is a primary-key range scan of a few dozen rows however many applications it has. The nightly
+ * reconciliation recomputes everything from {@code job_application_stats_expected} and repairs drift, e.g.
+ * after manual fixes with triggers disabled.
+ */
+@Service
+public class JobApplicationStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationStatsService.class);
+
+    static final String NONE = "NONE";
+
+    private static final String RECONCILE = """
+            WITH expected AS (SELECT job_id, dimension, bucket, count FROM job_application_stats_expected),
+            upserted AS (
+                INSERT INTO job_application_stats AS s (job_id, dimension, bucket, count)
+                SELECT job_id, dimension, bucket, count FROM expected
+                ON CONFLICT (job_id, dimension, bucket) DO UPDATE SET count = EXCLUDED.count
+                WHERE s.count <> EXCLUDED.count
+                RETURNING 1),
+            removed AS (
+                DELETE FROM job_application_stats s
+                WHERE NOT EXISTS (SELECT 1 FROM expected e
+                                  WHERE e.job_id = s.job_id AND e.dimension = s.dimension AND e.bucket = s.bucket)
+                RETURNING s.count)
+            SELECT (SELECT count(*) FROM upserted) + (SELECT count(*) FROM removed WHERE count <> 0)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public JobApplicationStatsService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                      @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+    }
+
+    public JobApplicationStatsDto getStats(UUID jobId) {
+        JobApplicationStatsDto stats = emptyStats(jobId);
+        readOnlyTransactionTemplate.executeWithoutResult(tx -> jdbcTemplate.query(
+                "SELECT dimension, bucket, count FROM job_application_stats WHERE job_id = ?",
+                rs -> {
+                    String bucket = rs.getString("bucket");
+                    long count = rs.getLong("count");
+                    switch (rs.getString("dimension")) {
+                        case "total" -> stats.setTotalApplications(count);
+                        case "status" -> stats.getStatusCounts().put(bucket, count);
+                        case "decision" -> stats.getDecisionCounts().put(bucket, count);
+                        case "recommendation" -> stats.getRecommendationCounts().put(bucket, count);
+                        case "resume_score" -> stats.getResumeScoreHistogram().put(bucket, count);
+                        case "interview_score" -> stats.getInterviewScoreHistogram().put(bucket, count);
+                        default -> logger.debug("Ignoring unknown job statistics dimension for job {}", jobId);
+                    }
+                },
+                jobId));
+        return stats;
+    }
+
+    /**
+     * Rebuilds {@code job_application_stats} from the source tables in one statement.
+     * <p>
+     * The table is locked against writers for the duration, so applications saved meanwhile wait and their
+     * trigger updates land on the rebuilt counters; dashboard reads continue.
+     *
+     * @return the number of counters that were wrong or missing
+     */
+    @Scheduled(cron = "${app.job-stats.reconcile-cron:0 45 3 * * *}")
+    public int reconcile() {
+        Integer drift = transactionTemplate.execute(tx -> {
+            jdbcTemplate.execute("LOCK TABLE job_application_stats IN EXCLUSIVE MODE");
+            return jdbcTemplate.queryForObject(RECONCILE, Integer.class);
+        });
+        if (drift != null && drift > 0) {
+            logger.warn("Reconciled job application statistics, corrected {} counters", drift);
+        } else {
+            logger.info("Reconciled job application statistics, no drift");
+        }
+        return drift == null ? 0 : drift;
+    }
+
+    private static JobApplicationStatsDto emptyStats(UUID jobId) {
+        JobApplicationStatsDto stats = new JobApplicationStatsDto(jobId);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            stats.getStatusCounts().put(status.name(), 0L);
+        }
+        for (DecisionEnum decision : DecisionEnum.values()) {
+            stats.getDecisionCounts().put(decision.name(), 0L);
+        }
+        stats.getDecisionCounts().put(NONE, 0L);
+        for (RecommendationEnum recommendation : RecommendationEnum.values()) {
+            stats.getRecommendationCounts().put(recommendation.name(), 0L);
+        }
+        stats.getRecommendationCounts().put(NONE, 0L);
+        for (int bucket = 0; bucket <= 90; bucket += 10) {
+            stats.getResumeScoreHistogram().put(Integer.toString(bucket), 0L);
+            stats.getInterviewScoreHistogram().put(Integer.toString(bucket), 0L);
+        }
+        stats.getResumeScoreHistogram().put(NONE, 0L);
+        stats.getInterviewScoreHistogram().put(NONE, 0L);
+        return stats;
+    }
+}
@@ -0,0 +1,41 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ResumePreScreenProperties;
+import de.tum.devops.application.scoring.Bm25Scorer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lexical pre-score of a resume against the job requirements, computed in-process before the LLM is asked.
+ * Resumes scoring below {@code app.resume-prescreen.threshold} are not sent to the gen-ai service
+ * automatically.
+ */
+@Component
+public class ResumePreScreener {
+
+    private final Bm25Scorer scorer;
+    private final float threshold;
+
+    public ResumePreScreener(ResumePreScreenProperties properties) {
+        this.scorer = new Bm25Scorer(properties.getK1(), properties.getB(), properties.getAverageResumeTokens());
+        this.threshold = properties.getThreshold();
+    }
+
+    /**
+     * @return score from 0 to 100, null when the requirements contain no terms to match
+     */
+    public Float score(String requirements, String resumeText) {
+        Bm25Scorer.Query query = scorer.compile(requirements);
+        return query.size() == 0 ? null : query.score(resumeText);
+    }
+
+    /**
+     * Whether LLM scoring should be skipped; never for a missing pre-score
+     */
+    public boolean isBelowThreshold(Float preScore) {
+        return preScore != null && preScore < threshold;
+    }
+
+    public float getThreshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,134 @@
+package de.tum.devops.application.service;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers gen-ai scoring responses in {@code score_memos}, keyed by a hash of the job posting and a hash
+ * of the scored input (resume text or interview transcript), so scoring the same input against an unchanged
+ * job again returns the stored response instead of another LLM call.
+ * <p>
+ * Concurrent requests for the same key in this instance share a single in-flight call. {@code force}
+ * bypasses the stored response and replaces it, but still joins a call that is already running. Lookups
+ * and writes are single auto-commit statements, so no connection is held during the call.
+ */
+@Component
+public class ScoreMemoizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreMemoizer.class);
+
+    public enum Kind {RESUME, INTERVIEW}
+
+    private static final String UPSERT = """
+            INSERT INTO score_memos (kind, job_hash, input_hash, response, created_at)
+            VALUES (?, ?, ?, ?, now())
+            ON CONFLICT (kind, job_hash, input_hash) DO UPDATE
+            SET response = EXCLUDED.response, created_at = EXCLUDED.created_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Key, CompletableFuture<Message>> inFlight = new ConcurrentHashMap<>();
+
+    public ScoreMemoizer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stored response for the key, or the result of {@code call}, which is then stored
+     *
+     * @param force call even if a response is stored
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Message> T memoize(Kind kind, String jobHash, String inputHash, boolean force,
+                                         Parser<T> parser, Supplier<T> call) {
+        Key key = new Key(kind, jobHash, inputHash);
+        if (!force) {
+            T stored = find(key, parser);
+            if (stored != null) {
+                logger.debug("Reusing stored {} score for {}", kind, inputHash);
+                return stored;
+            }
+        }
+
+        CompletableFuture<Message> mine = new CompletableFuture<>();
+        CompletableFuture<Message> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            logger.debug("Joining in-flight {} scoring for {}", kind, inputHash);
+            return (T) join(running);
+        }
+        try {
+            // Another instance or a call that just finished may have stored it meanwhile
+            T response = force ? null : find(key, parser);
+            if (response == null) {
+                response = call.get();
+                jdbcTemplate.update(UPSERT, kind.name(), jobHash, inputHash, response.toByteArray());
+            }
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Hex SHA-256 of the parts, each terminated by a newline
+     */
+    public static String hash(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private <T extends Message> T find(Key key, Parser<T> parser) {
+        List<byte[]> rows = jdbcTemplate.query(
+                "SELECT response FROM score_memos WHERE kind = ? AND job_hash = ? AND input_hash = ?",
+                (rs, rowNum) -> rs.getBytes("response"), key.kind().name(), key.jobHash(), key.inputHash());
+        if (rows.isEmpty()) {
+            return null;
+        }
+        try {
+            return parser.parseFrom(rows.get(0));
+        } catch (InvalidProtocolBufferException e) {
+            logger.warn("Ignoring unreadable stored {} score for {}", key.kind(), key.inputHash(), e);
+            return null;
+        }
+    }
+
+    private static Message join(CompletableFuture<Message> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(Kind kind, String jobHash, String inputHash) {
+    }
+}
@@ -0,0 +1,104 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ScoringRetryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Scoring that could not run because the gen-ai service was unavailable or another step failed, kept in
+ * {@code scoring_retries} until {@link ScoringRetryWorker} scores it, instead of storing a placeholder score.
+ * <p>
+ * Each park pushes the next attempt out exponentially, up to {@code maxDelay}. Claiming moves the next
+ * attempt out by the lease in the same statement and skips locked rows, so several instances can drain the
+ * queue without handing out the same retry twice; a claimed retry that is never completed comes back once
+ * the lease has passed. Every method is a single auto-commit statement.
+ */
+@Component
+public class ScoringRetryQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringRetryQueue.class);
+
+    public enum Kind {RESUME, INTERVIEW}
+
+    /**
+     * @param attempts parks so far
+     * @param failures parks after a failure other than an unavailable service
+     */
+    public record Retry(UUID applicationId, Kind kind, int attempts, int failures) {
+    }
+
+    private static final String PARK = """
+            INSERT INTO scoring_retries (application_id, kind, attempts, failures, next_attempt_at, last_error)
+            VALUES (?, ?, 1, ?, now() + make_interval(secs => ?), ?)
+            ON CONFLICT (application_id, kind) DO UPDATE
+            SET attempts = scoring_retries.attempts + 1,
+                failures = scoring_retries.failures + EXCLUDED.failures,
+                next_attempt_at = now() + make_interval(secs => LEAST(? * power(2, scoring_retries.attempts), ?)),
+                last_error = EXCLUDED.last_error""";
+
+    private static final String CLAIM = """
+            UPDATE scoring_retries SET next_attempt_at = now() + make_interval(secs => ?)
+            WHERE (application_id, kind) = (
+                SELECT application_id, kind FROM scoring_retries
+                WHERE next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            RETURNING application_id, kind, attempts, failures""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoringRetryProperties properties;
+
+    public ScoringRetryQueue(JdbcTemplate jdbcTemplate, ScoringRetryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Schedules (another) retry of the scoring, which found the gen-ai service unavailable
+     */
+    public void park(UUID applicationId, Kind kind, String error) {
+        park(applicationId, kind, error, 0);
+    }
+
+    /**
+     * Schedules (another) retry of the scoring, which failed other than with an unavailable service; counted
+     * in {@link Retry#failures()}
+     */
+    public void parkFailed(UUID applicationId, Kind kind, String error) {
+        park(applicationId, kind, error, 1);
+    }
+
+    private void park(UUID applicationId, Kind kind, String error, int failures) {
+        double baseDelay = properties.getBaseDelay().toMillis() / 1000.0;
+        double maxDelay = properties.getMaxDelay().toMillis() / 1000.0;
+        jdbcTemplate.update(PARK, applicationId, kind.name(), failures, Math.min(baseDelay, maxDelay), error,
+                baseDelay, maxDelay);
+        logger.info("Parked {} scoring of application {} for retry", kind, applicationId);
+    }
+
+    /**
+     * A retry that is due, leased to the caller
+     */
+    public Optional<Retry> claim() {
+        List<Retry> claimed = jdbcTemplate.query(CLAIM,
+                (rs, rowNum) -> new Retry(rs.getObject("application_id", UUID.class),
+                        Kind.valueOf(rs.getString("kind")), rs.getInt("attempts"), rs.getInt("failures")),
+                properties.getLease().toMillis() / 1000.0);
+        return claimed.stream().findFirst();
+    }
+
+    /**
+     * Removes the retry, after the scoring succeeded or was given up
+     */
+    public void complete(UUID applicationId, Kind kind) {
+        jdbcTemplate.update("DELETE FROM scoring_retries WHERE application_id = ? AND kind = ?",
+                applicationId, kind.name());
+    }
+}
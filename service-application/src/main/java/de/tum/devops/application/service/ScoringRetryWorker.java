@@ -0,0 +1,85 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ScoringRetryProperties;
+import de.tum.devops.application.exception.GenAiUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Retries scoring parked in the {@link ScoringRetryQueue}. A run stops at the first retry that finds the
+ * gen-ai service still unavailable (it is parked again with a longer delay), so an outage costs one call
+ * per run rather than one per parked application. Scoring of a deleted application is dropped; scoring that
+ * fails for another reason, such as a failed job lookup, is parked again until {@code maxAttempts} attempts
+ * have failed that way; attempts that found the service unavailable do not count.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.gen-ai.scoring-retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ScoringRetryWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringRetryWorker.class);
+
+    private final ScoringRetryQueue retryQueue;
+    private final AIIntegrationService aiIntegrationService;
+    private final ScoringRetryProperties properties;
+
+    public ScoringRetryWorker(ScoringRetryQueue retryQueue,
+                              AIIntegrationService aiIntegrationService,
+                              ScoringRetryProperties properties) {
+        this.retryQueue = retryQueue;
+        this.aiIntegrationService = aiIntegrationService;
+        this.properties = properties;
+    }
+
+    /**
+     * Blocks on gen-ai calls for up to a batch of retries; {@code spring.task.scheduling.pool.size} gives the
+     * other scheduled jobs their own threads meanwhile
+     *
+     * @return the number of retries that were scored
+     */
+    @Scheduled(fixedDelayString = "${app.gen-ai.scoring-retry.interval:PT30S}")
+    public int retryDue() {
+        int scored = 0;
+        for (int i = 0; i < properties.getBatchSize(); i++) {
+            Optional<ScoringRetryQueue.Retry> claimed = retryQueue.claim();
+            if (claimed.isEmpty()) {
+                break;
+            }
+            ScoringRetryQueue.Retry retry = claimed.get();
+            try {
+                switch (retry.kind()) {
+                    case RESUME -> aiIntegrationService.scoreResumeSync(retry.applicationId(), false);
+                    case INTERVIEW -> aiIntegrationService.scoreInterviewSync(retry.applicationId(), false);
+                }
+                retryQueue.complete(retry.applicationId(), retry.kind());
+                scored++;
+            } catch (GenAiUnavailableException e) {
+                logger.info("Gen-ai service still unavailable, retrying parked scoring later");
+                break;
+            } catch (IllegalArgumentException e) {
+                logger.warn("Dropping {} scoring of application {}: {}",
+                        retry.kind(), retry.applicationId(), e.getMessage());
+                retryQueue.complete(retry.applicationId(), retry.kind());
+            } catch (RuntimeException e) {
+                int failures = retry.failures() + 1;
+                if (failures >= properties.getMaxAttempts()) {
+                    logger.error("Giving up {} scoring of application {} after {} failed attempts",
+                            retry.kind(), retry.applicationId(), failures, e);
+                    retryQueue.complete(retry.applicationId(), retry.kind());
+                } else {
+                    logger.warn("{} scoring of application {} failed, parked again: {}",
+                            retry.kind(), retry.applicationId(), e.getMessage());
+                    retryQueue.parkFailed(retry.applicationId(), retry.kind(), e.getMessage());
+                }
+            }
+        }
+        if (scored > 0) {
+            logger.info("Scored {} parked applications", scored);
+        }
+        return scored;
+    }
+}
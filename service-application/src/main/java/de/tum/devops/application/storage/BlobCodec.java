@@ -0,0 +1,106 @@
+package de.tum.devops.application.storage;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression codecs available to {@link CompressingBlobStore}. The id is persisted in the blob header,
+ * so existing values must never be renumbered.
+ */
+public enum BlobCodec {
+
+    NONE(0) {
+        @Override
+        public OutputStream compress(OutputStream out, int level) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+    },
+
+    DEFLATE(1) {
+        @Override
+        public OutputStream compress(OutputStream out, int level) {
+            Deflater deflater = new Deflater(level < 0 ? Deflater.DEFAULT_COMPRESSION : Math.min(level, 9));
+            return new DeflaterOutputStream(out, deflater, 8192) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            Inflater inflater = new Inflater();
+            return new InflaterInputStream(in, inflater, 8192) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        }
+    },
+
+    ZSTD(2) {
+        @Override
+        public OutputStream compress(OutputStream out, int level) throws IOException {
+            return new ZstdOutputStream(out, level < 0 ? 3 : level);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new ZstdInputStream(in);
+        }
+    };
+
+    private final int id;
+
+    BlobCodec(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Wrap a stream so bytes written to it are compressed. Closing the wrapper closes {@code out}.
+     *
+     * @param level Codec-specific level, or -1 for the codec default
+     */
+    public abstract OutputStream compress(OutputStream out, int level) throws IOException;
+
+    /**
+     * Wrap a stream so bytes read from it are decompressed. Closing the wrapper closes {@code in}.
+     */
+    public abstract InputStream decompress(InputStream in) throws IOException;
+
+    public static BlobCodec fromId(int id) {
+        for (BlobCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown blob codec id: " + id);
+    }
+}
@@ -0,0 +1,54 @@
+package de.tum.devops.application.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Abstraction over the backend that holds uploaded resume files.
+ * <p>
+ * Keys are flat object names (e.g. {@code <candidateId>_<jobId>_<timestamp>.pdf}); implementations
+ * decide how they map onto directories, buckets or prefixes. Missing objects are reported with
+ * {@link de.tum.devops.application.exception.FileNotFoundException}, backend failures with {@link IOException}.
+ */
+public interface BlobStore {
+
+    /**
+     * Store the content under the given key, replacing any existing object
+     *
+     * @param key           Object key
+     * @param content       Content stream, consumed but not closed
+     * @param contentLength Number of bytes in the stream, or -1 if unknown
+     */
+    void put(String key, InputStream content, long contentLength) throws IOException;
+
+    /**
+     * Open a stream over the whole object. The caller must close it.
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * Open a stream over {@code length} bytes starting at {@code offset}. The caller must close it.
+     */
+    InputStream getRange(String key, long offset, long length) throws IOException;
+
+    /**
+     * Check if an object exists under the key
+     */
+    boolean exists(String key);
+
+    /**
+     * Get object size in bytes
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * Delete the object if present
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Prepare the backend on startup (create directories, check the bucket, ...)
+     */
+    default void initialize() throws IOException {
+    }
+}
@@ -0,0 +1,179 @@
+package de.tum.devops.application.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * {@link BlobStore} decorator that compresses objects before handing them to the backing store.
+ * <p>
+ * Compressed objects start with a 13 byte header: the magic {@code AHZ\0}, the codec id and the
+ * uncompressed length. Objects without the header (files written before compression was enabled, or
+ * files that did not shrink enough to be worth it, e.g. PDFs with already deflated streams) are stored
+ * and served as-is, so the tier can be switched on and off without migrating existing uploads. With
+ * {@link BlobCodec#NONE} new objects are stored raw and compressed ones are still decompressed on read.
+ */
+public class CompressingBlobStore implements BlobStore {
+
+    static final byte[] MAGIC = {'A', 'H', 'Z', 0};
+    static final int HEADER_SIZE = MAGIC.length + 1 + Long.BYTES;
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressingBlobStore.class);
+
+    private final BlobStore delegate;
+    private final BlobCodec codec;
+    private final int level;
+    private final double minSavingsRatio;
+
+    /**
+     * @param minSavingsRatio Minimum fraction of bytes compression has to save (e.g. 0.05 for 5%)
+     *                        before the compressed form is kept
+     */
+    public CompressingBlobStore(BlobStore delegate, BlobCodec codec, int level, double minSavingsRatio) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.level = level;
+        this.minSavingsRatio = minSavingsRatio;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength) throws IOException {
+        if (codec == BlobCodec.NONE) {
+            delegate.put(key, content, contentLength);
+            return;
+        }
+        // Uploads are capped by app.file.max-file-size, so buffering one compressed copy is bounded
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(
+                contentLength > 0 ? (int) Math.min(contentLength, Integer.MAX_VALUE - 8) / 2 : 8192);
+        byte[] raw = content.readAllBytes();
+
+        compressed.write(header(codec, raw.length));
+        try (OutputStream out = codec.compress(nonClosing(compressed), level)) {
+            out.write(raw);
+        }
+
+        if (compressed.size() > raw.length * (1.0 - minSavingsRatio)) {
+            logger.debug("Storing {} uncompressed ({} -> {} bytes with {})", key, raw.length, compressed.size(), codec);
+            delegate.put(key, new ByteArrayInputStream(raw), raw.length);
+        } else {
+            logger.debug("Storing {} compressed with {} ({} -> {} bytes)", key, codec, raw.length, compressed.size());
+            delegate.put(key, new ByteArrayInputStream(compressed.toByteArray()), compressed.size());
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        InputStream in = new BufferedInputStream(delegate.get(key));
+        try {
+            Header header = readHeader(in);
+            return header == null ? in : header.codec().decompress(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long offset, long length) throws IOException {
+        if (readHeader(key) == null) {
+            return delegate.getRange(key, offset, length);
+        }
+        // Compressed streams are not seekable: decompress from the start and discard up to the offset
+        InputStream in = get(key);
+        try {
+            in.skipNBytes(offset);
+        } catch (EOFException e) {
+            in.close();
+            return InputStream.nullInputStream();
+        }
+        return new BoundedInputStream(in, length);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return delegate.exists(key);
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        Header header = readHeader(key);
+        if (header == null) {
+            return delegate.size(key);
+        }
+        if (header.length() >= 0) {
+            return header.length();
+        }
+        try (InputStream in = get(key)) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        delegate.delete(key);
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        delegate.initialize();
+        if (codec == BlobCodec.NONE) {
+            logger.info("Blob compression disabled, compressed files are still decompressed on read");
+        } else {
+            logger.info("Blob compression enabled with {} (level {})", codec, level);
+        }
+    }
+
+    private Header readHeader(String key) throws IOException {
+        try (InputStream in = delegate.getRange(key, 0, HEADER_SIZE)) {
+            return readHeader(in);
+        }
+    }
+
+    /**
+     * Read the header if present. Leaves the stream positioned after the header, or rewinds it
+     * (for mark-supporting streams) when the object is stored raw.
+     */
+    private static Header readHeader(InputStream in) throws IOException {
+        if (in.markSupported()) {
+            in.mark(HEADER_SIZE);
+        }
+        byte[] bytes = in.readNBytes(HEADER_SIZE);
+        if (bytes.length < HEADER_SIZE || !Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            if (in.markSupported()) {
+                in.reset();
+            }
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, MAGIC.length, HEADER_SIZE - MAGIC.length);
+        BlobCodec codec = BlobCodec.fromId(buffer.get());
+        return new Header(codec, buffer.getLong());
+    }
+
+    static byte[] header(BlobCodec codec, long length) {
+        return ByteBuffer.allocate(HEADER_SIZE)
+                .put(MAGIC)
+                .put((byte) codec.getId())
+                .putLong(length)
+                .array();
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private record Header(BlobCodec codec, long length) {
+    }
+}
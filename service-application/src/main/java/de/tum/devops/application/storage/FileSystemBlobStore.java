@@ -0,0 +1,97 @@
+package de.tum.devops.application.storage;
+
+import de.tum.devops.application.exception.FileNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * {@link BlobStore} backed by a local directory (the original upload volume)
+ */
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemBlobStore.class);
+
+    private final Path root;
+
+    public FileSystemBlobStore(Path root) {
+        this.root = root.normalize();
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(root);
+        Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long offset, long length) throws IOException {
+        SeekableByteChannel channel;
+        try {
+            channel = Files.newByteChannel(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found: " + key, e);
+        }
+        channel.position(offset);
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        Path path = resolve(key);
+        return Files.exists(path) && Files.isRegularFile(path);
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return Files.size(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        if (!Files.exists(root)) {
+            Files.createDirectories(root);
+            logger.info("Created upload directory: {}", root.toAbsolutePath());
+        } else {
+            logger.info("Upload directory already exists: {}", root.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Resolve a key inside the root directory, rejecting path traversal
+     */
+    Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new SecurityException("Access to file outside upload directory is not allowed");
+        }
+        return path;
+    }
+}
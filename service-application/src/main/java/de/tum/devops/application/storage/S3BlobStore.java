@@ -0,0 +1,211 @@
+package de.tum.devops.application.storage;
+
+import de.tum.devops.application.exception.FileNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link BlobStore} backed by any S3-compatible object store (AWS S3, MinIO, Ceph RGW, ...).
+ * <p>
+ * Objects up to one part size are written with a single PUT; larger or unknown-length uploads use
+ * multipart upload so only one part is buffered in memory at a time. Reads stream straight from
+ * the HTTP response, and range reads use the {@code Range} header instead of downloading the object.
+ */
+public class S3BlobStore implements BlobStore {
+
+    /**
+     * S3 rejects non-final multipart parts smaller than 5 MiB
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(S3BlobStore.class);
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String keyPrefix;
+    private final int partSize;
+    private final boolean createBucket;
+
+    public S3BlobStore(S3Client s3Client, String bucket, String keyPrefix, int partSize, boolean createBucket) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("S3 part size must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+        this.partSize = partSize;
+        this.createBucket = createBucket;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength) throws IOException {
+        if (contentLength >= 0 && contentLength <= partSize) {
+            try {
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(objectKey(key)).build(),
+                        RequestBody.fromInputStream(content, contentLength));
+            } catch (SdkException e) {
+                throw new IOException("Failed to upload object " + key, e);
+            }
+            return;
+        }
+        multipartUpload(key, content);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return getObject(key, null);
+    }
+
+    @Override
+    public InputStream getRange(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        return getObject(key, "bytes=" + offset + "-" + (offset + length - 1));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            headObject(key);
+            return true;
+        } catch (FileNotFoundException e) {
+            return false;
+        } catch (IOException e) {
+            logger.warn("Error checking object existence for {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return headObject(key).contentLength();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete object " + key, e);
+        }
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+            logger.info("Using S3 bucket: {}", bucket);
+        } catch (NoSuchBucketException e) {
+            if (!createBucket) {
+                throw new IOException("S3 bucket does not exist: " + bucket, e);
+            }
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+            logger.info("Created S3 bucket: {}", bucket);
+        } catch (SdkException e) {
+            throw new IOException("Failed to access S3 bucket " + bucket, e);
+        }
+    }
+
+    private void multipartUpload(String key, InputStream content) throws IOException {
+        String objectKey = objectKey(key);
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            throw new IOException("Failed to start multipart upload for " + key, e);
+        }
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            byte[] buffer;
+            // Always send at least one (possibly empty) part so empty streams still complete
+            do {
+                buffer = content.readNBytes(partSize);
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(objectKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) buffer.length)
+                                .build(),
+                        RequestBody.fromBytes(buffer));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                partNumber++;
+            } while (buffer.length == partSize);
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            logger.debug("Uploaded {} in {} parts", key, parts.size());
+        } catch (IOException | SdkException e) {
+            abortQuietly(objectKey, uploadId);
+            throw e instanceof IOException io ? io : new IOException("Multipart upload failed for " + key, e);
+        }
+    }
+
+    private void abortQuietly(String objectKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            logger.warn("Failed to abort multipart upload {} for {}: {}", uploadId, objectKey, e.getMessage());
+        }
+    }
+
+    private InputStream getObject(String key, String range) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .range(range)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new FileNotFoundException("File not found: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to read object " + key, e);
+        }
+    }
+
+    private HeadObjectResponse headObject(String key) throws IOException {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+        } catch (NoSuchKeyException e) {
+            throw new FileNotFoundException("File not found: " + key, e);
+        } catch (S3Exception e) {
+            // HEAD responses carry no error body, so a missing key may surface as a bare 404
+            if (e.statusCode() == 404) {
+                throw new FileNotFoundException("File not found: " + key, e);
+            }
+            throw new IOException("Failed to stat object " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to stat object " + key, e);
+        }
+    }
+
+    private String objectKey(String key) {
+        if (key == null || key.isBlank() || key.contains("..")) {
+            throw new SecurityException("Invalid object key");
+        }
+        return keyPrefix + key;
+    }
+}
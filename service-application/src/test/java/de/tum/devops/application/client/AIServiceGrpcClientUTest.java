@@ -0,0 +1,101 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.exception.GenAiUnavailableException;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import de.tum.devops.grpc.ai.ChatReplyRequest;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AIServiceGrpcClient#getChatReply} against an in-process gen-ai server that streams one
+ * chunk and then ends the call with a configurable status.
+ */
+class AIServiceGrpcClientUTest {
+
+    private Server server;
+    private ManagedChannel channel;
+    private AIServiceGrpcClient client;
+    private volatile String chunk = "Tell me about your last project.";
+    private volatile Status status = Status.OK;
+
+    @BeforeEach
+    void setup() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new AIServiceGrpc.AIServiceImplBase() {
+            @Override
+            public void chatReply(ChatReplyRequest request, StreamObserver<ChatReplyResponse> responseObserver) {
+                if (!chunk.isEmpty()) {
+                    responseObserver.onNext(ChatReplyResponse.newBuilder().setAiMessage(chunk).build());
+                }
+                if (status == null) {
+                    return; // never ends, the deadline does
+                }
+                if (status.isOk()) {
+                    responseObserver.onCompleted();
+                } else {
+                    responseObserver.onError(status.asRuntimeException());
+                }
+            }
+        }).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        client = new AIServiceGrpcClient(AIServiceGrpc.newBlockingStub(channel), AIServiceGrpc.newStub(channel),
+                null, Duration.ofMillis(200), Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void completedReplyIsReturned() {
+        assertEquals("Tell me about your last project.", chatReply());
+    }
+
+    @Test
+    void failedStreamThrowsInsteadOfReturningPartialText() {
+        status = Status.INVALID_ARGUMENT.withDescription("bad history");
+
+        assertThrows(IllegalStateException.class, this::chatReply);
+    }
+
+    @Test
+    void failingServiceIsReportedUnavailable() {
+        status = Status.INTERNAL;
+
+        assertThrows(GenAiUnavailableException.class, this::chatReply);
+    }
+
+    @Test
+    void missedDeadlineIsReportedUnavailable() {
+        status = null;
+
+        assertThrows(GenAiUnavailableException.class, this::chatReply);
+    }
+
+    @Test
+    void emptyReplyThrows() {
+        chunk = "";
+
+        assertThrows(IllegalStateException.class, this::chatReply);
+    }
+
+    private String chatReply() {
+        return client.getChatReply("Resume", "Backend Engineer", "Build services", "Java", List.of());
+    }
+}
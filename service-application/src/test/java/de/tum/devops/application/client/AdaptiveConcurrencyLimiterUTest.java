@@ -0,0 +1,108 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.client.AdaptiveConcurrencyLimiter.Outcome;
+import de.tum.devops.application.client.AdaptiveConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter} with a manual clock.
+ */
+class AdaptiveConcurrencyLimiterUTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, 0.5, Duration.ofSeconds(1), nanos::get);
+    }
+
+    @Test
+    void rejectsBeyondLimitWithoutWaiting() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        Permit first = limiter.tryAcquire(Duration.ZERO);
+        assertNotNull(first);
+        assertNotNull(limiter.tryAcquire(Duration.ZERO));
+        assertNull(limiter.tryAcquire(Duration.ZERO));
+
+        first.release(Outcome.IGNORED);
+        assertNotNull(limiter.tryAcquire(Duration.ZERO));
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void fastSuccessesUnderLoadGrowTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 3);
+
+        for (int round = 0; round < 10; round++) {
+            List<Permit> permits = new ArrayList<>();
+            for (int i = 0; i < limiter.getLimit(); i++) {
+                permits.add(limiter.tryAcquire(Duration.ZERO));
+            }
+            permits.forEach(permit -> permit.release(Outcome.SUCCESS));
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void idleLimitDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(Duration.ZERO).release(Outcome.SUCCESS);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void dropsAndSlowCallsShrinkTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 2, 10);
+
+        limiter.tryAcquire(Duration.ZERO).release(Outcome.DROPPED);
+        assertEquals(4, limiter.getLimit());
+
+        Permit slow = limiter.tryAcquire(Duration.ZERO);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        slow.release(Outcome.SUCCESS);
+        assertEquals(2, limiter.getLimit());
+
+        limiter.tryAcquire(Duration.ZERO).release(Outcome.DROPPED);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void releaseIsIdempotent() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10);
+        Permit permit = limiter.tryAcquire(Duration.ZERO);
+        limiter.tryAcquire(Duration.ZERO);
+
+        permit.release(Outcome.DROPPED);
+        permit.release(Outcome.DROPPED);
+
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void waitingCallIsAdmittedWhenASlotFrees() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1);
+        Permit held = limiter.tryAcquire(Duration.ZERO);
+
+        CompletableFuture<Permit> waiting = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(Duration.ofSeconds(10)));
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+        held.release(Outcome.SUCCESS);
+
+        assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+    }
+}
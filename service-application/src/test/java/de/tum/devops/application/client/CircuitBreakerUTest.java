@@ -0,0 +1,119 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.client.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CircuitBreaker} with a manual clock.
+ */
+class CircuitBreakerUTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CircuitBreaker breaker(int halfOpenProbes) {
+        return new CircuitBreaker(4, 2, 0.5, Duration.ofSeconds(10), halfOpenProbes, nanos::get);
+    }
+
+    private void fail(CircuitBreaker breaker) {
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+    }
+
+    private void succeed(CircuitBreaker breaker) {
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+    }
+
+    @Test
+    void staysClosedBelowMinimumCallsAndThreshold() {
+        CircuitBreaker breaker = breaker(1);
+
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        succeed(breaker);
+        succeed(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void opensAtThresholdAndRejectsUntilOpenDurationPassed() {
+        CircuitBreaker breaker = breaker(1);
+        succeed(breaker);
+        fail(breaker);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertFalse(breaker.tryAcquire());
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        CircuitBreaker breaker = breaker(1);
+        fail(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+
+        // The window now holds four successes, so one failure is 25%
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenAdmitsProbesAndClosesOnSuccess() {
+        CircuitBreaker breaker = breaker(1);
+        fail(breaker);
+        fail(breaker);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(State.CLOSED, breaker.getState());
+        // The window was reset, so a single failure does not reopen it
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = breaker(1);
+        fail(breaker);
+        fail(breaker);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        fail(breaker);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void ignoredProbeFreesItsSlot() {
+        CircuitBreaker breaker = breaker(1);
+        fail(breaker);
+        fail(breaker);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onIgnored();
+
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,109 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.GenAiCircuitBreakerProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import de.tum.devops.grpc.ai.ScoreInterviewRequest;
+import de.tum.devops.grpc.ai.ScoreInterviewResponse;
+import de.tum.devops.grpc.ai.ScoreResumeRequest;
+import de.tum.devops.grpc.ai.ScoreResumeResponse;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GenAiCircuitBreakerInterceptor} against an in-process gen-ai server.
+ */
+class GenAiCircuitBreakerInterceptorUTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger resumeCalls = new AtomicInteger();
+
+    private Server server;
+    private ManagedChannel channel;
+    private GenAiCircuitBreakerInterceptor interceptor;
+    private volatile Status resumeStatus = Status.UNAVAILABLE;
+
+    @BeforeEach
+    void setup() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new AIServiceGrpc.AIServiceImplBase() {
+            @Override
+            public void scoreResume(ScoreResumeRequest request, StreamObserver<ScoreResumeResponse> responseObserver) {
+                resumeCalls.incrementAndGet();
+                if (!resumeStatus.isOk()) {
+                    responseObserver.onError(resumeStatus.asRuntimeException());
+                    return;
+                }
+                responseObserver.onNext(ScoreResumeResponse.newBuilder().setResumeScore(80).build());
+                responseObserver.onCompleted();
+            }
+
+            @Override
+            public void scoreInterview(ScoreInterviewRequest request, StreamObserver<ScoreInterviewResponse> responseObserver) {
+                responseObserver.onNext(ScoreInterviewResponse.newBuilder().setInterviewScore(70).build());
+                responseObserver.onCompleted();
+            }
+        }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+
+        GenAiCircuitBreakerProperties properties = new GenAiCircuitBreakerProperties();
+        properties.setWindowSize(4);
+        properties.setMinimumCalls(2);
+        properties.setOpenDuration(Duration.ofMinutes(1));
+        interceptor = new GenAiCircuitBreakerInterceptor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void repeatedFailuresOpenTheCircuitOfThatMethodOnly() {
+        AIServiceGrpc.AIServiceBlockingStub stub = AIServiceGrpc.newBlockingStub(
+                ClientInterceptors.intercept(channel, interceptor));
+
+        assertFalse(GenAiCircuitBreakerInterceptor.isOpenCircuit(assertThrows(StatusRuntimeException.class,
+                () -> stub.scoreResume(ScoreResumeRequest.getDefaultInstance()))));
+        assertThrows(StatusRuntimeException.class, () -> stub.scoreResume(ScoreResumeRequest.getDefaultInstance()));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.scoreResume(ScoreResumeRequest.getDefaultInstance()));
+        assertTrue(GenAiCircuitBreakerInterceptor.isOpenCircuit(e));
+        assertEquals(2, resumeCalls.get());
+        assertEquals(2.0, meterRegistry.get("genai.circuit.state").tag("method", "ScoreResume").gauge().value());
+
+        assertEquals(70, stub.scoreInterview(ScoreInterviewRequest.getDefaultInstance()).getInterviewScore());
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.breaker(AIServiceGrpc.getScoreInterviewMethod()).getState());
+    }
+
+    @Test
+    void requestErrorsDoNotCount() {
+        resumeStatus = Status.INVALID_ARGUMENT;
+        AIServiceGrpc.AIServiceBlockingStub stub = AIServiceGrpc.newBlockingStub(
+                ClientInterceptors.intercept(channel, interceptor));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(StatusRuntimeException.class, () -> stub.scoreResume(ScoreResumeRequest.getDefaultInstance()));
+        }
+
+        assertEquals(3, resumeCalls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.breaker(AIServiceGrpc.getScoreResumeMethod()).getState());
+    }
+}
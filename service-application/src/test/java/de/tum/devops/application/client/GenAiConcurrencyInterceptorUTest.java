@@ -0,0 +1,156 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.GenAiConcurrencyProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import de.tum.devops.grpc.ai.ChatReplyRequest;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import de.tum.devops.grpc.ai.ScoreResumeRequest;
+import de.tum.devops.grpc.ai.ScoreResumeResponse;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GenAiConcurrencyInterceptor} against an in-process gen-ai server whose chat streams stay
+ * open until released.
+ */
+class GenAiConcurrencyInterceptorUTest {
+
+    private final CountDownLatch releaseStreams = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<StreamObserver<ChatReplyResponse>> openStreams = new ArrayList<>();
+
+    private Server server;
+    private ManagedChannel channel;
+    private GenAiConcurrencyInterceptor interceptor;
+    private volatile Status scoreStatus = Status.OK;
+
+    @BeforeEach
+    void setup() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new AIServiceGrpc.AIServiceImplBase() {
+            @Override
+            public void chatReply(ChatReplyRequest request, StreamObserver<ChatReplyResponse> responseObserver) {
+                synchronized (openStreams) {
+                    openStreams.add(responseObserver);
+                }
+                responseObserver.onNext(ChatReplyResponse.newBuilder().setAiMessage("Hello").build());
+            }
+
+            @Override
+            public void scoreResume(ScoreResumeRequest request, StreamObserver<ScoreResumeResponse> responseObserver) {
+                if (!scoreStatus.isOk()) {
+                    responseObserver.onError(scoreStatus.asRuntimeException());
+                    return;
+                }
+                responseObserver.onNext(ScoreResumeResponse.newBuilder().setResumeScore(80).build());
+                responseObserver.onCompleted();
+            }
+        }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+
+        GenAiConcurrencyProperties properties = new GenAiConcurrencyProperties();
+        properties.setInteractive(new GenAiConcurrencyProperties.Budget(2, 1, 10, Duration.ZERO, Duration.ofSeconds(30)));
+        properties.setBackground(new GenAiConcurrencyProperties.Budget(4, 1, 10, Duration.ZERO, Duration.ofSeconds(30)));
+        interceptor = new GenAiConcurrencyInterceptor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        releaseStreams.countDown();
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void streamsHoldTheirSlotUntilClosed() throws Exception {
+        AIServiceGrpc.AIServiceStub stub = AIServiceGrpc.newStub(intercepted());
+        CompletableFuture<Throwable> first = chat(stub);
+        chat(stub);
+        CompletableFuture<Throwable> third = chat(stub);
+
+        assertTrue(GenAiConcurrencyInterceptor.isRejection(third.get(5, TimeUnit.SECONDS)));
+        assertEquals(2, interceptor.limiter("interactive").getInFlight());
+        assertEquals(1.0, meterRegistry.get("genai.concurrency.rejected").tag("budget", "interactive").counter().count());
+        assertEquals(2.0, meterRegistry.get("genai.concurrency.inflight").tag("budget", "interactive").gauge().value());
+
+        synchronized (openStreams) {
+            openStreams.get(0).onCompleted();
+        }
+        assertNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, interceptor.limiter("interactive").getInFlight());
+        assertFalse(chat(stub).isDone());
+    }
+
+    @Test
+    void scoringHasItsOwnBudget() throws Exception {
+        AIServiceGrpc.AIServiceStub stub = AIServiceGrpc.newStub(intercepted());
+        chat(stub);
+        chat(stub);
+
+        ScoreResumeResponse response = AIServiceGrpc.newBlockingStub(intercepted())
+                .scoreResume(ScoreResumeRequest.getDefaultInstance());
+
+        assertEquals(80, response.getResumeScore());
+        assertEquals(0, interceptor.limiter("background").getInFlight());
+    }
+
+    @Test
+    void serverOverloadShrinksTheLimit() {
+        scoreStatus = Status.UNAVAILABLE;
+        AIServiceGrpc.AIServiceBlockingStub stub = AIServiceGrpc.newBlockingStub(intercepted());
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.scoreResume(ScoreResumeRequest.getDefaultInstance()));
+
+        assertFalse(GenAiConcurrencyInterceptor.isRejection(e));
+        assertEquals(3, interceptor.limiter("background").getLimit());
+        assertEquals(3.0, meterRegistry.get("genai.concurrency.limit").tag("budget", "background").gauge().value());
+    }
+
+    private Channel intercepted() {
+        return ClientInterceptors.intercept(channel, interceptor);
+    }
+
+    /**
+     * Starts a chat stream; the future completes with the stream's error, or null when it completes
+     */
+    private static CompletableFuture<Throwable> chat(AIServiceGrpc.AIServiceStub stub) {
+        CompletableFuture<Throwable> closed = new CompletableFuture<>();
+        stub.chatReply(ChatReplyRequest.getDefaultInstance(), new StreamObserver<>() {
+            @Override
+            public void onNext(ChatReplyResponse value) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                closed.complete(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                closed.complete(null);
+            }
+        });
+        return closed;
+    }
+}
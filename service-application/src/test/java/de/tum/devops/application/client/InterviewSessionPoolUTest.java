@@ -0,0 +1,217 @@
+package de.tum.devops.application.client;
+
+import de.tum.devops.application.config.InterviewSessionProperties;
+import de.tum.devops.grpc.ai.AIServiceGrpc;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import de.tum.devops.grpc.ai.InterviewSessionRequest;
+import de.tum.devops.grpc.ai.InterviewSessionResponse;
+import de.tum.devops.grpc.ai.InterviewSessionStart;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link InterviewSessionPool} against an in-process gen-ai server that answers every start and
+ * turn with one AI message.
+ */
+class InterviewSessionPoolUTest {
+
+    private final List<InterviewSessionRequest> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger streamsOpened = new AtomicInteger();
+    private final AtomicInteger streamsClosedByClient = new AtomicInteger();
+    private final AtomicInteger contextLoads = new AtomicInteger();
+    private final InterviewSessionProperties properties = new InterviewSessionProperties();
+    private final UUID sessionId = UUID.randomUUID();
+
+    private Server server;
+    private ManagedChannel channel;
+    private InterviewSessionPool pool;
+    private volatile boolean answering = true;
+
+    @BeforeEach
+    void setup() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new AIServiceGrpc.AIServiceImplBase() {
+            @Override
+            public StreamObserver<InterviewSessionRequest> interviewSession(StreamObserver<InterviewSessionResponse> responses) {
+                streamsOpened.incrementAndGet();
+                return new StreamObserver<>() {
+                    private int messages;
+
+                    @Override
+                    public void onNext(InterviewSessionRequest request) {
+                        received.add(request);
+                        if (answering) {
+                            messages++;
+                            responses.onNext(InterviewSessionResponse.newBuilder().setAiMessage("Question ").build());
+                            responses.onNext(InterviewSessionResponse.newBuilder().setAiMessage(String.valueOf(messages)).build());
+                            responses.onNext(InterviewSessionResponse.newBuilder().setTurnComplete(true).build());
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        streamsClosedByClient.incrementAndGet();
+                        responses.onCompleted();
+                    }
+                };
+            }
+        }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        pool = new InterviewSessionPool(properties, List.of(AIServiceGrpc.newStub(channel)), null, null);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void laterTurnsOnlySendTheCandidateMessage() {
+        RecordingObserver opening = new RecordingObserver();
+        pool.nextMessage(sessionId, 0, null, context(), opening);
+        RecordingObserver reply = new RecordingObserver();
+        pool.nextMessage(sessionId, 1, "I build APIs", context(), reply);
+
+        assertEquals("Question 1", opening.text());
+        assertEquals("Question 2", reply.text());
+        assertTrue(opening.completed && reply.completed);
+        assertEquals(1, streamsOpened.get());
+        assertEquals(1, contextLoads.get());
+        assertTrue(received.get(0).hasStart());
+        assertEquals("I build APIs", received.get(1).getTurn().getContent());
+    }
+
+    @Test
+    void staleStreamIsReplacedWithTheFullContext() {
+        pool.nextMessage(sessionId, 0, null, context(), new RecordingObserver());
+        // Another instance answered a turn meanwhile, the session now has two AI messages
+        RecordingObserver reply = new RecordingObserver();
+        pool.nextMessage(sessionId, 2, "I build APIs", context(), reply);
+
+        assertEquals("Question 1", reply.text());
+        assertEquals(2, streamsOpened.get());
+        assertEquals(1, streamsClosedByClient.get());
+        assertEquals(2, contextLoads.get());
+        assertTrue(received.get(1).hasStart());
+    }
+
+    @Test
+    void idleStreamsAreClosed() {
+        properties.setIdleTimeout(Duration.ZERO);
+        pool.nextMessage(sessionId, 0, null, context(), new RecordingObserver());
+
+        pool.closeIdleStreams();
+        pool.nextMessage(sessionId, 1, "I build APIs", context(), new RecordingObserver());
+
+        assertEquals(1, streamsClosedByClient.get());
+        assertEquals(2, streamsOpened.get());
+    }
+
+    @Test
+    void unfinishedMessageFailsItsStream() {
+        properties.setTurnTimeout(Duration.ZERO);
+        answering = false;
+        RecordingObserver opening = new RecordingObserver();
+        pool.nextMessage(sessionId, 0, null, context(), opening);
+
+        pool.closeIdleStreams();
+
+        assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(opening.error).getCode());
+        assertFalse(opening.completed);
+    }
+
+    @Test
+    void fullPoolRetiresTheLeastRecentlyActiveIdleStream() {
+        properties.setMaxStreams(2);
+        UUID second = UUID.randomUUID();
+        pool.nextMessage(sessionId, 0, null, context(), new RecordingObserver());
+        pool.nextMessage(second, 0, null, context(), new RecordingObserver());
+
+        assertTrue(pool.nextMessage(UUID.randomUUID(), 0, null, context(), new RecordingObserver()));
+        pool.nextMessage(second, 1, "I build APIs", context(), new RecordingObserver());
+
+        assertEquals(1, streamsClosedByClient.get());
+        assertEquals(3, streamsOpened.get());
+    }
+
+    @Test
+    void fullPoolOfBusyStreamsLeavesTheMessageToTheCaller() {
+        properties.setMaxStreams(1);
+        answering = false;
+        pool.nextMessage(sessionId, 0, null, context(), new RecordingObserver());
+
+        RecordingObserver opening = new RecordingObserver();
+        assertFalse(pool.nextMessage(UUID.randomUUID(), 0, null, context(), opening));
+
+        assertEquals(1, streamsOpened.get());
+        assertEquals(1, contextLoads.get());
+        assertNull(opening.error);
+        assertFalse(opening.completed);
+    }
+
+    @Test
+    void contextFailureIsReportedToTheObserver() {
+        RecordingObserver opening = new RecordingObserver();
+        pool.nextMessage(sessionId, 0, null, () -> {
+            throw new IllegalStateException("Failed to fetch job details");
+        }, opening);
+
+        assertInstanceOf(IllegalStateException.class, opening.error);
+        assertEquals(0, streamsOpened.get());
+    }
+
+    private Supplier<InterviewSessionStart> context() {
+        return () -> {
+            contextLoads.incrementAndGet();
+            return InterviewSessionStart.newBuilder().setSessionId(sessionId.toString()).setJobTitle("Backend Engineer").build();
+        };
+    }
+
+    private static final class RecordingObserver implements StreamObserver<ChatReplyResponse> {
+
+        private final StringBuilder text = new StringBuilder();
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onNext(ChatReplyResponse response) {
+            text.append(response.getAiMessage());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+
+        private String text() {
+            return text.toString();
+        }
+    }
+}
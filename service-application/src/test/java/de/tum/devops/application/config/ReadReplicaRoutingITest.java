@@ -0,0 +1,144 @@
+package de.tum.devops.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.common.datasource.ReadReplicaConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for {@link ReadReplicaConfig}. Both pools point at the test database, the replica pool connects with
+ * {@code ApplicationName=replica} so each transaction can tell which pool served it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({ReadReplicaConfig.class,
+        TransactionManagerCustomizationAutoConfiguration.class}) // the latter registers ReplicaLagGuard as in the app
+@TestPropertySource(properties = {
+        "app.db.replica.enabled=true",
+        "app.db.replica.url=${spring.datasource.url}&ApplicationName=replica",
+        "app.db.replica.username=${spring.datasource.username}",
+        "app.db.replica.password=${spring.datasource.password}",
+        "app.db.replica.sticky-window=1m",
+        "spring.datasource.hikari.maximum-pool-size=7"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingITest extends AbstractPostgresITest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @AfterEach
+    void clearContext() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", pool(true));
+        assertEquals("primary", pool(false));
+    }
+
+    @Test
+    void readsFollowWriteInSameRequestToPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals("replica", pool(true));
+
+        pool(false);
+
+        assertEquals("primary", pool(true));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals("replica", pool(true));
+    }
+
+    @Test
+    void readsStayOnPrimaryForUserAfterWrite() {
+        authenticate("writer");
+        pool(false);
+        assertEquals("primary", pool(true));
+
+        authenticate("someone-else");
+        assertEquals("replica", pool(true));
+    }
+
+    @Test
+    void routingIsCountedPerPool() {
+        double before = readsFrom("replica");
+        pool(true);
+
+        assertEquals(before + 1, readsFrom("replica"));
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "primary").gauge());
+    }
+
+    @Test
+    void primaryPoolKeepsTheHikariSettings() {
+        assertEquals(7, primaryDataSource.getMaximumPoolSize());
+        assertEquals("primary", primaryDataSource.getPoolName());
+    }
+
+    /**
+     * Runs a transaction and reports which pool its connection came from
+     */
+    private String pool(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(readOnly);
+        String applicationName = template.execute(status -> (String) entityManager
+                .createNativeQuery("SELECT current_setting('application_name')").getSingleResult());
+        return "replica".equals(applicationName) ? "replica" : "primary";
+    }
+
+    private double readsFrom(String pool) {
+        return meterRegistry.counter("db.replica.reads", "pool", pool).count();
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package de.tum.devops.application.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RemoteCallGuard} with a connection bound to the test thread by hand.
+ */
+class RemoteCallGuardUTest {
+
+    private final Object dataSource = new Object();
+
+    @AfterEach
+    void unbind() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void failModeRejectsCallWhileConnectionIsHeld() {
+        bindConnection();
+        RemoteCallGuard guard = new RemoteCallGuard(RemoteCallGuard.Mode.FAIL);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> guard.check("job-service"));
+        assertTrue(e.getMessage().contains("job-service"));
+    }
+
+    @Test
+    void failModeRejectsCallInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        RemoteCallGuard guard = new RemoteCallGuard(RemoteCallGuard.Mode.FAIL);
+
+        assertThrows(IllegalStateException.class, () -> guard.check("gen-ai"));
+    }
+
+    @Test
+    void callsWithoutConnectionPass() {
+        assertDoesNotThrow(() -> new RemoteCallGuard(RemoteCallGuard.Mode.FAIL).check("job-service"));
+    }
+
+    @Test
+    void warnAndOffModesOnlyObserve() {
+        bindConnection();
+
+        assertDoesNotThrow(() -> new RemoteCallGuard("warn").check("job-service"));
+        assertDoesNotThrow(() -> new RemoteCallGuard("off").check("job-service"));
+    }
+
+    @Test
+    void webClientFilterChecksBeforeExchange() {
+        bindConnection();
+        WebClient.Builder builder = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+        new RemoteCallGuard(RemoteCallGuard.Mode.FAIL).customize(builder);
+
+        WebClient webClient = builder.build();
+
+        assertThrows(IllegalStateException.class,
+                () -> webClient.get().uri("http://job-service/internal/api/v1/jobs").retrieve().toBodilessEntity().block());
+    }
+
+    private void bindConnection() {
+        TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(mock(Connection.class)));
+    }
+}
@@ -0,0 +1,104 @@
+package de.tum.devops.application.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryListenerUTest {
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setup() {
+        logger = (Logger) LoggerFactory.getLogger(SlowQueryListener.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void fastQueriesAreNotLogged() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(properties(1.0), () -> 0.0);
+
+        listener.afterQuery(execution(50), List.of(query("select * from applications where candidate_id = ?", "secret")));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void slowQueriesAreLoggedWithoutBindValues() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(properties(1.0), () -> 0.0);
+
+        listener.afterQuery(execution(450), List.of(query("select *\n  from chat_messages where content = ?", "my salary expectations")));
+
+        assertEquals(1, appender.list.size());
+        String event = appender.list.getFirst().getFormattedMessage() + Arrays.toString(appender.list.getFirst().getArgumentArray());
+        assertTrue(event.contains("select * from chat_messages where content = ?"));
+        assertTrue(event.contains("parameter_types=String"));
+        assertFalse(event.contains("my salary expectations"));
+    }
+
+    @Test
+    void inlineStringLiteralsAreMasked() {
+        SlowQueryListener listener = new SlowQueryListener(properties(1.0), () -> 0.0);
+
+        assertEquals("update applications set hr_comments = '?' where status = '?'",
+                listener.redact("update applications set hr_comments = 'don''t hire' where status = 'COMPLETED'"));
+    }
+
+    @Test
+    void slowQueriesAreSampled() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(properties(0.1), () -> 0.5);
+
+        listener.afterQuery(execution(450), List.of(query("select 1", null)));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private static SlowQueryLogProperties properties(double sampleRate) {
+        SlowQueryLogProperties properties = new SlowQueryLogProperties();
+        properties.setThreshold(Duration.ofMillis(200));
+        properties.setSampleRate(sampleRate);
+        return properties;
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        info.setSuccess(true);
+        info.setDataSourceName("dataSource");
+        return info;
+    }
+
+    private static QueryInfo query(String sql, String parameter) throws Exception {
+        QueryInfo query = new QueryInfo(sql);
+        if (parameter != null) {
+            List<ParameterSetOperation> parameters = new ArrayList<>();
+            parameters.add(new ParameterSetOperation(
+                    PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, parameter}));
+            query.getParametersList().add(parameters);
+        }
+        return query;
+    }
+}
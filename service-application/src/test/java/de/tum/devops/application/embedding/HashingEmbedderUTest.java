@@ -0,0 +1,62 @@
+package de.tum.devops.application.embedding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HashingEmbedder}.
+ */
+class HashingEmbedderUTest {
+
+    private final HashingEmbedder embedder = new HashingEmbedder(384);
+
+    @Test
+    void vectorsAreNormalisedAndDeterministic() {
+        float[] vector = embedder.embed("Senior Java developer with Spring Boot and PostgreSQL");
+
+        assertEquals(384, vector.length);
+        assertEquals(1.0, norm(vector), 1e-5);
+        assertArrayEquals(vector, new HashingEmbedder(384).embed("Senior Java developer with Spring Boot and PostgreSQL"));
+    }
+
+    @Test
+    void sharedVocabularyIsCloser() {
+        float[] job = embedder.embed("Backend engineer: Java, Spring Boot, PostgreSQL, Kubernetes");
+        float[] backend = embedder.embed("Five years of Java and Spring Boot services on Kubernetes with PostgreSQL");
+        float[] design = embedder.embed("Product designer, Figma prototypes and user research interviews");
+
+        assertTrue(cosine(job, backend) > cosine(job, design) + 0.2,
+                cosine(job, backend) + " vs " + cosine(job, design));
+    }
+
+    @Test
+    void ignoresCaseAndStopWords() {
+        assertArrayEquals(embedder.embed("java developer"), embedder.embed("The JAVA developer"));
+    }
+
+    @Test
+    void textWithoutWordsEmbedsToZero() {
+        float[] vector = embedder.embed(" -- ... the and ");
+
+        assertEquals(0.0, norm(vector));
+    }
+
+    @Test
+    void modelNamesDimensions() {
+        assertNotEquals(embedder.model(), new HashingEmbedder(256).model());
+        assertThrows(IllegalArgumentException.class, () -> new HashingEmbedder(0));
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    private static double norm(float[] vector) {
+        return Math.sqrt(cosine(vector, vector));
+    }
+}
@@ -0,0 +1,118 @@
+package de.tum.devops.application.persistence;
+
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Asserts via Hibernate statistics that loading applications costs a constant number of statements,
+ * independent of how many rows carry an assessment and a chat session.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ApplicationFetchITest extends AbstractPostgresITest {
+
+    private static final int APPLICATIONS = 12;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final UUID jobId = UUID.randomUUID();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        applicationRepository.deleteAll();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applicationRepository.save(newApplicationWithRelations(jobId));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfApplicationsIsOneSelectPlusCount() {
+        Page<Application> page = applicationRepository.findAll(PageRequest.of(0, 5, Sort.Direction.DESC, "submittedAt"));
+        touchRelations(page.getContent());
+
+        assertEquals(5, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void listByJobIsOneSelect() {
+        List<Application> applications = applicationRepository.findByJobIdOrderBySubmittedAtDesc(jobId);
+        touchRelations(applications);
+
+        assertEquals(APPLICATIONS, applications.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void applicationsWithChatSessionsIsOneSelect() {
+        List<Application> applications = applicationRepository.findApplicationsWithChatSessions();
+        touchRelations(applications);
+
+        assertEquals(APPLICATIONS, applications.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void singleApplicationIsOneSelect() {
+        UUID applicationId = applicationRepository.findByJobIdOrderBySubmittedAtDesc(jobId).get(0).getApplicationId();
+        entityManager.clear();
+        statistics.clear();
+
+        Application application = applicationRepository.findById(applicationId).orElseThrow();
+        touchRelations(List.of(application));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static void touchRelations(List<Application> applications) {
+        for (Application application : applications) {
+            assertNotNull(application.getAssessment().getAssessmentId());
+            assertNotNull(application.getChatSession().getStatus());
+        }
+    }
+
+    private static Application newApplicationWithRelations(UUID jobId) {
+        Application application = new Application(UUID.randomUUID(), jobId, "Resume text", "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        Assessment assessment = new Assessment(application);
+        assessment.setAssessmentId(UUID.randomUUID());
+        application.setAssessment(assessment);
+        ChatSession session = new ChatSession(application);
+        session.setSessionId(UUID.randomUUID());
+        application.setChatSession(session);
+        return application;
+    }
+}
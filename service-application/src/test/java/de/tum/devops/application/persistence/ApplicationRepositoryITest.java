@@ -0,0 +1,106 @@
+package de.tum.devops.application.persistence;
+
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.ChatStatus;
+import de.tum.devops.application.persistence.projection.ApplicationSummary;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ApplicationSummary} list projections of {@link ApplicationRepository}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ApplicationRepositoryITest extends AbstractPostgresITest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.Direction.DESC, "submittedAt");
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID candidateId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        applicationRepository.deleteAll();
+    }
+
+    @Test
+    void summariesCarryChatStatusAndAssessment() {
+        Application application = newApplication(jobId, candidateId);
+        Assessment assessment = new Assessment(application);
+        assessment.setAssessmentId(UUID.randomUUID());
+        assessment.setResumeScore(81.5f);
+        application.setAssessment(assessment);
+        ChatSession session = new ChatSession(application);
+        session.setSessionId(UUID.randomUUID());
+        application.setChatSession(session);
+        applicationRepository.saveAndFlush(application);
+        applicationRepository.saveAndFlush(newApplication(jobId, UUID.randomUUID()));
+
+        Page<ApplicationSummary> page = applicationRepository.findSummariesByJobId(jobId, FIRST_PAGE);
+
+        assertEquals(2, page.getTotalElements());
+        ApplicationSummary withRelations = page.getContent().stream()
+                .filter(s -> s.applicationId().equals(application.getApplicationId()))
+                .findFirst().orElseThrow();
+        assertEquals(ChatStatus.ACTIVE, withRelations.chatStatus());
+        assertEquals(assessment.getAssessmentId(), withRelations.assessmentId());
+        assertEquals(81.5f, withRelations.resumeScore());
+
+        ApplicationSummary bare = page.getContent().stream()
+                .filter(s -> !s.applicationId().equals(application.getApplicationId()))
+                .findFirst().orElseThrow();
+        assertNull(bare.chatStatus());
+        assertNull(bare.assessmentId());
+    }
+
+    @Test
+    void summariesApplyFiltersAndPaging() {
+        UUID otherJob = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            applicationRepository.save(newApplication(jobId, candidateId));
+        }
+        Application screened = newApplication(otherJob, candidateId);
+        screened.setStatus(ApplicationStatus.AI_SCREENING);
+        applicationRepository.save(screened);
+        applicationRepository.save(newApplication(otherJob, UUID.randomUUID()));
+        applicationRepository.flush();
+
+        assertEquals(5, applicationRepository.findSummaries(FIRST_PAGE).getTotalElements());
+        assertEquals(4, applicationRepository.findSummariesByCandidateId(candidateId, FIRST_PAGE).getTotalElements());
+        assertEquals(1, applicationRepository.findSummariesByStatus(ApplicationStatus.AI_SCREENING, FIRST_PAGE).getTotalElements());
+        assertEquals(1, applicationRepository.findSummariesByJobIdAndStatus(otherJob, ApplicationStatus.SUBMITTED, FIRST_PAGE).getTotalElements());
+        assertEquals(3, applicationRepository.findSummariesByCandidateIdAndJobId(candidateId, jobId, FIRST_PAGE).getTotalElements());
+        assertEquals(1, applicationRepository.findSummariesByCandidateIdAndStatus(candidateId, ApplicationStatus.AI_SCREENING, FIRST_PAGE).getTotalElements());
+        assertEquals(1, applicationRepository.findSummariesByCandidateIdAndJobIdAndStatus(candidateId, otherJob, ApplicationStatus.AI_SCREENING, FIRST_PAGE).getTotalElements());
+
+        Page<ApplicationSummary> secondPage = applicationRepository.findSummaries(PageRequest.of(1, 2, Sort.Direction.DESC, "submittedAt"));
+        assertEquals(3, secondPage.getTotalPages());
+        List<ApplicationSummary> content = secondPage.getContent();
+        assertEquals(2, content.size());
+        assertFalse(content.get(0).submittedAt().isBefore(content.get(1).submittedAt()));
+    }
+
+    private static Application newApplication(UUID jobId, UUID candidateId) {
+        Application application = new Application(candidateId, jobId, "Resume text ".repeat(2_000), "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        return application;
+    }
+}
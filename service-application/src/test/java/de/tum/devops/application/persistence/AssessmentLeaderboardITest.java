@@ -0,0 +1,115 @@
+package de.tum.devops.application.persistence;
+
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.projection.LeaderboardEntry;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.AssessmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-job leaderboard queries of {@link AssessmentRepository} and the partial index behind them.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AssessmentLeaderboardITest extends AbstractPostgresITest {
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID otherJobId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM assessments WHERE job_id IN (?, ?)", jobId, otherJobId);
+        jdbcTemplate.update("DELETE FROM applications WHERE job_id IN (?, ?)", jobId, otherJobId);
+    }
+
+    @Test
+    void ranksFullyScoredAssessmentsOfOneJob() {
+        UUID best = save(jobId, 90f, 95f);
+        UUID second = save(jobId, 70f, 80f);
+        UUID third = save(jobId, 99f, 40f);
+        save(jobId, 100f, null);
+        save(otherJobId, 100f, 100f);
+
+        List<LeaderboardEntry> top = assessmentRepository.findLeaderboard(jobId, Limit.of(10));
+
+        assertEquals(List.of(best, second, third), top.stream().map(LeaderboardEntry::applicationId).toList());
+        assertEquals(185f, top.get(0).overallScore());
+        assertEquals(2, assessmentRepository.findLeaderboard(jobId, Limit.of(2)).size());
+
+        List<LeaderboardEntry> above = assessmentRepository.findTopPerformers(jobId, 70f, Limit.of(10));
+        assertEquals(List.of(best, second), above.stream().map(LeaderboardEntry::applicationId).toList());
+    }
+
+    @Test
+    void copiesJobIdFromApplication() {
+        UUID applicationId = save(jobId, 50f, 50f);
+
+        assertEquals(jobId, assessmentRepository.findByApplicationApplicationId(applicationId).orElseThrow().getJobId());
+    }
+
+    @Test
+    void topKReadsThePartialIndexWithoutSorting() {
+        jdbcTemplate.update("""
+                WITH app AS (
+                    INSERT INTO applications (application_id, job_id, candidate_id, resume_text)
+                    SELECT uuid_generate_v4(), CASE WHEN i % 10 = 0 THEN ?::uuid ELSE ?::uuid END, uuid_generate_v4(), 'Resume'
+                    FROM generate_series(1, 20000) i
+                    RETURNING application_id, job_id)
+                INSERT INTO assessments (application_id, job_id, resume_score, interview_score)
+                SELECT application_id, job_id, random() * 100, CASE WHEN random() < 0.2 THEN NULL ELSE random() * 100 END
+                FROM app""", jobId, otherJobId);
+        jdbcTemplate.execute("ANALYZE assessments");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT a.assessment_id, ap.application_id, ap.candidate_id, a.resume_score, a.interview_score
+                FROM assessments a JOIN applications ap ON ap.application_id = a.application_id
+                WHERE a.job_id = ? AND a.resume_score IS NOT NULL AND a.interview_score IS NOT NULL
+                ORDER BY (a.resume_score + a.interview_score) DESC, a.assessment_id
+                LIMIT 10""", String.class, jobId));
+
+        assertTrue(plan.contains("idx_ass_job_rank"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+
+        List<LeaderboardEntry> top = assessmentRepository.findLeaderboard(jobId, Limit.of(10));
+        assertEquals(10, top.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).overallScore() >= top.get(i).overallScore());
+        }
+    }
+
+    private UUID save(UUID jobId, Float resumeScore, Float interviewScore) {
+        Application application = new Application(UUID.randomUUID(), jobId, "Resume text", "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        Assessment assessment = new Assessment(application);
+        assessment.setAssessmentId(UUID.randomUUID());
+        assessment.setResumeScore(resumeScore);
+        assessment.setInterviewScore(interviewScore);
+        application.setAssessment(assessment);
+        applicationRepository.save(application);
+        return application.getApplicationId();
+    }
+}
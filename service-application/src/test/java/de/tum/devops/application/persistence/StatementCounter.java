@@ -0,0 +1,164 @@
+package de.tum.devops.application.persistence;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts what the application sends to the database: SQL statements (every row of a JDBC batch counts
+ * as one), round-trips (one per execute / executeBatch call) and commits, plus how often and for how long
+ * connections are checked out of the pool.
+ * <p>
+ * Import {@link Config} into a test context to wrap the datasource.
+ */
+public class StatementCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger selects = new AtomicInteger();
+    private final AtomicInteger inserts = new AtomicInteger();
+    private final AtomicInteger updates = new AtomicInteger();
+    private final AtomicInteger deletes = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong connectionHoldNanos = new AtomicLong();
+    private final Map<String, Long> checkedOutAt = new ConcurrentHashMap<>();
+
+    public void reset() {
+        List.of(statements, roundTrips, commits, selects, inserts, updates, deletes, connections).forEach(c -> c.set(0));
+        connectionHoldNanos.set(0);
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public int roundTrips() {
+        return roundTrips.get();
+    }
+
+    public int commits() {
+        return commits.get();
+    }
+
+    public int selects() {
+        return selects.get();
+    }
+
+    public int inserts() {
+        return inserts.get();
+    }
+
+    public int updates() {
+        return updates.get();
+    }
+
+    /**
+     * Connections checked out of the pool and returned again.
+     */
+    public int connections() {
+        return connections.get();
+    }
+
+    /**
+     * Total time between checkout and close over all returned connections.
+     */
+    public long connectionHoldMillis() {
+        return connectionHoldNanos.get() / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d statements (%d select, %d insert, %d update, %d delete) in %d round-trips, %d commits, "
+                        + "%d connections held %d ms",
+                statements(), selects(), inserts(), updates(), deletes.get(), roundTrips(), commits(),
+                connections(), connectionHoldMillis());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        roundTrips.incrementAndGet();
+        for (QueryInfo query : queryInfoList) {
+            // A prepared batch is one QueryInfo with one parameter set per row
+            int rows = execInfo.isBatch() ? Math.max(1, query.getParametersList().size()) : 1;
+            statements.addAndGet(rows);
+            String sql = query.getQuery().stripLeading().toLowerCase(Locale.ROOT);
+            if (sql.startsWith("select") || sql.startsWith("with")) {
+                selects.addAndGet(rows);
+            } else if (sql.startsWith("insert")) {
+                inserts.addAndGet(rows);
+            } else if (sql.startsWith("update")) {
+                updates.addAndGet(rows);
+            } else if (sql.startsWith("delete")) {
+                deletes.addAndGet(rows);
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        String method = executionContext.getMethod().getName();
+        if (executionContext.getTarget() instanceof DataSource && "getConnection".equals(method)) {
+            checkedOutAt.put(executionContext.getConnectionInfo().getConnectionId(), System.nanoTime());
+        } else if (executionContext.getTarget() instanceof Connection && "close".equals(method)) {
+            Long start = checkedOutAt.remove(executionContext.getConnectionInfo().getConnectionId());
+            if (start != null) {
+                connections.incrementAndGet();
+                connectionHoldNanos.addAndGet(System.nanoTime() - start);
+            }
+        } else if (executionContext.getTarget() instanceof Connection && "commit".equals(method)) {
+            commits.incrementAndGet();
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        public static BeanPostProcessor statementCountingDataSource(ObjectProvider<StatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        StatementCounter listener = counter.getObject();
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .listener(listener)
+                                .methodListener(listener)
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
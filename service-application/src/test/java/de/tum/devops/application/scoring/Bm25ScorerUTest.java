@@ -0,0 +1,64 @@
+package de.tum.devops.application.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Bm25Scorer}.
+ */
+class Bm25ScorerUTest {
+
+    private static final String REQUIREMENTS = """
+            - Experience with Java and Spring Boot
+            - Experience with PostgreSQL
+            - Kubernetes, Docker
+            """;
+
+    private final Bm25Scorer scorer = new Bm25Scorer(1.2f, 0.75f, 20);
+
+    @Test
+    void coverageOfRequirementsRaisesScore() {
+        Bm25Scorer.Query query = scorer.compile(REQUIREMENTS);
+
+        float full = query.score("Java developer: Spring Boot services on PostgreSQL, shipped with Docker to Kubernetes");
+        float partial = query.score("Java developer building Spring Boot services for an online shop team");
+        float none = query.score("Product designer creating Figma prototypes and running user research sessions");
+
+        assertTrue(full > partial, full + " vs " + partial);
+        assertTrue(partial > none, partial + " vs " + none);
+        assertEquals(0f, none);
+        assertTrue(full <= 100f);
+    }
+
+    @Test
+    void termsInEveryRequirementWeighLess() {
+        Bm25Scorer.Query query = scorer.compile("Experience with Java; experience with Go; experience with Rust");
+
+        assertTrue(query.score("rust") > query.score("experience"));
+    }
+
+    @Test
+    void repeatingATermDoesNotExceedItsWeight() {
+        Bm25Scorer.Query query = scorer.compile("Java, Kubernetes");
+
+        float once = query.score("java");
+        float stuffed = query.score("java ".repeat(50));
+
+        assertEquals(once, query.score("java java"), 1e-4);
+        assertTrue(stuffed <= once, stuffed + " vs " + once);
+    }
+
+    @Test
+    void requirementsWithoutTermsCompileToEmptyQuery() {
+        assertEquals(0, scorer.compile(null).size());
+        assertEquals(0, scorer.compile(" - , ; the and ").size());
+        assertEquals(0f, scorer.compile("").score("Java"));
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new Bm25Scorer(1.2f, 1.5f, 400));
+        assertThrows(IllegalArgumentException.class, () -> new Bm25Scorer(1.2f, 0.75f, 0));
+    }
+}
@@ -0,0 +1,140 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.dto.ApplicationSearchResultDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Search benchmark on a synthetic resume corpus: latency of the first and of a deep keyset page for rare,
+ * common and phrase queries, globally and within one job.
+ * <p>
+ * The corpus has {@code search.benchmark.corpus} resumes (default 20,000; run with
+ * {@code -PsearchCorpus=1000000} for the full benchmark) drawn from a skewed skill vocabulary, so
+ * the first skills appear in most resumes and the last ones in a few hundred.
+ * Not part of {@code test}, run with {@code gradle :service-application:benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationSearchService.class, ReadOnlyTransactionConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationSearchBenchmarkITest extends AbstractPostgresITest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSearchBenchmarkITest.class);
+
+    private static final int CORPUS = Integer.getInteger("search.benchmark.corpus", 20_000);
+    private static final int JOBS = 100;
+    private static final int RUNS = 7;
+
+    private static final String SKILLS = "'{java,python,sql,docker,kubernetes,spring,react,typescript,aws,terraform,"
+            + "kafka,golang,rust,scala,graphql,postgres,redis,elasticsearch,airflow,spark,flink,haskell,erlang,cobol,"
+            + "fortran,prolog,ocaml,elixir,clojure,zig}'";
+
+    @Autowired
+    private ApplicationSearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID[] jobIds = new UUID[JOBS];
+
+    @BeforeAll
+    void seedCorpus() {
+        for (int i = 0; i < JOBS; i++) {
+            jobIds[i] = UUID.randomUUID();
+        }
+        long start = System.nanoTime();
+        // skills are drawn geometrically: java lands in most resumes, the last ones in under one percent
+        jdbcTemplate.update("""
+                INSERT INTO applications (application_id, job_id, candidate_id, status, resume_text)
+                SELECT uuid_generate_v4(), (?::uuid[])[1 + mod(i, ?)], uuid_generate_v4(), 'SUBMITTED',
+                       'Software engineer with ' || (mod(i, 15) + 1) || ' years of experience. Skills: ' ||
+                       (SELECT string_agg(s.skills[least(array_length(s.skills, 1), 1 + floor(-ln(1 - random()) * 4)::int)], ', ')
+                        FROM generate_series(1, 10 + mod(i, 5)) g, (SELECT %s::text[] AS skills) s) ||
+                       '. Worked on distributed systems, code reviews and on-call rotations in agile teams.'
+                FROM generate_series(1, ?) i""".formatted(SKILLS), jobIds, JOBS, CORPUS);
+        jdbcTemplate.execute("ANALYZE applications");
+        logger.info("Seeded {} resumes in {} ms", CORPUS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void dropCorpus() {
+        jdbcTemplate.update("DELETE FROM applications WHERE job_id = ANY(?::uuid[])", (Object) jobIds);
+    }
+
+    @Test
+    void searchUsesTheGinIndex() {
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT application_id FROM applications WHERE search_vector @@ websearch_to_tsquery('english', 'zig')",
+                String.class));
+
+        assertTrue(plan.contains("idx_app_search"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void benchmarkQueries() {
+        for (String query : new String[]{"zig", "haskell or erlang", "kafka", "java", "\"distributed systems\" rust"}) {
+            measure(query, null);
+            measure(query, jobIds[0]);
+        }
+    }
+
+    private void measure(String query, UUID jobId) {
+        ApplicationSearchResultDto first = searchService.search(query, jobId, 20, null);
+        assertEquals(first.getNextCursor() == null, first.getHits().size() < 20);
+
+        long[] firstPage = new long[RUNS];
+        long[] deepPage = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            ApplicationSearchResultDto page = searchService.search(query, jobId, 20, null);
+            firstPage[run] = System.nanoTime() - start;
+
+            String cursor = page.getNextCursor();
+            for (int p = 0; p < 4 && cursor != null; p++) {
+                page = searchService.search(query, jobId, 20, cursor);
+                cursor = page.getNextCursor();
+            }
+            start = System.nanoTime();
+            if (cursor != null) {
+                searchService.search(query, jobId, 20, cursor);
+            }
+            deepPage[run] = System.nanoTime() - start;
+        }
+        Long matches = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM applications WHERE search_vector @@ websearch_to_tsquery('english', ?)"
+                        + (jobId == null ? "" : " AND job_id = '" + jobId + "'"),
+                Long.class, query);
+        logger.info("corpus={} query='{}' scope={} matches={} first page p50={} ms, page 6 p50={} ms",
+                CORPUS, query, jobId == null ? "all" : "job", matches, median(firstPage), median(deepPage));
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return Math.round(sorted[sorted.length / 2] / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,132 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.dto.ApplicationSearchHitDto;
+import de.tum.devops.application.dto.ApplicationSearchResultDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ApplicationSearchService} on the generated {@code search_vector} column.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationSearchService.class, ReadOnlyTransactionConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationSearchServiceITest extends AbstractPostgresITest {
+
+    @Autowired
+    private ApplicationSearchService searchService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID otherJobId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM applications WHERE job_id IN (?, ?)", jobId, otherJobId);
+    }
+
+    @Test
+    void ranksHrCommentsAboveResumeAndScopesByJob() {
+        UUID resumeOnly = save(jobId, "Backend developer with Kubernetes and Go experience", null);
+        UUID commented = save(jobId, "Backend developer", "Strong Kubernetes operator background");
+        save(jobId, "Frontend developer with React", null);
+        UUID otherJob = save(otherJobId, "Kubernetes administrator", null);
+
+        List<ApplicationSearchHitDto> hits = searchService.search("kubernetes", jobId, 10, null).getHits();
+
+        assertEquals(List.of(commented, resumeOnly), hits.stream().map(ApplicationSearchHitDto::getApplicationId).toList());
+        assertTrue(hits.get(0).getRank() > hits.get(1).getRank());
+        assertEquals("Strong <mark>Kubernetes</mark> operator background", hits.get(0).getHrCommentsSnippet());
+        assertNull(hits.get(1).getHrCommentsSnippet());
+
+        List<UUID> everywhere = searchService.search("kubernetes", null, 10, null).getHits().stream()
+                .map(ApplicationSearchHitDto::getApplicationId).toList();
+        assertTrue(everywhere.containsAll(List.of(commented, resumeOnly, otherJob)));
+    }
+
+    @Test
+    void supportsWebSearchSyntax() {
+        UUID goAndRust = save(jobId, "Systems programmer: Go and Rust", null);
+        save(jobId, "Systems programmer: Go and Java", null);
+
+        List<ApplicationSearchHitDto> hits = searchService.search("go -java", jobId, 10, null).getHits();
+
+        assertEquals(List.of(goAndRust), hits.stream().map(ApplicationSearchHitDto::getApplicationId).toList());
+    }
+
+    @Test
+    void keysetPagesCoverAllMatchesOnce() {
+        for (int i = 0; i < 25; i++) {
+            save(jobId, "Java developer " + "with Spring ".repeat(i % 5) + "number " + i, i % 3 == 0 ? "Java" : null);
+        }
+        save(jobId, "Python developer", null);
+
+        Set<UUID> seen = new HashSet<>();
+        List<Float> ranks = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApplicationSearchResultDto page = searchService.search("java", jobId, 10, cursor);
+            for (ApplicationSearchHitDto hit : page.getHits()) {
+                assertTrue(seen.add(hit.getApplicationId()), "duplicate " + hit.getApplicationId());
+                ranks.add(hit.getRank());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(25, seen.size());
+        assertEquals(3, pages);
+        for (int i = 1; i < ranks.size(); i++) {
+            assertTrue(ranks.get(i - 1) >= ranks.get(i));
+        }
+    }
+
+    @Test
+    void snippetsAreEscaped() {
+        save(jobId, "Knows <script>alert('x')</script> and Java", null);
+
+        String snippet = searchService.search("java", jobId, 10, null).getHits().get(0).getResumeSnippet();
+
+        assertFalse(snippet.contains("<script>"), snippet);
+        assertTrue(snippet.contains("<mark>Java</mark>"), snippet);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("java", jobId, 10, "not-a-cursor"));
+    }
+
+    private UUID save(UUID jobId, String resumeText, String hrComments) {
+        Application application = new Application(UUID.randomUUID(), jobId, resumeText, "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        application.setHrComments(hrComments);
+        applicationRepository.save(application);
+        return application.getApplicationId();
+    }
+}
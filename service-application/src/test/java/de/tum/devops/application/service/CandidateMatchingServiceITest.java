@@ -0,0 +1,179 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.EmbeddingConfig;
+import de.tum.devops.application.config.EmbeddingProperties;
+import de.tum.devops.application.dto.CandidateMatchDto;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.dto.JobMatchDto;
+import de.tum.devops.application.dto.JobStatus;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link CandidateMatchingService} on the pgvector tables, with the default hashing embedder.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CandidateMatchingService.class, ReadOnlyTransactionConfig.class, EmbeddingConfig.class, EmbeddingProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CandidateMatchingServiceITest extends AbstractPostgresITest {
+
+    @Autowired
+    private CandidateMatchingService matchingService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private JobWebClient jobWebClient;
+
+    private final Map<UUID, JobDto> jobs = new HashMap<>();
+    private final UUID backendJob = UUID.randomUUID();
+    private final UUID designJob = UUID.randomUUID();
+    private final UUID dataJob = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        job(backendJob, "Backend Engineer", "Java, Spring Boot and PostgreSQL services on Kubernetes", JobStatus.OPEN);
+        job(designJob, "Product Designer", "Figma prototypes, user research and design systems", JobStatus.OPEN);
+        job(dataJob, "Data Engineer", "Spark and Airflow pipelines, Java or Python, PostgreSQL", JobStatus.CLOSED);
+        when(jobWebClient.fetchJob(any())).thenAnswer(inv -> Mono.justOrEmpty(jobs.get(inv.<UUID>getArgument(0))));
+    }
+
+    @AfterEach
+    void cleanup() {
+        List<UUID> jobIds = List.copyOf(jobs.keySet());
+        for (UUID jobId : jobIds) {
+            jdbcTemplate.update("DELETE FROM application_embeddings WHERE job_id = ?", jobId);
+            jdbcTemplate.update("DELETE FROM job_embeddings WHERE job_id = ?", jobId);
+            jdbcTemplate.update("DELETE FROM applications WHERE job_id = ?", jobId);
+        }
+    }
+
+    @Test
+    void ranksResumesByJobSimilarity() {
+        UUID backend = index(backendJob, UUID.randomUUID(), "Java and Spring Boot developer, PostgreSQL, Kubernetes");
+        UUID design = index(backendJob, UUID.randomUUID(), "Designer with Figma and user research");
+        UUID elsewhere = index(designJob, UUID.randomUUID(), "Spring Boot Java engineer");
+
+        List<CandidateMatchDto> applied = matchingService.findCandidatesForJob(backendJob, 10, true);
+        assertEquals(List.of(backend, design), applied.stream().map(CandidateMatchDto::getApplicationId).toList());
+        assertTrue(applied.get(0).getSimilarity() > applied.get(1).getSimilarity());
+
+        List<UUID> all = matchingService.findCandidatesForJob(backendJob, 2, false).stream()
+                .map(CandidateMatchDto::getApplicationId).toList();
+        assertEquals(List.of(backend, elsewhere), all);
+    }
+
+    @Test
+    void suggestsOpenJobsNotAppliedTo() {
+        UUID candidate = UUID.randomUUID();
+        index(designJob, candidate, "Java developer, Spring Boot, PostgreSQL and Kubernetes; some Figma");
+        index(dataJob, UUID.randomUUID(), "Spark pipelines");
+
+        List<JobMatchDto> matches = matchingService.findSimilarJobsForCandidate(candidate, 5);
+
+        // designJob was applied to and dataJob is closed
+        assertEquals(List.of(backendJob), matches.stream().map(m -> m.getJob().getJobId()).toList());
+    }
+
+    @Test
+    void closedJobIsDroppedAndItsStatusCached() {
+        UUID candidate = UUID.randomUUID();
+        index(designJob, candidate, "Java developer, Spring Boot, PostgreSQL and Kubernetes");
+        index(backendJob, UUID.randomUUID(), "Java developer");
+        jobs.get(backendJob).setStatus(JobStatus.CLOSED);
+
+        assertTrue(matchingService.findSimilarJobsForCandidate(candidate, 5).isEmpty());
+        assertEquals("CLOSED", jdbcTemplate.queryForObject(
+                "SELECT status FROM job_embeddings WHERE job_id = ?", String.class, backendJob));
+
+        // Once when indexed and once when suggested, later suggestions skip it on the cached status
+        matchingService.findSimilarJobsForCandidate(candidate, 5);
+        verify(jobWebClient, times(2)).fetchJob(backendJob);
+    }
+
+    @Test
+    void candidateWithoutEmbeddingGetsNoSuggestions() {
+        UUID candidate = UUID.randomUUID();
+        index(backendJob, UUID.randomUUID(), "Java developer");
+        index(designJob, candidate, "");
+
+        assertTrue(matchingService.findSimilarJobsForCandidate(candidate, 5).isEmpty());
+    }
+
+    @Test
+    void jobWithoutEmbeddingHasNoCandidates() {
+        UUID emptyJob = UUID.randomUUID();
+        job(emptyJob, "", "", JobStatus.OPEN);
+        index(backendJob, UUID.randomUUID(), "Java developer");
+
+        assertTrue(matchingService.findCandidatesForJob(emptyJob, 10, false).isEmpty());
+    }
+
+    @Test
+    void reembedsJobOnlyWhenTextChanges() {
+        index(backendJob, UUID.randomUUID(), "Java developer");
+        String hash = jobHash();
+        index(backendJob, UUID.randomUUID(), "Kotlin developer");
+        assertEquals(hash, jobHash());
+
+        jobs.get(backendJob).setRequirements("Go and gRPC");
+        index(backendJob, UUID.randomUUID(), "Go developer");
+        assertNotEquals(hash, jobHash());
+    }
+
+    @Test
+    void unknownJobIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> matchingService.findCandidatesForJob(UUID.randomUUID(), 10, true));
+    }
+
+    private UUID index(UUID jobId, UUID candidateId, String resumeText) {
+        Application application = new Application(candidateId, jobId, resumeText, "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        applicationRepository.save(application);
+        matchingService.indexApplication(application.getApplicationId());
+        return application.getApplicationId();
+    }
+
+    private String jobHash() {
+        return jdbcTemplate.queryForObject("SELECT content_hash FROM job_embeddings WHERE job_id = ?", String.class, backendJob);
+    }
+
+    private void job(UUID jobId, String title, String description, JobStatus status) {
+        JobDto job = new JobDto();
+        job.setJobId(jobId);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setRequirements("");
+        job.setStatus(status);
+        jobs.put(jobId, job);
+    }
+}
@@ -0,0 +1,135 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ChatArchiveProperties;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.ChatMessage;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.application.persistence.enums.MessageSender;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import de.tum.devops.application.persistence.repository.ChatSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ChatMessageArchiver} and for {@link ChatMessageRepository} reads spanning live and
+ * archived messages.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChatMessageArchiver.class, ChatArchiveProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageArchiverITest extends AbstractPostgresITest {
+
+    @Autowired
+    private ChatMessageArchiver archiver;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        archiver.createPartitions();
+        archiver.archiveCompletedSessions(); // leftovers of other tests
+    }
+
+    @Test
+    void completedSessionsAreArchivedAndStillReadable() {
+        ChatSession archived = sessionWithMessages(3);
+        ChatSession active = sessionWithMessages(2);
+        ChatSession recentlyCompleted = sessionWithMessages(2);
+        chatSessionRepository.completeIfActive(archived.getSessionId(), 0, LocalDateTime.now().minusDays(40));
+        chatSessionRepository.completeIfActive(recentlyCompleted.getSessionId(), 0, LocalDateTime.now().minusDays(1));
+        List<ChatMessage> before = chatMessageRepository.findBySessionIdOrderBySentAtAsc(archived.getSessionId());
+
+        assertEquals(1, archiver.archiveCompletedSessions());
+
+        assertEquals(0, liveMessages(archived.getSessionId()));
+        assertEquals(2, liveMessages(active.getSessionId()));
+        assertEquals(2, liveMessages(recentlyCompleted.getSessionId()));
+
+        List<ChatMessage> after = chatMessageRepository.findBySessionIdOrderBySentAtAsc(archived.getSessionId());
+        assertEquals(before.stream().map(ChatMessage::getMessageId).toList(), after.stream().map(ChatMessage::getMessageId).toList());
+        assertEquals(before.stream().map(ChatMessage::getContent).toList(), after.stream().map(ChatMessage::getContent).toList());
+
+        UUID applicationId = archived.getApplication().getApplicationId();
+        Page<ChatMessage> page = chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId, PageRequest.of(1, 2));
+        assertEquals(3, page.getTotalElements());
+        assertEquals(before.get(2).getMessageId(), page.getContent().getFirst().getMessageId());
+        assertEquals(2, chatMessageRepository.countBySessionIdAndSender(archived.getSessionId(), MessageSender.AI));
+        assertEquals(before.get(2).getMessageId(),
+                chatMessageRepository.findFirstBySessionSessionIdOrderBySentAtDesc(archived.getSessionId()).getMessageId());
+
+        assertEquals(0, archiver.archiveCompletedSessions());
+    }
+
+    @Test
+    void messagesLandInMonthlyPartition() {
+        ChatSession session = sessionWithMessages(1);
+
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM chat_messages WHERE session_id = ?", String.class, session.getSessionId());
+        assertEquals(ChatMessageArchiver.partitionName(YearMonth.now()), partition);
+    }
+
+    @Test
+    void emptyPastPartitionsAreDropped() {
+        YearMonth past = YearMonth.now().minusYears(5);
+        archiver.createPartition(past);
+
+        assertTrue(archiver.dropEmptyPartitions(YearMonth.now()) >= 1);
+
+        assertFalse(partitionExists(ChatMessageArchiver.partitionName(past)));
+        assertTrue(partitionExists(ChatMessageArchiver.partitionName(YearMonth.now())));
+    }
+
+    private ChatSession sessionWithMessages(int count) {
+        Application application = new Application(UUID.randomUUID(), UUID.randomUUID(), "Resume text", "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        ChatSession session = new ChatSession(application);
+        session.setSessionId(UUID.randomUUID());
+        application.setChatSession(session);
+        applicationRepository.saveAndFlush(application);
+
+        for (int i = 0; i < count; i++) {
+            ChatMessage message = new ChatMessage(session, i % 2 == 0 ? MessageSender.AI : MessageSender.CANDIDATE, "Message " + i);
+            message.setMessageId(UUID.randomUUID());
+            chatMessageRepository.saveAndFlush(message);
+        }
+        return session;
+    }
+
+    private long liveMessages(UUID sessionId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM chat_messages WHERE session_id = ?", Long.class, sessionId);
+    }
+
+    private boolean partitionExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+}
@@ -0,0 +1,141 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ChatStreamProperties;
+import de.tum.devops.application.dto.ChatMessageDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ChatStreamRegistry} with emitters that record the events sent to them.
+ */
+class ChatStreamRegistryUTest {
+
+    private final ChatStreamProperties properties = new ChatStreamProperties();
+    private final ChatStreamRegistry registry = new ChatStreamRegistry(properties);
+    private final UUID sessionId = UUID.randomUUID();
+
+    @Test
+    void chunksGetSequentialIdsAndStreamEndFollows() {
+        RecordingEmitter client = new RecordingEmitter();
+        ChatStreamRegistry.ChatStream stream = registry.start(sessionId);
+        stream.attach(client, null);
+
+        stream.chunk("Hello");
+        stream.chunk("there");
+        stream.complete(new ChatMessageDto(sessionId, null, stream.content()));
+
+        assertEquals(List.of("1:message-chunk:Hello", "2:message-chunk:there", "3:stream-end:Hellothere"),
+                client.events);
+        assertEquals("Hellothere", stream.content());
+        assertTrue(client.completed);
+    }
+
+    @Test
+    void reconnectResumesAfterLastEventIdWhileGenerationContinues() {
+        RecordingEmitter first = new RecordingEmitter();
+        ChatStreamRegistry.ChatStream stream = registry.start(sessionId);
+        stream.attach(first, null);
+        stream.chunk("a");
+        first.disconnected = true;
+        stream.chunk("b");
+        stream.chunk("c");
+
+        RecordingEmitter second = new RecordingEmitter();
+        registry.find(sessionId).orElseThrow().attach(second, first.lastId);
+        stream.chunk("d");
+
+        assertEquals(List.of("2:message-chunk:b", "3:message-chunk:c", "4:message-chunk:d"), second.events);
+        assertEquals("abcd", stream.content());
+    }
+
+    @Test
+    void evictedChunksAreReplacedBySnapshot() {
+        properties.setBufferBytes(2);
+        RecordingEmitter first = new RecordingEmitter();
+        ChatStreamRegistry.ChatStream stream = registry.start(sessionId);
+        stream.attach(first, null);
+        stream.chunk("a");
+        first.disconnected = true;
+        stream.chunk("b");
+        stream.chunk("c");
+        stream.chunk("d");
+
+        RecordingEmitter second = new RecordingEmitter();
+        stream.attach(second, first.lastId);
+
+        assertEquals(List.of("4:message-snapshot:abcd"), second.events);
+    }
+
+    @Test
+    void idOfAnotherStreamReplaysFromTheStart() {
+        ChatStreamRegistry.ChatStream stream = registry.start(sessionId);
+        stream.chunk("x");
+
+        RecordingEmitter client = new RecordingEmitter();
+        stream.attach(client, "old-7");
+
+        assertEquals(List.of("1:message-chunk:x"), client.events);
+    }
+
+    @Test
+    void finishedStreamIsResumableUntilRetentionPassed() {
+        ChatStreamRegistry.ChatStream stream = registry.start(sessionId);
+        stream.chunk("x");
+        stream.fail("AI unavailable", null);
+
+        RecordingEmitter client = new RecordingEmitter();
+        registry.find(sessionId).orElseThrow().attach(client, null);
+        assertEquals(List.of("2:error:AI unavailable"), client.events);
+        assertTrue(client.completed);
+
+        properties.setRetention(Duration.ZERO);
+        assertTrue(registry.find(sessionId).isEmpty());
+    }
+
+    /**
+     * Renders events as {@code <seq>:<name>:<data>}; fails sends once disconnected
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new ArrayList<>();
+        String lastId;
+        boolean disconnected;
+        boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                text.append(data instanceof ChatMessageDto dto ? dto.getContent() : data);
+            }
+            String id = text.substring(3, text.indexOf("\n"));
+            String name = text.substring(text.indexOf("event:") + 6, text.indexOf("\n", text.indexOf("event:")));
+            String data = text.substring(text.indexOf("data:") + 5).strip();
+            lastId = id;
+            events.add(id.substring(id.lastIndexOf('-') + 1) + ":" + name + ":" + data);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+}
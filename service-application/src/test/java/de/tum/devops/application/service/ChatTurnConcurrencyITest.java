@@ -0,0 +1,159 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.AuthWebClient;
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.ChatStreamProperties;
+import de.tum.devops.application.dto.ApplicationDto;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.dto.JobStatus;
+import de.tum.devops.application.dto.UserDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.ChatStatus;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.ChatSessionRepository;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs chat turns on one session from several threads at once. The message counter must not lose
+ * increments and the interview must be completed by exactly one of the racing turns.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadOnlyTransactionConfig.class, ApplicationService.class, ChatService.class, ChatTurnWriter.class, ChatStreamRegistry.class,
+        ChatStreamProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatTurnConcurrencyITest extends AbstractPostgresITest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ChatTurnWriter chatTurnWriter;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @MockitoBean
+    private JobWebClient jobWebClient;
+
+    @MockitoBean
+    private AuthWebClient authWebClient;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoBean
+    private DocumentTextExtractorService documentTextExtractorService;
+
+    @MockitoBean
+    private AIIntegrationService aiIntegrationService;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID candidateId = UUID.randomUUID();
+
+    private UUID applicationId;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        UserDto hr = new UserDto();
+        hr.setUserId(UUID.randomUUID());
+        JobDto job = new JobDto();
+        job.setJobId(jobId);
+        job.setStatus(JobStatus.OPEN);
+        job.setHrCreator(hr);
+        when(jobWebClient.fetchJob(any())).thenAnswer(inv -> Mono.just(job));
+        when(authWebClient.fetchUser(any())).thenAnswer(inv -> Mono.just(hr));
+        when(documentTextExtractorService.extractText(any())).thenReturn("Resume text");
+        when(fileStorageService.store(any(), anyString())).thenReturn("resume.pdf");
+
+        ApplicationDto application = applicationService.submitApplication(jobId, candidateId,
+                new MockMultipartFile("file", "resume.pdf", "application/pdf", new byte[]{1, 2, 3}));
+        applicationId = application.getApplicationId();
+        sessionId = chatTurnWriter.createOrGetSession(applicationId, candidateId).getSessionId();
+    }
+
+    @Test
+    void concurrentAiMessagesAreAllCounted() throws Exception {
+        runConcurrently(() -> chatTurnWriter.saveAiMessage(sessionId, "Question"));
+
+        assertEquals(THREADS, chatSessionRepository.findById(sessionId).orElseThrow().getMessageCount());
+    }
+
+    @Test
+    void concurrentTurnsCompleteInterviewOnce() throws Exception {
+        chatTurnWriter.saveAiMessage(sessionId, "Tell me about yourself");
+        chatTurnWriter.saveAiMessage(sessionId, "What was your last project?");
+
+        List<ChatTurnWriter.PreparedTurn> turns = runConcurrently(
+                () -> chatTurnWriter.prepareTurn(sessionId, "Answer", candidateId));
+
+        assertEquals(1, turns.stream().filter(ChatTurnWriter.PreparedTurn::interviewCompleted).count());
+        turns.forEach(turn -> assertEquals(ChatStatus.COMPLETE, turn.status()));
+        ChatSession session = chatSessionRepository.findById(sessionId).orElseThrow();
+        assertEquals(ChatStatus.COMPLETE, session.getStatus());
+        assertEquals(ApplicationStatus.COMPLETED, applicationRepository.findById(applicationId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void completingTwiceReportsOnlyTheFirstCall() {
+        assertTrue(chatTurnWriter.completeInterview(sessionId, applicationId));
+        assertFalse(chatTurnWriter.completeInterview(sessionId, applicationId));
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package de.tum.devops.application.service;
 
 import de.tum.devops.application.config.FileStorageProperties;
+import de.tum.devops.application.storage.FileSystemBlobStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -29,7 +30,7 @@ class FileStorageServiceUTest {
         Mockito.when(props.getUploadDir()).thenReturn(tempDir.toString());
         Mockito.when(props.getMaxFileSize()).thenReturn(1024L); // 1 KiB for convenience
 
-        service = new FileStorageService(props);
+        service = new FileStorageService(props, new FileSystemBlobStore(tempDir));
     }
 
     @Test
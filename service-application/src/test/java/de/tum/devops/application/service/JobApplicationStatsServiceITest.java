@@ -0,0 +1,162 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.dto.JobApplicationStatsDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.enums.ApplicationStatus;
+import de.tum.devops.application.persistence.enums.DecisionEnum;
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.AssessmentRepository;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the trigger-maintained {@code job_application_stats} counters and their reconciliation.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobApplicationStatsService.class, ReadOnlyTransactionConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobApplicationStatsServiceITest extends AbstractPostgresITest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private JobApplicationStatsService statsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM assessments WHERE job_id = ?", jobId);
+        jdbcTemplate.update("DELETE FROM applications WHERE job_id = ?", jobId);
+        jdbcTemplate.update("DELETE FROM job_application_stats WHERE job_id = ?", jobId);
+    }
+
+    @Test
+    void countersFollowSubmitStatusDecisionAndScoring() {
+        Application first = submit();
+        Application second = submit();
+        submit();
+
+        applicationRepository.transitionStatus(first.getApplicationId(), EnumSet.of(ApplicationStatus.SUBMITTED),
+                ApplicationStatus.COMPLETED, LocalDateTime.now());
+        Application decided = applicationRepository.findById(second.getApplicationId()).orElseThrow();
+        decided.setHrDecision(DecisionEnum.SHORTLISTED);
+        applicationRepository.save(decided);
+        Assessment assessment = assessmentRepository.findByApplicationApplicationId(first.getApplicationId()).orElseThrow();
+        assessment.setResumeScore(100f);
+        assessment.setInterviewScore(42.5f);
+        assessment.setRecommendation(RecommendationEnum.CONSIDER);
+        assessmentRepository.save(assessment);
+
+        JobApplicationStatsDto stats = statsService.getStats(jobId);
+
+        assertEquals(3, stats.getTotalApplications());
+        assertEquals(2, stats.getStatusCounts().get("SUBMITTED"));
+        assertEquals(1, stats.getStatusCounts().get("COMPLETED"));
+        assertEquals(0, stats.getStatusCounts().get("AI_INTERVIEW"));
+        assertEquals(1, stats.getDecisionCounts().get("SHORTLISTED"));
+        assertEquals(2, stats.getDecisionCounts().get(JobApplicationStatsService.NONE));
+        assertEquals(1, stats.getRecommendationCounts().get("CONSIDER"));
+        assertEquals(1, stats.getResumeScoreHistogram().get("90"));
+        assertEquals(1, stats.getInterviewScoreHistogram().get("40"));
+        assertEquals(2, stats.getInterviewScoreHistogram().get(JobApplicationStatsService.NONE));
+        assertEquals(0, drift());
+    }
+
+    @Test
+    void concurrentWritersDoNotLoseCounts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS * 5; i++) {
+                futures.add(executor.submit(() -> {
+                    Application application = submit();
+                    applicationRepository.transitionStatus(application.getApplicationId(),
+                            EnumSet.of(ApplicationStatus.SUBMITTED), ApplicationStatus.AI_SCREENING, LocalDateTime.now());
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        JobApplicationStatsDto stats = statsService.getStats(jobId);
+        assertEquals(THREADS * 5, stats.getTotalApplications());
+        assertEquals(THREADS * 5, stats.getStatusCounts().get("AI_SCREENING"));
+        assertEquals(0, stats.getStatusCounts().get("SUBMITTED"));
+        assertEquals(0, drift());
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        submit();
+        submit();
+        jdbcTemplate.update("UPDATE job_application_stats SET count = 42 WHERE job_id = ? AND dimension = 'total'", jobId);
+        jdbcTemplate.update("DELETE FROM job_application_stats WHERE job_id = ? AND dimension = 'status'", jobId);
+        jdbcTemplate.update("INSERT INTO job_application_stats VALUES (?, 'decision', 'HIRED', 7)", jobId);
+
+        assertEquals(3, statsService.reconcile());
+
+        JobApplicationStatsDto stats = statsService.getStats(jobId);
+        assertEquals(2, stats.getTotalApplications());
+        assertEquals(2, stats.getStatusCounts().get("SUBMITTED"));
+        assertEquals(0, stats.getDecisionCounts().get("HIRED"));
+        assertEquals(0, statsService.reconcile());
+    }
+
+    private Application submit() {
+        Application application = new Application(UUID.randomUUID(), jobId, "Resume text", "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        application.setStatus(ApplicationStatus.SUBMITTED);
+        Assessment assessment = new Assessment(application);
+        assessment.setAssessmentId(UUID.randomUUID());
+        application.setAssessment(assessment);
+        return applicationRepository.save(application);
+    }
+
+    private long drift() {
+        Long drift = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM (
+                    (SELECT dimension, bucket, count FROM job_application_stats WHERE job_id = ? AND count <> 0
+                     EXCEPT SELECT dimension, bucket, count FROM job_application_stats_expected WHERE job_id = ?)
+                    UNION ALL
+                    (SELECT dimension, bucket, count FROM job_application_stats_expected WHERE job_id = ?
+                     EXCEPT SELECT dimension, bucket, count FROM job_application_stats WHERE job_id = ?)) d""",
+                Long.class, jobId, jobId, jobId, jobId);
+        return drift == null ? 0 : drift;
+    }
+}
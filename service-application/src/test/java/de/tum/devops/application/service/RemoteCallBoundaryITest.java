@@ -0,0 +1,214 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.AIServiceGrpcClient;
+import de.tum.devops.application.client.AuthWebClient;
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.ChatStreamProperties;
+import de.tum.devops.application.config.RemoteCallGuard;
+import de.tum.devops.application.config.ResumePreScreenProperties;
+import de.tum.devops.application.config.ScoringRetryProperties;
+import de.tum.devops.application.dto.ApplicationDto;
+import de.tum.devops.application.dto.AssessmentDto;
+import de.tum.devops.application.dto.ChatInitializationDto;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.dto.JobStatus;
+import de.tum.devops.application.dto.UserDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.enums.DecisionEnum;
+import de.tum.devops.application.persistence.enums.RecommendationEnum;
+import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import de.tum.devops.grpc.ai.InterviewSessionStart;
+import de.tum.devops.grpc.ai.ScoreInterviewResponse;
+import de.tum.devops.grpc.ai.ScoreResumeResponse;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the service paths that call the job, auth and gen-ai services with a {@link RemoteCallGuard} in
+ * {@code fail} mode behind every mocked client, so any remote call made while a JDBC connection is
+ * checked out fails the test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadOnlyTransactionConfig.class, ApplicationService.class, ChatService.class, ChatTurnWriter.class, AIIntegrationService.class,
+        ResumePreScreener.class, ResumePreScreenProperties.class, ScoreMemoizer.class, ScoringRetryQueue.class,
+        ScoringRetryProperties.class, ChatStreamRegistry.class, ChatStreamProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RemoteCallBoundaryITest extends AbstractPostgresITest {
+
+    private final RemoteCallGuard guard = new RemoteCallGuard(RemoteCallGuard.Mode.FAIL);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private AIIntegrationService aiIntegrationService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @MockitoBean
+    private JobWebClient jobWebClient;
+
+    @MockitoBean
+    private AuthWebClient authWebClient;
+
+    @MockitoBean
+    private AIServiceGrpcClient aiServiceClient;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoBean
+    private DocumentTextExtractorService documentTextExtractorService;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID candidateId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        UserDto hr = new UserDto();
+        hr.setUserId(UUID.randomUUID());
+        JobDto job = new JobDto();
+        job.setJobId(jobId);
+        job.setTitle("Backend Engineer");
+        job.setDescription("Build services");
+        job.setRequirements("Java");
+        job.setStatus(JobStatus.OPEN);
+        job.setHrCreator(hr);
+
+        when(jobWebClient.fetchJob(any())).thenAnswer(inv -> Mono.fromCallable(() -> {
+            guard.check("job-service");
+            return job;
+        }));
+        when(authWebClient.fetchUser(any())).thenAnswer(inv -> Mono.fromCallable(() -> {
+            guard.check("auth-service");
+            return hr;
+        }));
+        when(documentTextExtractorService.extractText(any())).thenReturn("Resume text");
+        when(fileStorageService.store(any(), anyString())).thenReturn("resume.pdf");
+
+        when(aiServiceClient.getChatReply(anyString(), anyString(), anyString(), anyString(), anyList()))
+                .thenAnswer(inv -> {
+                    guard.check("gen-ai");
+                    return "Tell me about yourself";
+                });
+        when(aiServiceClient.scoreResume(anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> {
+                    guard.check("gen-ai");
+                    return ScoreResumeResponse.newBuilder().setResumeScore(80).setComment("Solid").build();
+                });
+        when(aiServiceClient.scoreInterview(anyString(), anyString(), anyString(), anyList()))
+                .thenAnswer(inv -> {
+                    guard.check("gen-ai");
+                    return ScoreInterviewResponse.newBuilder().setInterviewScore(70).setComment("Fine").build();
+                });
+        when(aiServiceClient.convertToGrpcChatMessage(any()))
+                .thenReturn(de.tum.devops.grpc.ai.ChatMessage.getDefaultInstance());
+        when(aiServiceClient.convertToRecommendationEnum(any())).thenReturn(RecommendationEnum.RECOMMEND);
+        doAnswer(inv -> {
+            // The context is loaded only when a new interview stream needs it
+            Supplier<InterviewSessionStart> context = inv.getArgument(3);
+            context.get();
+            guard.check("gen-ai");
+            StreamObserver<ChatReplyResponse> observer = inv.getArgument(4);
+            observer.onNext(ChatReplyResponse.newBuilder().setAiMessage("What was your last project?").build());
+            observer.onCompleted();
+            return null;
+        }).when(aiServiceClient).interviewReplyStream(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void applicationReadsAndWrites() {
+        ApplicationDto submitted = applicationService.submitApplication(jobId, candidateId, resume());
+
+        assertEquals(1, applicationService.getApplications(0, 10, jobId, null, "HR", null).getTotalElements());
+        ApplicationDto detail = applicationService.getApplicationById(submitted.getApplicationId(), "HR", null);
+        assertNotNull(detail.getJob());
+        ApplicationDto updated = applicationService.updateApplication(submitted.getApplicationId(),
+                DecisionEnum.SHORTLISTED, "Welcome", UUID.randomUUID());
+        assertNotNull(updated.getCandidate());
+    }
+
+    @Test
+    void chatTurnAndScoring() {
+        ApplicationDto submitted = applicationService.submitApplication(jobId, candidateId, resume());
+        UUID applicationId = submitted.getApplicationId();
+
+        Assessment resumeAssessment = aiIntegrationService.scoreResumeSync(applicationId, false);
+        assertEquals(applicationId, new AssessmentDto(resumeAssessment).getApplicationId());
+
+        ChatInitializationDto chat = chatService.initiateChatSession(applicationId, candidateId);
+        assertEquals(1, chat.getSession().getMessageCount());
+
+        chatService.addCandidateMessageAndGetAiResponseStream(chat.getSession().getSessionId(), "I build APIs",
+                candidateId, new SseEmitter());
+        assertEquals(3, chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId).size());
+
+        Assessment interviewAssessment = aiIntegrationService.scoreInterviewSync(applicationId, false);
+        assertEquals(70f, interviewAssessment.getInterviewScore());
+        assertEquals(80f, interviewAssessment.getResumeScore());
+    }
+
+    @Test
+    void initializationReadsPregeneratedOpeningQuestion() throws InterruptedException {
+        ApplicationDto submitted = applicationService.submitApplication(jobId, candidateId, resume());
+        UUID applicationId = submitted.getApplicationId();
+
+        chatService.pregenerateOpeningQuestion(applicationId, candidateId);
+        // @EnableAsync of the application applies here, so the pre-generation runs in the background
+        for (int i = 0; i < 50 && chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId).isEmpty(); i++) {
+            Thread.sleep(100);
+        }
+        ChatInitializationDto chat = chatService.initiateChatSession(applicationId, candidateId);
+
+        assertEquals(1, chat.getSession().getMessageCount());
+        assertEquals("Tell me about yourself", chat.getInitialMessage().getContent());
+        assertEquals(1, chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId).size());
+        verify(aiServiceClient, times(1)).getChatReply(anyString(), anyString(), anyString(), anyString(), anyList());
+    }
+
+    @Test
+    void streamedInitializationStoresOpeningQuestion() {
+        ApplicationDto submitted = applicationService.submitApplication(jobId, candidateId, resume());
+        UUID applicationId = submitted.getApplicationId();
+
+        chatService.initiateChatSessionStream(applicationId, candidateId, new SseEmitter());
+        ChatInitializationDto chat = chatService.initiateChatSession(applicationId, candidateId);
+
+        assertEquals(1, chat.getSession().getMessageCount());
+        assertEquals("What was your last project?", chat.getInitialMessage().getContent());
+        assertEquals(1, chatMessageRepository.findByApplicationIdOrderBySentAtAsc(applicationId).size());
+    }
+
+    private static MockMultipartFile resume() {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", new byte[]{1, 2, 3});
+    }
+}
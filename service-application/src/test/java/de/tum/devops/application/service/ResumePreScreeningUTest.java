@@ -0,0 +1,112 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.AIServiceGrpcClient;
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.ResumePreScreenProperties;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.entity.Assessment;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.persistence.repository.AssessmentRepository;
+import de.tum.devops.application.persistence.repository.ChatMessageRepository;
+import de.tum.devops.application.persistence.repository.ChatSessionRepository;
+import de.tum.devops.grpc.ai.ScoreResumeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the pre-screen gate in front of LLM resume scoring in {@link AIIntegrationService}.
+ */
+class ResumePreScreeningUTest {
+
+    private final AIServiceGrpcClient aiServiceClient = mock(AIServiceGrpcClient.class);
+    private final JobWebClient jobWebClient = mock(JobWebClient.class);
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final AssessmentRepository assessmentRepository = mock(AssessmentRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final UUID jobId = UUID.randomUUID();
+
+    private AIIntegrationService service;
+
+    @BeforeEach
+    void setup() {
+        ResumePreScreenProperties properties = new ResumePreScreenProperties();
+        properties.setThreshold(20);
+        service = new AIIntegrationService(aiServiceClient, jobWebClient, applicationRepository, assessmentRepository,
+                mock(ChatSessionRepository.class), mock(ChatMessageRepository.class), transactionTemplate,
+                new ResumePreScreener(properties), new ScoreMemoizer(mock(JdbcTemplate.class)),
+                mock(ScoringRetryQueue.class));
+
+        JobDto job = new JobDto();
+        job.setJobId(jobId);
+        job.setTitle("Backend Engineer");
+        job.setDescription("Build services");
+        job.setRequirements("Java, Spring Boot, PostgreSQL, Kubernetes");
+        when(jobWebClient.fetchJob(jobId)).thenReturn(Mono.just(job));
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(assessmentRepository.findByApplicationApplicationId(any())).thenReturn(Optional.empty());
+        when(assessmentRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(aiServiceClient.scoreResume(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(ScoreResumeResponse.newBuilder().setResumeScore(75).setComment("Good fit").build());
+    }
+
+    @Test
+    void unrelatedResumeSkipsLlm() {
+        UUID applicationId = application("Pastry chef, sourdough and laminated doughs");
+
+        service.scoreResumeAsync(applicationId);
+
+        verify(aiServiceClient, never()).scoreResume(anyString(), anyString(), anyString(), anyString());
+        Assessment assessment = savedAssessment();
+        assertEquals(0f, assessment.getPreScore());
+        assertNull(assessment.getResumeScore());
+    }
+
+    @Test
+    void relevantResumeIsScoredByLlm() {
+        UUID applicationId = application("Java and Spring Boot developer running PostgreSQL on Kubernetes");
+
+        service.scoreResumeAsync(applicationId);
+
+        Assessment assessment = savedAssessment();
+        assertTrue(assessment.getPreScore() >= 20, String.valueOf(assessment.getPreScore()));
+        assertEquals(75f, assessment.getResumeScore());
+    }
+
+    @Test
+    void explicitScoringIgnoresThreshold() {
+        UUID applicationId = application("Pastry chef, sourdough and laminated doughs");
+
+        Assessment assessment = service.scoreResumeSync(applicationId, false);
+
+        assertEquals(0f, assessment.getPreScore());
+        assertEquals(75f, assessment.getResumeScore());
+    }
+
+    private UUID application(String resumeText) {
+        Application application = new Application(UUID.randomUUID(), jobId, resumeText, "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        when(applicationRepository.findById(application.getApplicationId())).thenReturn(Optional.of(application));
+        return application.getApplicationId();
+    }
+
+    private Assessment savedAssessment() {
+        ArgumentCaptor<Assessment> captor = ArgumentCaptor.forClass(Assessment.class);
+        verify(assessmentRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
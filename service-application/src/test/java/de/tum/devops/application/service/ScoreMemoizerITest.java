@@ -0,0 +1,126 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.grpc.ai.ScoreResumeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ScoreMemoizer} against the {@code score_memos} table.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ScoreMemoizer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScoreMemoizerITest extends AbstractPostgresITest {
+
+    @Autowired
+    private ScoreMemoizer memoizer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String jobHash = ScoreMemoizer.hash("Backend Engineer", UUID.randomUUID().toString(), "Java");
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM score_memos WHERE job_hash = ?", jobHash);
+    }
+
+    @Test
+    void storedResponseIsReusedUntilForced() {
+        String resume = ScoreMemoizer.hash("Java developer");
+
+        assertEquals(1, score(resume, false).getResumeScore());
+        assertEquals(1, score(resume, false).getResumeScore());
+        assertEquals(1, calls.get());
+
+        assertEquals(2, score(resume, true).getResumeScore());
+        assertEquals(2, score(resume, false).getResumeScore());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void changedInputIsScoredAgain() {
+        score(ScoreMemoizer.hash("Java developer"), false);
+        score(ScoreMemoizer.hash("Go developer"), false);
+
+        assertEquals(2, calls.get());
+        assertNotEquals(ScoreMemoizer.hash("a", "bc"), ScoreMemoizer.hash("ab", "c"));
+    }
+
+    @Test
+    void concurrentRequestsShareOneCall() throws Exception {
+        String resume = ScoreMemoizer.hash("Kotlin developer");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ScoreResumeResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> memoizer.memoize(ScoreMemoizer.Kind.RESUME, jobHash, resume, false,
+                        ScoreResumeResponse.parser(), () -> {
+                            await(release);
+                            return response(calls.incrementAndGet());
+                        })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<ScoreResumeResponse> result : results) {
+                assertEquals(1, result.get(10, TimeUnit.SECONDS).getResumeScore());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void failedCallIsNotStored() {
+        String resume = ScoreMemoizer.hash("Rust developer");
+
+        assertThrows(IllegalStateException.class, () -> memoizer.memoize(ScoreMemoizer.Kind.RESUME, jobHash, resume,
+                false, ScoreResumeResponse.parser(), () -> {
+                    throw new IllegalStateException("gen-ai unavailable");
+                }));
+
+        assertEquals(1, score(resume, false).getResumeScore());
+    }
+
+    private ScoreResumeResponse score(String resumeHash, boolean force) {
+        return memoizer.memoize(ScoreMemoizer.Kind.RESUME, jobHash, resumeHash, force, ScoreResumeResponse.parser(),
+                () -> response(calls.incrementAndGet()));
+    }
+
+    private static ScoreResumeResponse response(int score) {
+        return ScoreResumeResponse.newBuilder().setResumeScore(score).setComment("call " + score).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
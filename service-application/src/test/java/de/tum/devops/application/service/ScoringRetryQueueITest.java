@@ -0,0 +1,144 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ScoringRetryProperties;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.entity.Application;
+import de.tum.devops.application.persistence.repository.ApplicationRepository;
+import de.tum.devops.application.service.ScoringRetryQueue.Kind;
+import de.tum.devops.application.service.ScoringRetryQueue.Retry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ScoringRetryQueue} against the {@code scoring_retries} table.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ScoringRetryQueue.class, ScoringRetryProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScoringRetryQueueITest extends AbstractPostgresITest {
+
+    @Autowired
+    private ScoringRetryQueue queue;
+
+    @Autowired
+    private ScoringRetryProperties properties;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM applications WHERE job_id = ?", jobId);
+    }
+
+    @Test
+    void parkedRetryIsClaimedOnceDueAndLeased() {
+        UUID applicationId = save();
+        queue.park(applicationId, Kind.RESUME, "UNAVAILABLE");
+
+        assertTrue(queue.claim().isEmpty());
+
+        makeDue(applicationId);
+        assertEquals(Optional.of(new Retry(applicationId, Kind.RESUME, 1, 0)), queue.claim());
+        assertTrue(queue.claim().isEmpty());
+
+        queue.complete(applicationId, Kind.RESUME);
+        assertEquals(0, count(applicationId));
+    }
+
+    @Test
+    void repeatedParksBackOffExponentiallyUpToMaxDelay() {
+        properties.setMaxDelay(Duration.ofSeconds(100));
+        try {
+            UUID applicationId = save();
+            queue.park(applicationId, Kind.INTERVIEW, "UNAVAILABLE");
+            assertEquals(30, secondsUntilNextAttempt(applicationId), 2);
+            queue.park(applicationId, Kind.INTERVIEW, "UNAVAILABLE");
+            assertEquals(60, secondsUntilNextAttempt(applicationId), 2);
+            queue.park(applicationId, Kind.INTERVIEW, "DEADLINE_EXCEEDED");
+            assertEquals(100, secondsUntilNextAttempt(applicationId), 2);
+
+            assertEquals("DEADLINE_EXCEEDED", jdbcTemplate.queryForObject(
+                    "SELECT last_error FROM scoring_retries WHERE application_id = ?", String.class, applicationId));
+        } finally {
+            properties.setMaxDelay(Duration.ofMinutes(30));
+        }
+    }
+
+    @Test
+    void onlyFailuresOtherThanAnUnavailableServiceAreCounted() {
+        UUID applicationId = save();
+        queue.park(applicationId, Kind.RESUME, "UNAVAILABLE");
+        queue.park(applicationId, Kind.RESUME, "UNAVAILABLE");
+        queue.parkFailed(applicationId, Kind.RESUME, "Failed to fetch job details");
+        makeDue(applicationId);
+
+        assertEquals(Optional.of(new Retry(applicationId, Kind.RESUME, 3, 1)), queue.claim());
+    }
+
+    @Test
+    void resumeAndInterviewRetriesAreSeparate() {
+        UUID applicationId = save();
+        queue.park(applicationId, Kind.RESUME, "UNAVAILABLE");
+        queue.park(applicationId, Kind.INTERVIEW, "UNAVAILABLE");
+        makeDue(applicationId);
+
+        Retry first = queue.claim().orElseThrow();
+        Retry second = queue.claim().orElseThrow();
+
+        assertNotEquals(first.kind(), second.kind());
+        assertEquals(1, second.attempts());
+    }
+
+    @Test
+    void deletingTheApplicationDropsItsRetries() {
+        UUID applicationId = save();
+        queue.park(applicationId, Kind.RESUME, "UNAVAILABLE");
+
+        applicationRepository.deleteById(applicationId);
+
+        assertEquals(0, count(applicationId));
+    }
+
+    private UUID save() {
+        Application application = new Application(UUID.randomUUID(), jobId, "Resume text", "resume.pdf");
+        application.setApplicationId(UUID.randomUUID());
+        applicationRepository.save(application);
+        return application.getApplicationId();
+    }
+
+    private void makeDue(UUID applicationId) {
+        jdbcTemplate.update("UPDATE scoring_retries SET next_attempt_at = now() - interval '1 second' WHERE application_id = ?",
+                applicationId);
+    }
+
+    private double secondsUntilNextAttempt(UUID applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT EXTRACT(EPOCH FROM next_attempt_at - now()) FROM scoring_retries WHERE application_id = ?",
+                Double.class, applicationId);
+    }
+
+    private int count(UUID applicationId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM scoring_retries WHERE application_id = ?",
+                Integer.class, applicationId);
+    }
+}
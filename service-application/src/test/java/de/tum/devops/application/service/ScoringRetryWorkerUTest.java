@@ -0,0 +1,86 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.config.ScoringRetryProperties;
+import de.tum.devops.application.exception.GenAiUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for how {@link ScoringRetryWorker} handles failed retries, with a mocked queue and scoring service.
+ */
+class ScoringRetryWorkerUTest {
+
+    private final ScoringRetryQueue retryQueue = mock(ScoringRetryQueue.class);
+    private final AIIntegrationService aiIntegrationService = mock(AIIntegrationService.class);
+    private final ScoringRetryProperties properties = new ScoringRetryProperties();
+    private final UUID applicationId = UUID.randomUUID();
+
+    private ScoringRetryWorker worker;
+
+    @BeforeEach
+    void setup() {
+        properties.setMaxAttempts(3);
+        worker = new ScoringRetryWorker(retryQueue, aiIntegrationService, properties);
+    }
+
+    @Test
+    void deletedApplicationIsDropped() {
+        claim(1);
+        when(aiIntegrationService.scoreResumeSync(applicationId, false))
+                .thenThrow(new IllegalArgumentException("Application not found"));
+
+        assertEquals(0, worker.retryDue());
+
+        verify(retryQueue).complete(applicationId, ScoringRetryQueue.Kind.RESUME);
+        verify(retryQueue, never()).parkFailed(any(), any(), anyString());
+    }
+
+    @Test
+    void otherFailureIsParkedAgain() {
+        claim(1);
+        when(aiIntegrationService.scoreResumeSync(applicationId, false))
+                .thenThrow(new IllegalStateException("Failed to fetch job details"));
+
+        worker.retryDue();
+
+        verify(retryQueue).parkFailed(applicationId, ScoringRetryQueue.Kind.RESUME, "Failed to fetch job details");
+        verify(retryQueue, never()).complete(any(), any());
+    }
+
+    @Test
+    void otherFailureIsGivenUpAfterMaxAttempts() {
+        claim(2);
+        when(aiIntegrationService.scoreResumeSync(applicationId, false))
+                .thenThrow(new IllegalStateException("Failed to fetch job details"));
+
+        worker.retryDue();
+
+        verify(retryQueue).complete(applicationId, ScoringRetryQueue.Kind.RESUME);
+        verify(retryQueue, never()).parkFailed(any(), any(), anyString());
+    }
+
+    @Test
+    void unavailableServiceStopsTheRunWithoutDropping() {
+        claim(5);
+        when(aiIntegrationService.scoreResumeSync(applicationId, false))
+                .thenThrow(new GenAiUnavailableException("Gen-ai service unavailable", null));
+
+        worker.retryDue();
+
+        verify(retryQueue, times(1)).claim();
+        verify(retryQueue, never()).complete(any(), any());
+    }
+
+    private void claim(int failures) {
+        when(retryQueue.claim())
+                .thenReturn(Optional.of(new ScoringRetryQueue.Retry(applicationId, ScoringRetryQueue.Kind.RESUME, 20, failures)))
+                .thenReturn(Optional.empty());
+    }
+}
@@ -0,0 +1,162 @@
+package de.tum.devops.application.service;
+
+import de.tum.devops.application.client.AuthWebClient;
+import de.tum.devops.application.client.JobWebClient;
+import de.tum.devops.application.config.ChatStreamProperties;
+import de.tum.devops.application.dto.ApplicationDto;
+import de.tum.devops.application.dto.JobDto;
+import de.tum.devops.application.dto.JobStatus;
+import de.tum.devops.application.dto.UserDto;
+import de.tum.devops.application.persistence.AbstractPostgresITest;
+import de.tum.devops.application.persistence.StatementCounter;
+import de.tum.devops.application.persistence.entity.ChatSession;
+import de.tum.devops.common.datasource.ReadOnlyTransactionConfig;
+import de.tum.devops.grpc.ai.ChatReplyResponse;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Write-path benchmark: SQL statements, round-trips, commits and connection checkouts per application
+ * submission and per chat turn, measured at the JDBC level. Each service call runs in its own transaction
+ * like in production.
+ * Not part of {@code test}, run with {@code gradle :service-application:benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadOnlyTransactionConfig.class, ApplicationService.class, ChatService.class, ChatTurnWriter.class, ChatStreamRegistry.class,
+        ChatStreamProperties.class, StatementCounter.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WritePathBenchmarkITest extends AbstractPostgresITest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WritePathBenchmarkITest.class);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatTurnWriter chatTurnWriter;
+
+    @Autowired
+    private StatementCounter counter;
+
+    @MockitoBean
+    private JobWebClient jobWebClient;
+
+    @MockitoBean
+    private AuthWebClient authWebClient;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoBean
+    private DocumentTextExtractorService documentTextExtractorService;
+
+    @MockitoBean
+    private AIIntegrationService aiIntegrationService;
+
+    private static final long AI_STREAM_MILLIS = 200;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        UserDto hr = new UserDto();
+        hr.setUserId(UUID.randomUUID());
+        JobDto job = new JobDto();
+        job.setJobId(jobId);
+        job.setStatus(JobStatus.OPEN);
+        job.setHrCreator(hr);
+        when(jobWebClient.fetchJob(any())).thenAnswer(inv -> Mono.just(job));
+        when(authWebClient.fetchUser(any())).thenAnswer(inv -> Mono.just(hr));
+        when(documentTextExtractorService.extractText(any())).thenReturn("Resume text ".repeat(500));
+        when(fileStorageService.store(any(), anyString())).thenReturn("resume.pdf");
+    }
+
+    @Test
+    void submission() {
+        UUID candidateId = UUID.randomUUID();
+
+        counter.reset();
+        applicationService.submitApplication(jobId, candidateId, resume());
+
+        logger.info("Per submission: {}", counter);
+        assertTrue(counter.roundTrips() <= 3, counter.toString());
+        assertTrue(counter.commits() <= 1, counter.toString());
+    }
+
+    @Test
+    void chatTurn() {
+        UUID candidateId = UUID.randomUUID();
+        ApplicationDto application = applicationService.submitApplication(jobId, candidateId, resume());
+        ChatSession session = chatService.createOrGetSession(application.getApplicationId(), candidateId);
+        // First turn moves the application to AI_INTERVIEW, measure a steady-state turn
+        chatTurnWriter.prepareTurn(session.getSessionId(), "Hello", candidateId);
+        chatTurnWriter.saveAiMessage(session.getSessionId(), "Tell me about yourself");
+
+        counter.reset();
+        chatTurnWriter.prepareTurn(session.getSessionId(), "I am a software engineer", candidateId);
+        chatTurnWriter.saveAiMessage(session.getSessionId(), "What was your last project?");
+
+        logger.info("Per chat turn: {}", counter);
+        assertTrue(counter.roundTrips() <= 4, counter.toString());
+        assertTrue(counter.commits() <= 2, counter.toString());
+    }
+
+    @Test
+    void chatTurnConnectionHold() {
+        UUID candidateId = UUID.randomUUID();
+        ApplicationDto application = applicationService.submitApplication(jobId, candidateId, resume());
+        ChatSession session = chatService.createOrGetSession(application.getApplicationId(), candidateId);
+        // The AI reply streams for 200 ms and completes on the calling thread, like a gRPC callback would
+        doAnswer(inv -> {
+            StreamObserver<ChatReplyResponse> observer = inv.getArgument(3);
+            Thread.sleep(AI_STREAM_MILLIS);
+            observer.onNext(ChatReplyResponse.newBuilder().setAiMessage("What was your last project?").build());
+            observer.onCompleted();
+            return null;
+        }).when(aiIntegrationService).processAndGetAIResponseStream(eq(session.getSessionId()), anyInt(), any(), any());
+
+        // First turn moves the application to AI_INTERVIEW, measure a steady-state turn
+        chatService.addCandidateMessageAndGetAiResponseStream(session.getSessionId(), "Hello", candidateId, new SseEmitter());
+
+        counter.reset();
+        chatService.addCandidateMessageAndGetAiResponseStream(session.getSessionId(), "I am a software engineer",
+                candidateId, new SseEmitter());
+
+        logger.info("Per streamed chat turn: {}", counter);
+        assertTrue(counter.connectionHoldMillis() < AI_STREAM_MILLIS, counter.toString());
+        assertTrue(counter.connections() <= 2, counter.toString());
+    }
+
+    private static MockMultipartFile resume() {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", new byte[]{1, 2, 3});
+    }
+}
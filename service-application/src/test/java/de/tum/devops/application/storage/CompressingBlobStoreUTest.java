@@ -0,0 +1,128 @@
+package de.tum.devops.application.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CompressingBlobStore} on top of a {@link FileSystemBlobStore}.
+ */
+class CompressingBlobStoreUTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemBlobStore backing;
+
+    @BeforeEach
+    void setup() throws IOException {
+        backing = new FileSystemBlobStore(tempDir);
+        backing.initialize();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BlobCodec.class, names = {"DEFLATE", "ZSTD"})
+    void compressibleFileRoundTrips(BlobCodec codec) throws IOException {
+        CompressingBlobStore store = new CompressingBlobStore(backing, codec, -1, 0.05);
+        byte[] data = resumeLikeText(20_000);
+
+        store.put("a.docx", new ByteArrayInputStream(data), data.length);
+
+        assertTrue(Files.size(tempDir.resolve("a.docx")) < data.length / 2);
+        assertEquals(data.length, store.size("a.docx"));
+        try (InputStream in = store.get("a.docx")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void rangeReadOnCompressedFile() throws IOException {
+        CompressingBlobStore store = new CompressingBlobStore(backing, BlobCodec.ZSTD, -1, 0.05);
+        byte[] data = resumeLikeText(50_000);
+        store.put("a.pdf", new ByteArrayInputStream(data), data.length);
+
+        try (InputStream in = store.getRange("a.pdf", 12_345, 1_000)) {
+            assertArrayEquals(Arrays.copyOfRange(data, 12_345, 13_345), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void incompressibleFileIsStoredRaw() throws IOException {
+        CompressingBlobStore store = new CompressingBlobStore(backing, BlobCodec.ZSTD, -1, 0.05);
+        byte[] data = new byte[10_000];
+        new Random(7).nextBytes(data);
+
+        store.put("scan.pdf", new ByteArrayInputStream(data), data.length);
+
+        assertArrayEquals(data, Files.readAllBytes(tempDir.resolve("scan.pdf")));
+        assertEquals(data.length, store.size("scan.pdf"));
+        try (InputStream in = store.getRange("scan.pdf", 100, 50)) {
+            assertArrayEquals(Arrays.copyOfRange(data, 100, 150), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void filesWrittenBeforeCompressionStayReadable() throws IOException {
+        byte[] data = resumeLikeText(5_000);
+        backing.put("legacy.pdf", new ByteArrayInputStream(data), data.length);
+
+        CompressingBlobStore store = new CompressingBlobStore(backing, BlobCodec.DEFLATE, -1, 0.05);
+
+        assertEquals(data.length, store.size("legacy.pdf"));
+        try (InputStream in = store.get("legacy.pdf")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void compressedFilesStayReadableAfterSwitchingCodec() throws IOException {
+        byte[] data = resumeLikeText(8_000);
+        new CompressingBlobStore(backing, BlobCodec.DEFLATE, -1, 0.05)
+                .put("a.doc", new ByteArrayInputStream(data), data.length);
+
+        CompressingBlobStore store = new CompressingBlobStore(backing, BlobCodec.ZSTD, -1, 0.05);
+        try (InputStream in = store.get("a.doc")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void compressedFilesStayReadableAfterDisablingCompression() throws IOException {
+        byte[] data = resumeLikeText(8_000);
+        new CompressingBlobStore(backing, BlobCodec.ZSTD, -1, 0.05)
+                .put("a.doc", new ByteArrayInputStream(data), data.length);
+
+        CompressingBlobStore store = new CompressingBlobStore(backing, BlobCodec.NONE, -1, 0.05);
+        assertEquals(data.length, store.size("a.doc"));
+        try (InputStream in = store.get("a.doc")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+
+        store.put("b.doc", new ByteArrayInputStream(data), data.length);
+        assertArrayEquals(data, Files.readAllBytes(tempDir.resolve("b.doc")));
+    }
+
+    private static byte[] resumeLikeText(int length) {
+        String[] words = {"Java", "Spring", "Kubernetes", "experience", "team", "project", "developed",
+                "University", "Munich", "Python", "years", "lead", "software", "engineer", "PostgreSQL"};
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(8) == 0 ? ".\n" : " ");
+        }
+        return sb.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,148 @@
+package de.tum.devops.application.storage;
+
+import de.tum.devops.application.service.DocumentTextExtractorService;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Measures the space/CPU tradeoff of the blob codecs on a directory of real resumes.
+ * <p>
+ * Run with {@code gradle :service-application:compressionReport -Pcorpus=/path/to/resumes}. Every
+ * .pdf/.doc/.docx file is measured as a stored blob and, after text extraction, as the
+ * {@code resume_text} value that ends up in the database.
+ */
+public final class CompressionReport {
+
+    private static final int ITERATIONS = 5;
+    // Postgres only compresses TOASTable values above ~2KB (TOAST_TUPLE_THRESHOLD)
+    private static final int TOAST_THRESHOLD = 2032;
+
+    private record Variant(BlobCodec codec, int level) {
+        @Override
+        public String toString() {
+            return codec == BlobCodec.NONE ? "none" : codec.name().toLowerCase(Locale.ROOT) + "-" + level;
+        }
+    }
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant(BlobCodec.NONE, 0),
+            new Variant(BlobCodec.DEFLATE, 1),
+            new Variant(BlobCodec.DEFLATE, 6),
+            new Variant(BlobCodec.DEFLATE, 9),
+            new Variant(BlobCodec.ZSTD, 1),
+            new Variant(BlobCodec.ZSTD, 3),
+            new Variant(BlobCodec.ZSTD, 9),
+            new Variant(BlobCodec.ZSTD, 19));
+
+    private CompressionReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path corpus = Paths.get(args.length > 0 ? args[0] : "corpus");
+        if (!Files.isDirectory(corpus)) {
+            System.err.println("Corpus directory not found: " + corpus.toAbsolutePath());
+            System.exit(1);
+        }
+
+        List<byte[]> blobs = new ArrayList<>();
+        List<byte[]> texts = new ArrayList<>();
+        DocumentTextExtractorService extractor = new DocumentTextExtractorService();
+        try (Stream<Path> files = Files.walk(corpus)) {
+            for (Path file : files.filter(Files::isRegularFile).filter(f -> extractor.isTextExtractionSupported(f.toString())).toList()) {
+                byte[] bytes = Files.readAllBytes(file);
+                blobs.add(bytes);
+                try {
+                    String text = extractor.extractText(new MockMultipartFile("file", file.getFileName().toString(), null, bytes));
+                    texts.add(text.getBytes(StandardCharsets.UTF_8));
+                } catch (RuntimeException e) {
+                    System.err.println("Skipping text of " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        if (blobs.isEmpty()) {
+            System.err.println("No .pdf/.doc/.docx files in " + corpus.toAbsolutePath());
+            System.exit(1);
+        }
+
+        long toastable = texts.stream().filter(t -> t.length > TOAST_THRESHOLD).count();
+        System.out.printf("Corpus: %s (%d files)%n%n", corpus.toAbsolutePath(), blobs.size());
+        report("Resume files (blob store)", blobs);
+        report("Extracted resume_text", texts);
+        System.out.printf("%d of %d texts exceed the %d byte TOAST threshold and get column compression in Postgres%n",
+                toastable, texts.size(), TOAST_THRESHOLD);
+    }
+
+    private static void report(String title, List<byte[]> samples) throws IOException {
+        long rawTotal = samples.stream().mapToLong(b -> b.length).sum();
+        System.out.printf("%s: %d items, %s raw%n", title, samples.size(), human(rawTotal));
+        System.out.printf("  %-10s %12s %8s %8s %12s %12s%n", "codec", "stored", "ratio", "kept", "comp MB/s", "decomp MB/s");
+
+        for (Variant variant : VARIANTS) {
+            long stored = 0;
+            int kept = 0;
+            long compressNanos = 0;
+            long decompressNanos = 0;
+            for (byte[] sample : samples) {
+                byte[] compressed = compress(variant, sample); // warm-up
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    compressed = compress(variant, sample);
+                    compressNanos += System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    decompress(variant, compressed);
+                    decompressNanos += System.nanoTime() - start;
+                }
+                // Mirrors CompressingBlobStore: keep raw bytes unless compression saves at least 5%
+                if (compressed.length + CompressingBlobStore.HEADER_SIZE <= sample.length * 0.95) {
+                    stored += compressed.length + CompressingBlobStore.HEADER_SIZE;
+                    kept++;
+                } else {
+                    stored += sample.length;
+                }
+            }
+            double mb = rawTotal * (double) ITERATIONS / (1024 * 1024);
+            System.out.printf("  %-10s %12s %7.1f%% %8d %12.1f %12.1f%n",
+                    variant, human(stored), 100.0 * stored / rawTotal, kept,
+                    mb / (compressNanos / 1e9), mb / (decompressNanos / 1e9));
+        }
+        System.out.println();
+    }
+
+    private static byte[] compress(Variant variant, byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (OutputStream compressed = variant.codec().compress(out, variant.level())) {
+            compressed.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static void decompress(Variant variant, byte[] data) throws IOException {
+        try (InputStream in = variant.codec().decompress(new ByteArrayInputStream(data))) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static String human(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
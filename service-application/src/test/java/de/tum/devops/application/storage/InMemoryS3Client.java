@@ -0,0 +1,151 @@
+package de.tum.devops.application.storage;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for an S3 endpoint covering the calls {@link S3BlobStore} makes.
+ * Keeps objects and pending multipart uploads in memory and records request counts for assertions.
+ */
+class InMemoryS3Client implements S3Client {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    final Set<String> buckets = ConcurrentHashMap.newKeySet();
+    final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+    int putObjectCalls;
+    int uploadPartCalls;
+    int abortCalls;
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        requireBucket(request.bucket());
+        putObjectCalls++;
+        objects.put(request.key(), readAll(body));
+        return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        requireBucket(request.bucket());
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new TreeMap<>());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).bucket(request.bucket()).key(request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        uploadPartCalls++;
+        SortedMap<Integer, byte[]> parts = uploads.get(request.uploadId());
+        if (parts == null) {
+            throw NoSuchUploadException.builder().message("No such upload").build();
+        }
+        parts.put(request.partNumber(), readAll(body));
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        SortedMap<Integer, byte[]> parts = uploads.remove(request.uploadId());
+        if (parts == null) {
+            throw NoSuchUploadException.builder().message("No such upload").build();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            out.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), out.toByteArray());
+        return CompleteMultipartUploadResponse.builder().bucket(request.bucket()).key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        abortCalls++;
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] data = objects.get(request.key());
+        if (data == null) {
+            throw NoSuchKeyException.builder().message("The specified key does not exist.").build();
+        }
+        int from = 0;
+        int to = data.length;
+        if (request.range() != null) {
+            ranges.add(request.range());
+            String[] bounds = request.range().substring("bytes=".length()).split("-");
+            from = Integer.parseInt(bounds[0]);
+            to = Math.min(data.length, Integer.parseInt(bounds[1]) + 1);
+        }
+        byte[] slice = Arrays.copyOfRange(data, from, to);
+        return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) slice.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(slice)));
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        byte[] data = objects.get(request.key());
+        if (data == null) {
+            // Real endpoints answer HEAD with a bare 404 and no error code
+            throw S3Exception.builder().statusCode(404)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorMessage("Not Found").build())
+                    .build();
+        }
+        return HeadObjectResponse.builder().contentLength((long) data.length).build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public HeadBucketResponse headBucket(HeadBucketRequest request) {
+        requireBucket(request.bucket());
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public CreateBucketResponse createBucket(CreateBucketRequest request) {
+        buckets.add(request.bucket());
+        return CreateBucketResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void requireBucket(String bucket) {
+        if (!buckets.contains(bucket)) {
+            throw NoSuchBucketException.builder().message("The specified bucket does not exist").build();
+        }
+    }
+
+    private static byte[] readAll(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
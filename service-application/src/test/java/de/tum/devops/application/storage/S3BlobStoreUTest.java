@@ -0,0 +1,113 @@
+package de.tum.devops.application.storage;
+
+import de.tum.devops.application.exception.FileNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link S3BlobStore} against the in-process {@link InMemoryS3Client} stand-in.
+ */
+class S3BlobStoreUTest {
+
+    private static final int PART_SIZE = S3BlobStore.MIN_PART_SIZE;
+
+    private InMemoryS3Client s3;
+    private S3BlobStore store;
+
+    @BeforeEach
+    void setup() throws IOException {
+        s3 = new InMemoryS3Client();
+        store = new S3BlobStore(s3, "resumes", "uploads/", PART_SIZE, true);
+        store.initialize();
+    }
+
+    @Test
+    void smallObjectUsesSinglePut() throws IOException {
+        byte[] data = "%PDF-1.7 small resume".getBytes();
+        store.put("a.pdf", new ByteArrayInputStream(data), data.length);
+
+        assertEquals(1, s3.putObjectCalls);
+        assertEquals(0, s3.uploadPartCalls);
+        assertArrayEquals(data, s3.objects.get("uploads/a.pdf"));
+        assertEquals(data.length, store.size("a.pdf"));
+    }
+
+    @Test
+    void largeObjectUsesMultipartUpload() throws IOException {
+        byte[] data = randomBytes(2 * PART_SIZE + 123);
+        store.put("big.pdf", new ByteArrayInputStream(data), data.length);
+
+        assertEquals(0, s3.putObjectCalls);
+        assertEquals(3, s3.uploadPartCalls);
+        assertTrue(s3.uploads.isEmpty());
+        try (InputStream in = store.get("big.pdf")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void unknownLengthUsesMultipartUpload() throws IOException {
+        byte[] data = randomBytes(1000);
+        store.put("unknown.pdf", new ByteArrayInputStream(data), -1);
+
+        assertEquals(1, s3.uploadPartCalls);
+        assertArrayEquals(data, s3.objects.get("uploads/unknown.pdf"));
+    }
+
+    @Test
+    void failedMultipartUploadIsAborted() {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("client went away");
+            }
+        };
+
+        assertThrows(IOException.class, () -> store.put("broken.pdf", failing, -1));
+        assertEquals(1, s3.abortCalls);
+        assertTrue(s3.uploads.isEmpty());
+        assertFalse(store.exists("broken.pdf"));
+    }
+
+    @Test
+    void rangeReadRequestsOnlyTheRange() throws IOException {
+        byte[] data = randomBytes(4096);
+        store.put("r.pdf", new ByteArrayInputStream(data), data.length);
+
+        try (InputStream in = store.getRange("r.pdf", 100, 50)) {
+            assertArrayEquals(Arrays.copyOfRange(data, 100, 150), in.readAllBytes());
+        }
+        assertEquals("bytes=100-149", s3.ranges.get(0));
+    }
+
+    @Test
+    void missingObjectIsReportedAsNotFound() throws IOException {
+        assertFalse(store.exists("missing.pdf"));
+        assertThrows(FileNotFoundException.class, () -> store.size("missing.pdf"));
+        assertThrows(FileNotFoundException.class, () -> store.get("missing.pdf"));
+
+        byte[] data = "x".getBytes();
+        store.put("gone.pdf", new ByteArrayInputStream(data), data.length);
+        store.delete("gone.pdf");
+        assertFalse(store.exists("gone.pdf"));
+    }
+
+    @Test
+    void pathTraversalKeyIsRejected() {
+        assertThrows(SecurityException.class, () -> store.get("../secret"));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,73 @@
+package de.tum.devops.auth.config;
+
+import de.tum.devops.auth.service.JwtService;
+import de.tum.devops.common.security.CachingJwtDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the resource server's {@link JwtDecoder}. Run with {@code gradle :service-auth:jmh}.
+ * <ul>
+ *     <li>{@code nimbus}: the plain decoder, one RSA verification per request</li>
+ *     <li>{@code cachedHit}: a repeat request served by {@link CachingJwtDecoder}</li>
+ *     <li>{@code cachedMiss}: first sight of a token, verification plus hashing and insertion</li>
+ * </ul>
+ * The difference between {@code nimbus} and {@code cachedHit} is the CPU saved per cached request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecoderCacheBenchmark {
+
+    private JwtDecoder nimbus;
+    private JwtDecoder caching;
+    private JwtDecoder nonRetaining;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtService jwtService = new JwtService(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()),
+                pem("PUBLIC KEY", keyPair.getPublic().getEncoded()), TimeUnit.HOURS.toMillis(1));
+        token = jwtService.generateAccessToken("alice@example.com", UUID.randomUUID(), "HR", "Alice");
+
+        nimbus = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        caching = new CachingJwtDecoder(nimbus, 10_000, Duration.ofMinutes(5), null);
+        // A zero TTL expires every entry on insert, so each call takes the miss path
+        nonRetaining = new CachingJwtDecoder(nimbus, 10_000, Duration.ZERO, null);
+        caching.decode(token);
+    }
+
+    @Benchmark
+    public Jwt nimbus() {
+        return nimbus.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedHit() {
+        return caching.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedMiss() {
+        return nonRetaining.decode(token);
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----";
+    }
+}
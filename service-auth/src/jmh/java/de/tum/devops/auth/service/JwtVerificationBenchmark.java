@@ -0,0 +1,73 @@
+package de.tum.devops.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying an access token. Run with {@code gradle :service-auth:jmh}.
+ * <ul>
+ *     <li>{@code legacyParserPerCall}: the previous behaviour, a new parser per call and one RSA
+ *     verification for each of userId, email and role</li>
+ *     <li>{@code sharedParserPerClaim}: shared parser, still three verifications</li>
+ *     <li>{@code sharedParserParseOnce}: shared parser, one verification via {@link JwtService#parse}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private JwtService jwtService;
+    private PublicKey publicKey;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        jwtService = new JwtService(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()),
+                pem("PUBLIC KEY", keyPair.getPublic().getEncoded()), TimeUnit.HOURS.toMillis(1));
+        publicKey = keyPair.getPublic();
+        token = jwtService.generateAccessToken("alice@example.com", UUID.randomUUID(), "HR", "Alice");
+    }
+
+    @Benchmark
+    public void legacyParserPerCall(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parser()
+                    .verifyWith(publicKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            blackhole.consume(claims.getSubject());
+        }
+    }
+
+    @Benchmark
+    public void sharedParserPerClaim(Blackhole blackhole) {
+        blackhole.consume(jwtService.extractUserId(token));
+        blackhole.consume(jwtService.extractEmail(token));
+        blackhole.consume(jwtService.extractRole(token));
+    }
+
+    @Benchmark
+    public JwtService.ParsedToken sharedParserParseOnce() {
+        return jwtService.parse(token);
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----";
+    }
+}
@@ -131,7 +131,7 @@ public class AuthController {
         }
 
         try {
-            String role = jwtService.extractRole(token);
+            String role = jwtService.parse(token).role();
             if ("HR".equals(role)) {
                 return ResponseEntity.ok().build();
             } else {
@@ -0,0 +1,79 @@
+package de.tum.devops.auth.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link JwtService} with a freshly generated RSA key pair.
+ */
+class JwtServiceUTest {
+
+    private static String privateKeyPem;
+    private static String publicKeyPem;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        privateKeyPem = pem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        publicKeyPem = pem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+    }
+
+    @Test
+    void parseReturnsAllClaims() {
+        JwtService jwtService = new JwtService(privateKeyPem, publicKeyPem, 60_000);
+        UUID userId = UUID.randomUUID();
+
+        String token = jwtService.generateAccessToken("alice@example.com", userId, "HR", "Alice");
+        JwtService.ParsedToken parsed = jwtService.parse(token);
+
+        assertEquals(userId, parsed.userId());
+        assertEquals("alice@example.com", parsed.email());
+        assertEquals("HR", parsed.role());
+        assertEquals("Alice", parsed.fullName());
+        assertTrue(parsed.expiresAt().isAfter(parsed.issuedAt()));
+        assertFalse(jwtService.isTokenExpired(token));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        JwtService jwtService = new JwtService(privateKeyPem, publicKeyPem, 60_000);
+        String token = jwtService.generateAccessToken("alice@example.com", UUID.randomUUID(), "CANDIDATE", "Alice");
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1])).replace("CANDIDATE", "HR").getBytes());
+
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> jwtService.parse(forged));
+        assertEquals("Invalid JWT signature", e.getMessage());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtService jwtService = new JwtService(privateKeyPem, publicKeyPem, -1_000);
+        String token = jwtService.generateAccessToken("alice@example.com", UUID.randomUUID(), "HR", "Alice");
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.extractRole(token));
+        assertTrue(jwtService.isTokenExpired(token));
+    }
+
+    @Test
+    void invalidKeysFailAtConstruction() {
+        assertThrows(IllegalStateException.class, () -> new JwtService("not a key", publicKeyPem, 60_000));
+    }
+
+    static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----";
+    }
+}
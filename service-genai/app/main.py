@@ -41,6 +41,27 @@ if BASE_DIR not in sys.path:
 REQUEST_COUNTER = Counter("ai_requests_total", "Total number of requests received by method", ["method"], )
 
 
+def interview_messages(request) -> list:
+    """LLM messages of an interview from a ChatReplyRequest or an InterviewSessionStart."""
+    messages = [
+        SystemMessage(content=f"You are a experienced expert in {request.job_title}. You are generate a series of questions for a {request.job_title} position. "
+                              f"When you generate a question, you can also consider the candidate's resume, because it can help to check the authenticity of the resume. "
+                              f"The job description is: {request.job_description} and the job requirements are: {request.job_requirements}. "
+                              f"The resume is: {request.resume_text}. "
+                              f"You only need to ask the candidate a series of questions and refuse the candidate's question regardless of the content. "),
+    ]
+    if len(request.chat_history) == 0:
+        logger.info("empty chat history, generate first question")
+        messages.append(HumanMessage(content="Please generate first question starting with hello message."))
+    else:
+        for msg in request.chat_history:
+            if msg.sender == ai_pb2.ChatMessage.Sender.SENDER_CANDIDATE:
+                messages.append(HumanMessage(content=msg.content))
+            else:
+                messages.append(AIMessage(content=msg.content))
+    return messages
+
+
 class AIService(ai_pb2_grpc.AIServiceServicer):
     """gRPC service implementation with dummy responses."""
 
@@ -48,26 +69,35 @@ class AIService(ai_pb2_grpc.AIServiceServicer):
         REQUEST_COUNTER.labels("ChatReply").inc()
         logger.info("ChatReply, request:", request)
         # Stream response from LLM
-
-        messages = [
-            SystemMessage(content=f"You are a experienced expert in {request.job_title}. You are generate a series of questions for a {request.job_title} position. "
-                                  f"When you generate a question, you can also consider the candidate's resume, because it can help to check the authenticity of the resume. "
-                                  f"The job description is: {request.job_description} and the job requirements are: {request.job_requirements}. "
-                                  f"The resume is: {request.resume_text}. "
-                                  f"You only need to ask the candidate a series of questions and refuse the candidate's question regardless of the content. "),
-        ]
-        if len(request.chat_history) == 0:
-            logger.info("empty chat history, generate first question")
-            messages.append(HumanMessage(content="Please generate first question starting with hello message."))
-        else:
-            for msg in request.chat_history:
-                if msg.sender == ai_pb2.ChatMessage.Sender.SENDER_CANDIDATE:
-                    messages.append(HumanMessage(content=msg.content))
-                else:
-                    messages.append(AIMessage(content=msg.content))
+        messages = interview_messages(request)
         for chunk_content in stream_chat(messages):
             yield ai_pb2.ChatReplyResponse(ai_message=chunk_content)
 
+    def InterviewSession(self, request_iterator, context):  # type: ignore
+        """Keeps the interview's messages for the lifetime of the stream, so every turn only carries the new candidate
+        message. Yielding a token blocks while the client's flow-control window is full."""
+        REQUEST_COUNTER.labels("InterviewSession").inc()
+        messages = None
+        for request in request_iterator:
+            if request.HasField("start"):
+                logger.info(f"InterviewSession started for session {request.start.session_id}")
+                messages = interview_messages(request.start)
+                history = request.start.chat_history
+                if len(history) > 0 and history[-1].sender != ai_pb2.ChatMessage.Sender.SENDER_CANDIDATE:
+                    continue  # waiting for the candidate's next message
+            elif messages is None:
+                context.abort(grpc.StatusCode.FAILED_PRECONDITION, "The first message of an interview session must start it")
+            else:
+                REQUEST_COUNTER.labels("InterviewSessionTurn").inc()
+                messages.append(HumanMessage(content=request.turn.content))
+
+            reply = []
+            for chunk_content in stream_chat(messages):
+                reply.append(chunk_content)
+                yield ai_pb2.InterviewSessionResponse(ai_message=chunk_content)
+            messages.append(AIMessage(content="".join(reply)))
+            yield ai_pb2.InterviewSessionResponse(turn_complete=True)
+
     def NormalQA(self, request: ai_pb2.NormalQARequest, context):  # type: ignore
         REQUEST_COUNTER.labels("QA").inc()
         logger.info("NormalQA, request:", request)
@@ -97,7 +127,9 @@ def serve() -> None:
     logger.info("Prometheus metrics available at http://localhost:8000/")
 
     # Start gRPC server
-    server = grpc.server(futures.ThreadPoolExecutor(max_workers=10))
+    # Every open InterviewSession stream occupies a worker; service-application caps them per instance
+    # (GENAI_INTERVIEW_SESSION_MAX_STREAMS) and closes idle ones, so size this above the sum of those caps
+    server = grpc.server(futures.ThreadPoolExecutor(max_workers=int(os.getenv("GRPC_MAX_WORKERS", "32"))))
     ai_pb2_grpc.add_AIServiceServicer_to_server(AIService(), server)
     server.add_insecure_port("[::]:8079")
     server.start()
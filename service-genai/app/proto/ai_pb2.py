@@ -24,7 +24,7 @@ _sym_db = _symbol_database.Default()
 
 
 
-DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x08\x61i.proto\x12\x02\x61i\"\x8d\x01\n\x0b\x43hatMessage\x12&\n\x06sender\x18\x01 \x01(\x0e\x32\x16.ai.ChatMessage.Sender\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\"E\n\x06Sender\x12\x16\n\x12SENDER_UNSPECIFIED\x10\x00\x12\r\n\tSENDER_AI\x10\x01\x12\x14\n\x10SENDER_CANDIDATE\x10\x02\"\x94\x01\n\x10\x43hatReplyRequest\x12\x13\n\x0bresume_text\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12\x18\n\x10job_requirements\x18\x04 \x01(\t\x12%\n\x0c\x63hat_history\x18\x05 \x03(\x0b\x32\x0f.ai.ChatMessage\"\'\n\x11\x43hatReplyResponse\x12\x12\n\nai_message\x18\x01 \x01(\t\"8\n\x0fNormalQARequest\x12\x10\n\x08question\x18\x01 \x01(\t\x12\x13\n\x0bis_open_rag\x18\x02 \x01(\x08\"o\n\x12ScoreResumeRequest\x12\x11\n\tjob_title\x18\x01 \x01(\t\x12\x17\n\x0fjob_description\x18\x02 \x01(\t\x12\x18\n\x10job_requirements\x18\x03 \x01(\t\x12\x13\n\x0bresume_text\x18\x04 \x01(\t\"l\n\x13ScoreResumeResponse\x12\x14\n\x0cresume_score\x18\x01 \x01(\x01\x12\x0f\n\x07\x63omment\x18\x02 \x01(\t\x12.\n\x0erecommendation\x18\x03 \x01(\x0e\x32\x16.ai.RecommendationEnum\"\x84\x01\n\x15ScoreInterviewRequest\x12\x11\n\tjob_title\x18\x01 \x01(\t\x12\x17\n\x0fjob_description\x18\x02 \x01(\t\x12\x18\n\x10job_requirements\x18\x03 \x01(\t\x12%\n\x0c\x63hat_history\x18\x04 \x03(\x0b\x32\x0f.ai.ChatMessage\"r\n\x16ScoreInterviewResponse\x12\x17\n\x0finterview_score\x18\x01 \x01(\x01\x12\x0f\n\x07\x63omment\x18\x02 \x01(\t\x12.\n\x0erecommendation\x18\x03 \x01(\x0e\x32\x16.ai.RecommendationEnum*D\n\x12RecommendationEnum\x12\r\n\tRECOMMEND\x10\x00\x12\x0c\n\x08\x43ONSIDER\x10\x01\x12\x11\n\rNOT_RECOMMEND\x10\x02\x32\x8a\x02\n\tAIService\x12:\n\tChatReply\x12\x14.ai.ChatReplyRequest\x1a\x15.ai.ChatReplyResponse0\x01\x12\x38\n\x08NormalQA\x12\x13.ai.NormalQARequest\x1a\x15.ai.ChatReplyResponse0\x01\x12>\n\x0bScoreResume\x12\x16.ai.ScoreResumeRequest\x1a\x17.ai.ScoreResumeResponse\x12G\n\x0eScoreInterview\x12\x19.ai.ScoreInterviewRequest\x1a\x1a.ai.ScoreInterviewResponseB)\n\x15\x64\x65.tum.devops.grpc.aiB\x0e\x41IServiceProtoP\x01\x62\x06proto3')
+DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x08\x61i.proto\x12\x02\x61i\"\x8d\x01\n\x0b\x43hatMessage\x12&\n\x06sender\x18\x01 \x01(\x0e\x32\x16.ai.ChatMessage.Sender\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\"E\n\x06Sender\x12\x16\n\x12SENDER_UNSPECIFIED\x10\x00\x12\r\n\tSENDER_AI\x10\x01\x12\x14\n\x10SENDER_CANDIDATE\x10\x02\"\x94\x01\n\x10\x43hatReplyRequest\x12\x13\n\x0bresume_text\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12\x18\n\x10job_requirements\x18\x04 \x01(\t\x12%\n\x0c\x63hat_history\x18\x05 \x03(\x0b\x32\x0f.ai.ChatMessage\"\'\n\x11\x43hatReplyResponse\x12\x12\n\nai_message\x18\x01 \x01(\t\"\xad\x01\n\x15InterviewSessionStart\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x13\n\x0bresume_text\x18\x02 \x01(\t\x12\x11\n\tjob_title\x18\x03 \x01(\t\x12\x17\n\x0fjob_description\x18\x04 \x01(\t\x12\x18\n\x10job_requirements\x18\x05 \x01(\t\x12%\n\x0c\x63hat_history\x18\x06 \x03(\x0b\x32\x0f.ai.ChatMessage\"q\n\x17InterviewSessionRequest\x12*\n\x05start\x18\x01 \x01(\x0b\x32\x19.ai.InterviewSessionStartH\x00\x12\x1f\n\x04turn\x18\x02 \x01(\x0b\x32\x0f.ai.ChatMessageH\x00\x42\t\n\x07payload\"E\n\x18InterviewSessionResponse\x12\x12\n\nai_message\x18\x01 \x01(\t\x12\x15\n\rturn_complete\x18\x02 \x01(\x08\"8\n\x0fNormalQARequest\x12\x10\n\x08question\x18\x01 \x01(\t\x12\x13\n\x0bis_open_rag\x18\x02 \x01(\x08\"o\n\x12ScoreResumeRequest\x12\x11\n\tjob_title\x18\x01 \x01(\t\x12\x17\n\x0fjob_description\x18\x02 \x01(\t\x12\x18\n\x10job_requirements\x18\x03 \x01(\t\x12\x13\n\x0bresume_text\x18\x04 \x01(\t\"l\n\x13ScoreResumeResponse\x12\x14\n\x0cresume_score\x18\x01 \x01(\x01\x12\x0f\n\x07\x63omment\x18\x02 \x01(\t\x12.\n\x0erecommendation\x18\x03 \x01(\x0e\x32\x16.ai.RecommendationEnum\"\x84\x01\n\x15ScoreInterviewRequest\x12\x11\n\tjob_title\x18\x01 \x01(\t\x12\x17\n\x0fjob_description\x18\x02 \x01(\t\x12\x18\n\x10job_requirements\x18\x03 \x01(\t\x12%\n\x0c\x63hat_history\x18\x04 \x03(\x0b\x32\x0f.ai.ChatMessage\"r\n\x16ScoreInterviewResponse\x12\x17\n\x0finterview_score\x18\x01 \x01(\x01\x12\x0f\n\x07\x63omment\x18\x02 \x01(\t\x12.\n\x0erecommendation\x18\x03 \x01(\x0e\x32\x16.ai.RecommendationEnum*D\n\x12RecommendationEnum\x12\r\n\tRECOMMEND\x10\x00\x12\x0c\n\x08\x43ONSIDER\x10\x01\x12\x11\n\rNOT_RECOMMEND\x10\x02\x32\xdd\x02\n\tAIService\x12:\n\tChatReply\x12\x14.ai.ChatReplyRequest\x1a\x15.ai.ChatReplyResponse0\x01\x12Q\n\x10InterviewSession\x12\x1b.ai.InterviewSessionRequest\x1a\x1c.ai.InterviewSessionResponse(\x01\x30\x01\x12\x38\n\x08NormalQA\x12\x13.ai.NormalQARequest\x1a\x15.ai.ChatReplyResponse0\x01\x12>\n\x0bScoreResume\x12\x16.ai.ScoreResumeRequest\x1a\x17.ai.ScoreResumeResponse\x12G\n\x0eScoreInterview\x12\x19.ai.ScoreInterviewRequest\x1a\x1a.ai.ScoreInterviewResponseB)\n\x15\x64\x65.tum.devops.grpc.aiB\x0e\x41IServiceProtoP\x01\x62\x06proto3')
 
 _globals = globals()
 _builder.BuildMessageAndEnumDescriptors(DESCRIPTOR, _globals)
@@ -32,8 +32,8 @@ _builder.BuildTopDescriptorsAndMessages(DESCRIPTOR, 'ai_pb2', _globals)
 if not _descriptor._USE_C_DESCRIPTORS:
   _globals['DESCRIPTOR']._loaded_options = None
   _globals['DESCRIPTOR']._serialized_options = b'\n\025de.tum.devops.grpc.aiB\016AIServiceProtoP\001'
-  _globals['_RECOMMENDATIONENUM']._serialized_start=884
-  _globals['_RECOMMENDATIONENUM']._serialized_end=952
+  _globals['_RECOMMENDATIONENUM']._serialized_start=1246
+  _globals['_RECOMMENDATIONENUM']._serialized_end=1314
   _globals['_CHATMESSAGE']._serialized_start=17
   _globals['_CHATMESSAGE']._serialized_end=158
   _globals['_CHATMESSAGE_SENDER']._serialized_start=89
@@ -42,16 +42,22 @@ if not _descriptor._USE_C_DESCRIPTORS:
   _globals['_CHATREPLYREQUEST']._serialized_end=309
   _globals['_CHATREPLYRESPONSE']._serialized_start=311
   _globals['_CHATREPLYRESPONSE']._serialized_end=350
-  _globals['_NORMALQAREQUEST']._serialized_start=352
-  _globals['_NORMALQAREQUEST']._serialized_end=408
-  _globals['_SCORERESUMEREQUEST']._serialized_start=410
-  _globals['_SCORERESUMEREQUEST']._serialized_end=521
-  _globals['_SCORERESUMERESPONSE']._serialized_start=523
-  _globals['_SCORERESUMERESPONSE']._serialized_end=631
-  _globals['_SCOREINTERVIEWREQUEST']._serialized_start=634
-  _globals['_SCOREINTERVIEWREQUEST']._serialized_end=766
-  _globals['_SCOREINTERVIEWRESPONSE']._serialized_start=768
-  _globals['_SCOREINTERVIEWRESPONSE']._serialized_end=882
-  _globals['_AISERVICE']._serialized_start=955
-  _globals['_AISERVICE']._serialized_end=1221
+  _globals['_INTERVIEWSESSIONSTART']._serialized_start=353
+  _globals['_INTERVIEWSESSIONSTART']._serialized_end=526
+  _globals['_INTERVIEWSESSIONREQUEST']._serialized_start=528
+  _globals['_INTERVIEWSESSIONREQUEST']._serialized_end=641
+  _globals['_INTERVIEWSESSIONRESPONSE']._serialized_start=643
+  _globals['_INTERVIEWSESSIONRESPONSE']._serialized_end=712
+  _globals['_NORMALQAREQUEST']._serialized_start=714
+  _globals['_NORMALQAREQUEST']._serialized_end=770
+  _globals['_SCORERESUMEREQUEST']._serialized_start=772
+  _globals['_SCORERESUMEREQUEST']._serialized_end=883
+  _globals['_SCORERESUMERESPONSE']._serialized_start=885
+  _globals['_SCORERESUMERESPONSE']._serialized_end=993
+  _globals['_SCOREINTERVIEWREQUEST']._serialized_start=996
+  _globals['_SCOREINTERVIEWREQUEST']._serialized_end=1128
+  _globals['_SCOREINTERVIEWRESPONSE']._serialized_start=1130
+  _globals['_SCOREINTERVIEWRESPONSE']._serialized_end=1244
+  _globals['_AISERVICE']._serialized_start=1317
+  _globals['_AISERVICE']._serialized_end=1666
 # @@protoc_insertion_point(module_scope)
@@ -40,6 +40,11 @@ class AIServiceStub(object):
                 request_serializer=ai__pb2.ChatReplyRequest.SerializeToString,
                 response_deserializer=ai__pb2.ChatReplyResponse.FromString,
                 _registered_method=True)
+        self.InterviewSession = channel.stream_stream(
+                '/ai.AIService/InterviewSession',
+                request_serializer=ai__pb2.InterviewSessionRequest.SerializeToString,
+                response_deserializer=ai__pb2.InterviewSessionResponse.FromString,
+                _registered_method=True)
         self.NormalQA = channel.unary_stream(
                 '/ai.AIService/NormalQA',
                 request_serializer=ai__pb2.NormalQARequest.SerializeToString,
@@ -68,6 +73,15 @@ class AIServiceServicer(object):
         context.set_details('Method not implemented!')
         raise NotImplementedError('Method not implemented!')
 
+    def InterviewSession(self, request_iterator, context):
+        """Interview session that stays open across turns. The client sends the context once and then only new
+        candidate turns; the server streams the tokens of each AI message and ends it with turn_complete. The
+        server answers right after start when chat_history is empty or ends with a candidate message.
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
     def NormalQA(self, request, context):
         """Streamed chat with AI, normal QA
         """
@@ -97,6 +111,11 @@ def add_AIServiceServicer_to_server(servicer, server):
                     request_deserializer=ai__pb2.ChatReplyRequest.FromString,
                     response_serializer=ai__pb2.ChatReplyResponse.SerializeToString,
             ),
+            'InterviewSession': grpc.stream_stream_rpc_method_handler(
+                    servicer.InterviewSession,
+                    request_deserializer=ai__pb2.InterviewSessionRequest.FromString,
+                    response_serializer=ai__pb2.InterviewSessionResponse.SerializeToString,
+            ),
             'NormalQA': grpc.unary_stream_rpc_method_handler(
                     servicer.NormalQA,
                     request_deserializer=ai__pb2.NormalQARequest.FromString,
@@ -151,6 +170,33 @@ class AIService(object):
             metadata,
             _registered_method=True)
 
+    @staticmethod
+    def InterviewSession(request_iterator,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.stream_stream(
+            request_iterator,
+            target,
+            '/ai.AIService/InterviewSession',
+            ai__pb2.InterviewSessionRequest.SerializeToString,
+            ai__pb2.InterviewSessionResponse.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
     @staticmethod
     def NormalQA(request,
             target,
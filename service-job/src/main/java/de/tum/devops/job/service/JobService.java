@@ -10,18 +10,23 @@ import de.tum.devops.job.persistence.enums.JobStatus;
 import de.tum.devops.job.persistence.repository.JobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * Service layer for job management operations
+ * Service layer for job management operations.
+ * <p>
+ * DTO conversion calls the auth service, so it runs after the database work has committed rather than
+ * inside the transaction, which would keep a pooled connection idle for the HTTP round-trip.
  */
 @Service
 public class JobService {
@@ -30,36 +35,39 @@ public class JobService {
 
     private final JobRepository jobRepository;
     private final AuthWebClient authWebClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
-    public JobService(JobRepository jobRepository, AuthWebClient authWebClient) {
+    public JobService(JobRepository jobRepository, AuthWebClient authWebClient, TransactionTemplate transactionTemplate,
+                      @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate) {
         this.jobRepository = jobRepository;
         this.authWebClient = authWebClient;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
     }
 
     /**
      * Get paginated job list with filtering based on user role
      */
-    @Transactional(readOnly = true)
     public Page<JobDto> getJobs(int page, int size, JobStatus status, String userRole) {
         logger.info("Getting jobs - page: {}, size: {}, status: {}, userRole: {}", page, size, status, userRole);
 
         Pageable pageable = PageRequest.of(page, size, Sort.Direction.DESC, "createdAt");
-        Page<Job> jobPage;
 
         // Role-based filtering
-        if ("HR".equals(userRole)) {
-            // HR can see all jobs
-            if (status != null) {
-                // Filter by specific status
-                jobPage = jobRepository.findByStatus(status, pageable);
-            } else {
-                jobPage = jobRepository.findAll(pageable);
+        Page<Job> jobPage = readOnlyTransactionTemplate.execute(tx -> {
+            if ("HR".equals(userRole)) {
+                // HR can see all jobs
+                if (status != null) {
+                    // Filter by specific status
+                    return jobRepository.findByStatus(status, pageable);
+                }
+                return jobRepository.findAll(pageable);
             }
-        } else {
             // Candidates can only see OPEN jobs
             JobStatus[] candidateVisibleStatuses = {JobStatus.OPEN};
-            jobPage = jobRepository.findByStatusIn(candidateVisibleStatuses, pageable);
-        }
+            return jobRepository.findByStatusIn(candidateVisibleStatuses, pageable);
+        });
 
         Page<JobDto> jobDtoPage = jobPage.map(this::convertToDto);
         if (!"HR".equals(userRole)) {
@@ -72,7 +80,6 @@ public class JobService {
     /**
      * Create new job (HR only)
      */
-    @Transactional
     public JobDto createJob(CreateJobRequest request, UUID hrCreatorId) {
         logger.info("Creating job: {} by HR: {}", request.getTitle(), hrCreatorId);
 
@@ -93,11 +100,10 @@ public class JobService {
     /**
      * Get job details by ID
      */
-    @Transactional(readOnly = true)
     public JobDto getJobById(UUID jobId, String userRole, boolean internal) {
         logger.info("Getting job details: {} for user role: {}", jobId, userRole);
 
-        Job job = jobRepository.findById(jobId)
+        Job job = readOnlyTransactionTemplate.execute(tx -> jobRepository.findById(jobId))
                 .orElseThrow(() -> new IllegalArgumentException("Job not found"));
 
         // Role-based access control
@@ -115,29 +121,30 @@ public class JobService {
     /**
      * Update job (HR only)
      */
-    @Transactional
     public JobDto updateJob(UUID jobId, UpdateJobRequest request, UUID hrUserId) {
         logger.info("Updating job: {} by HR: {}", jobId, hrUserId);
 
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        Job job = transactionTemplate.execute(status -> {
+            Job existing = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Job not found"));
 
-        // Update fields if provided
-        if (request.getTitle() != null) {
-            job.setTitle(request.getTitle());
-        }
-        if (request.getDescription() != null) {
-            job.setDescription(request.getDescription());
-        }
-        if (request.getRequirements() != null) {
-            job.setRequirements(request.getRequirements());
-        }
-        if (request.getStatus() != null) {
-            job.setStatus(request.getStatus());
-        }
+            // Update fields if provided
+            if (request.getTitle() != null) {
+                existing.setTitle(request.getTitle());
+            }
+            if (request.getDescription() != null) {
+                existing.setDescription(request.getDescription());
+            }
+            if (request.getRequirements() != null) {
+                existing.setRequirements(request.getRequirements());
+            }
+            if (request.getStatus() != null) {
+                existing.setStatus(request.getStatus());
+            }
 
-        job.setUpdatedAt(LocalDateTime.now());
-        job = jobRepository.save(job);
+            existing.setUpdatedAt(LocalDateTime.now());
+            return jobRepository.save(existing);
+        });
 
         logger.info("Job updated successfully: {}", jobId);
         return convertToDto(job);
@@ -146,20 +153,21 @@ public class JobService {
     /**
      * Close job (HR only)
      */
-    @Transactional
     public JobDto closeJob(UUID jobId, UUID hrUserId) {
         logger.info("Closing job: {} by HR: {}", jobId, hrUserId);
 
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        Job job = transactionTemplate.execute(status -> {
+            Job existing = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Job not found"));
 
-        if (job.getStatus() == JobStatus.CLOSED) {
-            throw new IllegalArgumentException("Job is already closed");
-        }
+            if (existing.getStatus() == JobStatus.CLOSED) {
+                throw new IllegalArgumentException("Job is already closed");
+            }
 
-        job.setStatus(JobStatus.CLOSED);
-        job.setUpdatedAt(LocalDateTime.now());
-        job = jobRepository.save(job);
+            existing.setStatus(JobStatus.CLOSED);
+            existing.setUpdatedAt(LocalDateTime.now());
+            return jobRepository.save(existing);
+        });
 
         logger.info("Job closed successfully: {}", jobId);
         return convertToDto(job);
@@ -168,20 +176,21 @@ public class JobService {
     /**
      * Re-open job (HR only)
      */
-    @Transactional
     public JobDto reopenJob(UUID jobId, UUID hrUserId) {
         logger.info("Re-opening job: {} by HR: {}", jobId, hrUserId);
 
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        Job job = transactionTemplate.execute(status -> {
+            Job existing = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Job not found"));
 
-        if (job.getStatus() == JobStatus.OPEN) {
-            throw new IllegalArgumentException("Job is already open");
-        }
+            if (existing.getStatus() == JobStatus.OPEN) {
+                throw new IllegalArgumentException("Job is already open");
+            }
 
-        job.setStatus(JobStatus.OPEN);
-        job.setUpdatedAt(LocalDateTime.now());
-        job = jobRepository.save(job);
+            existing.setStatus(JobStatus.OPEN);
+            existing.setUpdatedAt(LocalDateTime.now());
+            return jobRepository.save(existing);
+        });
 
         logger.info("Job reopened successfully: {}", jobId);
         return convertToDto(job);
@@ -9,6 +9,8 @@ import de.tum.devops.job.persistence.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -35,7 +37,9 @@ class JobServiceUTest {
     void setUp() {
         jobRepository = Mockito.mock(JobRepository.class);
         authWebClient = Mockito.mock(AuthWebClient.class);
-        jobService = new JobService(jobRepository, authWebClient);
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        jobService = new JobService(jobRepository, authWebClient,
+                new TransactionTemplate(transactionManager), new TransactionTemplate(transactionManager));
 
         hrId = UUID.randomUUID();
         job = new Job();